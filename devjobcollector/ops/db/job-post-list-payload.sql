@@ -0,0 +1,48 @@
+-- DJC job post list payload measurement (read-only)
+-- Run once against a snapshot at Flyway V6 (Before) and once after V7 (After).
+-- Measures the bytes MySQL sends for the first 20-row page of the default list query.
+
+SELECT 'database' AS metric, DATABASE() AS value;
+
+SELECT MAX(version) AS flyway_version FROM flyway_schema_history WHERE success = 1;
+
+SELECT 'active_job_posts' AS metric, COUNT(*) AS value FROM job_posts WHERE is_active = TRUE;
+
+-- Row payload estimate per 20-row page: summary columns vs description bodies.
+SELECT 'summary_bytes_per_page' AS metric,
+       SUM(COALESCE(LENGTH(company_name), 0) + COALESCE(LENGTH(title), 0) + COALESCE(LENGTH(job_category), 0)
+           + COALESCE(LENGTH(experience), 0) + COALESCE(LENGTH(location), 0) + COALESCE(LENGTH(hire_type), 0)
+           + COALESCE(LENGTH(original_url), 0) + COALESCE(LENGTH(original_sn), 0)) AS value
+FROM (
+    SELECT *
+    FROM job_posts
+    WHERE is_active = TRUE AND end_date >= CURDATE()
+    ORDER BY end_date, created_at DESC, id DESC
+    LIMIT 20
+) page;
+
+-- Before (V6) only: bodies that the list query used to read and discard.
+-- SELECT 'body_bytes_per_page' AS metric,
+--        SUM(COALESCE(LENGTH(apply_qual), 0) + COALESCE(LENGTH(process_info), 0)) AS value
+-- FROM (
+--     SELECT apply_qual, process_info
+--     FROM job_posts
+--     WHERE is_active = TRUE AND end_date >= CURDATE()
+--     ORDER BY end_date, created_at DESC, id DESC
+--     LIMIT 20
+-- ) page;
+
+-- After (V7): bodies are read only by the detail endpoint.
+SELECT 'detail_body_bytes_avg' AS metric,
+       AVG(COALESCE(LENGTH(apply_qual), 0) + COALESCE(LENGTH(process_info), 0)) AS value
+FROM job_post_detail;
+
+-- Actual wire bytes: Bytes_sent delta around the entity-shaped list query (SELECT jp.*).
+-- Drop the result set in the client (mysql --skip-column-names > /dev/null) and compare the two Bytes_sent rows.
+SHOW SESSION STATUS LIKE 'Bytes_sent';
+SELECT jp.*
+FROM job_posts jp
+WHERE jp.is_active = TRUE AND jp.end_date >= CURDATE()
+ORDER BY jp.end_date, jp.created_at DESC, jp.id DESC
+LIMIT 20;
+SHOW SESSION STATUS LIKE 'Bytes_sent';
@@ -0,0 +1,58 @@
+// DJC 공고 목록/검색 API 동시 부하 시나리오 (k6)
+// 실행 예: k6 run -e BASE_URL=http://127.0.0.1:8080 -e VUS=50 -e DURATION=3m ops/loadtest/job-search.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://127.0.0.1:8080';
+const VUS = Number(__ENV.VUS || 50);
+const DURATION = __ENV.DURATION || '3m';
+
+const keywords = ['', '백엔드', 'java', 'spring', '프론트엔드', 'react', '데이터', 'devops', '서울', '신입'];
+const locations = ['', '서울', '경기', '부산', 'remote'];
+const experiences = ['', '신입', '경력', '경력무관'];
+const categories = ['', 'backend', 'frontend', 'data-ai', 'devops-security'];
+
+export const options = {
+  scenarios: {
+    searches: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    'http_req_failed': ['rate<0.01'],
+  },
+};
+
+function pick(values) {
+  return values[Math.floor(Math.random() * values.length)];
+}
+
+function query(params) {
+  return Object.entries(params)
+    .filter(([, value]) => value !== '')
+    .map(([key, value]) => `${key}=${encodeURIComponent(value)}`)
+    .join('&');
+}
+
+export default function () {
+  const page = Math.floor(Math.random() * 5);
+  if (Math.random() < 0.3) {
+    const res = http.get(`${BASE_URL}/api/v1/jobs?${query({ page, size: 20 })}`, { tags: { name: 'list' } });
+    check(res, { 'list 200': (r) => r.status === 200 });
+    return;
+  }
+
+  const params = query({
+    keyword: pick(keywords),
+    location: pick(locations),
+    experience: pick(experiences),
+    jobCategory: pick(categories),
+    page,
+    size: 20,
+  });
+  const res = http.get(`${BASE_URL}/api/v1/jobs/search?${params}`, { tags: { name: 'search' } });
+  check(res, { 'search 200': (r) => r.status === 200 });
+}
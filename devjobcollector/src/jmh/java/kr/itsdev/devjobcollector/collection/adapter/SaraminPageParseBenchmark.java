@@ -0,0 +1,84 @@
+package kr.itsdev.devjobcollector.collection.adapter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.itsdev.devjobcollector.collection.config.SaraminCollectionProperties;
+import kr.itsdev.devjobcollector.collection.support.ContentHash;
+import kr.itsdev.devjobcollector.collection.support.RunningContentHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사람인 10페이지(페이지당 100건) 목록을 String으로 버퍼링해 읽는 방식과 InputStream에서 바로 읽는 방식을 비교한다.
+ * 본문은 ByteArrayInputStream으로 넘겨 응답 스트림을 그대로 흉내 낸다. 할당량은 -prof gc의 gc.alloc.rate.norm(B/op)으로 본다.
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=SaraminPageParseBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class SaraminPageParseBenchmark {
+
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SaraminAdapter adapter = new SaraminAdapter(new RestTemplate(), objectMapper,
+            new SaraminCollectionProperties(true, "benchmark-key", PAGE_SIZE, PAGES, null));
+    private byte[] page;
+
+    @Setup
+    public void loadFixture() throws IOException {
+        page = new ClassPathResource("fixtures/saramin-job-search-page.json").getContentAsByteArray();
+    }
+
+    /**
+     * 기존 방식: 페이지 본문을 String으로 받아 실행 전체 StringBuilder에 이어 붙이고 페이지 전체를 역직렬화한다.
+     */
+    @Benchmark
+    public String buffered(Blackhole blackhole) throws IOException {
+        StringBuilder rawResponse = new StringBuilder();
+        for (int start = 0; start < PAGES; start++) {
+            String body = new String(page, StandardCharsets.UTF_8);
+            rawResponse.append(body);
+            objectMapper.readValue(body, SaraminJobResponse.class).jobs().job().forEach(blackhole::consume);
+        }
+        return ContentHash.sha256(rawResponse.toString());
+    }
+
+    /**
+     * 현재 방식: StreamingJson.get과 같이 본문 스트림을 해시로 감싸고 readPage로 공고를 하나씩 역직렬화한다.
+     */
+    @Benchmark
+    public String streaming(Blackhole blackhole) throws IOException {
+        RunningContentHash responseHash = new RunningContentHash();
+        for (int start = 0; start < PAGES; start++) {
+            try (InputStream body = responseHash.wrap(new ByteArrayInputStream(page));
+                 JsonParser parser = objectMapper.createParser(body)) {
+                adapter.readPage(parser, null, blackhole::consume);
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+        return responseHash.finish();
+    }
+}
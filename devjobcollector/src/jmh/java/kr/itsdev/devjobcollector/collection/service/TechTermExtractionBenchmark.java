@@ -0,0 +1,107 @@
+package kr.itsdev.devjobcollector.collection.service;
+
+import kr.itsdev.devjobcollector.collection.support.TechTermAutomaton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 20KB 공고 본문에서 기술 용어를 찾는 비용을 오토마톤과 용어별 indexOf 방식으로 비교한다.
+ * 사전은 동의어 파일에 운영 규모(약 2천 건)의 tech_stacks 이름을 더해 만든다. 1회 = 본문 50건.
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=TechTermExtractionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class TechTermExtractionBenchmark {
+
+    private static final int DESCRIPTION_CHARS = 20 * 1024;
+    private static final int DESCRIPTIONS = 50;
+    private static final int DICTIONARY_NAMES = 2_000;
+
+    private TechTermAutomaton automaton;
+    private List<String> lowerTerms;
+    private List<String> descriptions;
+
+    @Setup
+    public void prepare() throws IOException {
+        Map<String, String> terms = dictionary();
+        automaton = TechTermAutomaton.build(terms);
+        lowerTerms = terms.keySet().stream().map(term -> term.toLowerCase(Locale.ROOT)).toList();
+        descriptions = descriptions(new ArrayList<>(terms.keySet()));
+    }
+
+    @Benchmark
+    public void automaton(Blackhole blackhole) {
+        for (String description : descriptions) {
+            blackhole.consume(automaton.match(description));
+        }
+    }
+
+    /**
+     * 비교 대상: 본문을 한 번 소문자로 바꾼 뒤 용어마다 indexOf로 훑는다 (용어 수 × 본문 길이).
+     */
+    @Benchmark
+    public void indexOf(Blackhole blackhole) {
+        for (String description : descriptions) {
+            String text = description.toLowerCase(Locale.ROOT);
+            for (String term : lowerTerms) {
+                blackhole.consume(text.contains(term));
+            }
+        }
+    }
+
+    private static Map<String, String> dictionary() throws IOException {
+        Map<String, String> terms;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(TechTermExtractor.SYNONYMS_RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            terms = new LinkedHashMap<>(TechTermExtractor.parseSynonyms(reader));
+        }
+        for (int i = 0; terms.size() < DICTIONARY_NAMES; i++) {
+            String name = "stack" + Integer.toString(i, 36) + "-lib";
+            terms.put(name, name);
+        }
+        return terms;
+    }
+
+    private static List<String> descriptions(List<String> terms) {
+        String[] words = {"서비스", "개발", "경험이", "있으신", "분을", "찾습니다.", "we", "build", "reliable",
+                "systems", "with", "team", "and", "운영", "설계", "scalable", "APIs", "데이터", "파이프라인"};
+        Random random = new Random(42);
+        List<String> descriptions = new ArrayList<>(DESCRIPTIONS);
+        for (int d = 0; d < DESCRIPTIONS; d++) {
+            StringBuilder description = new StringBuilder(DESCRIPTION_CHARS + 64);
+            while (description.length() < DESCRIPTION_CHARS) {
+                description.append(random.nextInt(20) == 0
+                        ? terms.get(random.nextInt(terms.size()))
+                        : words[random.nextInt(words.length)]).append(' ');
+            }
+            descriptions.add(description.substring(0, DESCRIPTION_CHARS));
+        }
+        return descriptions;
+    }
+}
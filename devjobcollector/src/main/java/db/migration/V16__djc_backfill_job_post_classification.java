@@ -0,0 +1,172 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * V15에서 추가한 분류 컬럼을 배포 시점에 채운다. 이 단계가 끝나야 직무/경력/지역 필터가 기존 공고를 빠뜨리지 않는다.
+ * 마이그레이션 결과가 코드 변경에 따라 달라지지 않도록 분류 규칙(JobRole, ExperienceLevel, Region)과 SQL을
+ * 분류 버전 2 시점 그대로 복사해 둔다. 이 파일은 고치지 않는다. 이후 규칙이 바뀌면 JobPostClassification.VERSION을
+ * 올리고, JobPostClassificationBackfill이 버전 2로 남은 행을 새 규칙으로 다시 계산한다.
+ */
+public class V16__djc_backfill_job_post_classification extends BaseJavaMigration {
+
+    static final int FROZEN_VERSION = 2;
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String SELECT_SQL = """
+            SELECT id, title, job_category, experience, location
+            FROM job_posts
+            WHERE classification_version < ? AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE job_posts
+            SET role_mask = ?, experience_level = ?, region_mask = ?, classification_version = ?
+            WHERE id = ?
+            """;
+
+    private static final List<Rule> ROLE_RULES = List.of(
+            new Rule(1, List.of("백엔드", "backend", "back-end", "server")),
+            new Rule(1 << 1, List.of("프론트엔드", "frontend", "front-end", "web frontend")),
+            new Rule(1 << 2, List.of("풀스택", "fullstack", "full-stack", "full stack")),
+            new Rule(1 << 3, List.of("모바일", "android", "ios", "flutter", "react native")),
+            new Rule(1 << 4, List.of("데이터", "data engineer", "machine learning", "머신러닝", "ai engineer", "인공지능")),
+            new Rule(1 << 5, List.of("devops", "sre", "platform engineer", "security engineer", "보안", "인프라")));
+
+    private static final List<Rule> REGION_RULES = List.of(
+            new Rule(1, List.of("서울", "seoul")),
+            new Rule(1 << 1, List.of("부산", "busan")),
+            new Rule(1 << 2, List.of("대구", "daegu")),
+            new Rule(1 << 3, List.of("인천", "incheon")),
+            new Rule(1 << 4, List.of("광주", "gwangju"), List.of("경기", "경기도", "gyeonggi", "gyeonggi-do")),
+            new Rule(1 << 5, List.of("대전", "daejeon")),
+            new Rule(1 << 6, List.of("울산", "ulsan")),
+            new Rule(1 << 7, List.of("세종시", "세종특별자치시", "sejong")),
+            new Rule(1 << 8, List.of("경기", "gyeonggi", "판교", "pangyo", "성남", "분당", "수원", "용인")),
+            new Rule(1 << 9, List.of("강원", "gangwon")),
+            new Rule(1 << 10, List.of("충북", "충청북도")),
+            new Rule(1 << 11, List.of("충남", "충청남도")),
+            new Rule(1 << 12, List.of("전북", "전라북도")),
+            new Rule(1 << 13, List.of("전남", "전라남도")),
+            new Rule(1 << 14, List.of("경북", "경상북도")),
+            new Rule(1 << 15, List.of("경남", "경상남도")),
+            new Rule(1 << 16, List.of("제주", "jeju")),
+            new Rule(1 << 17, List.of("원격", "재택", "remote")),
+            new Rule(1 << 18, List.of("해외", "overseas")));
+
+    /**
+     * chunk마다 자동 커밋해 job_posts 행 잠금을 짧게 유지한다. 중간에 실패해도 이미 채운 행은 남고,
+     * 다시 실행하면 classification_version 조건으로 남은 행부터 이어서 채운다.
+     */
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        long afterId = 0;
+        int rowCount;
+        do {
+            List<Object[]> updates = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                long id = rs.getLong("id");
+                Classification classification = classify(rs.getString("title"), rs.getString("job_category"),
+                        rs.getString("experience"), rs.getString("location"));
+                updates.add(new Object[]{classification.roleMask(), classification.experienceLevel(),
+                        classification.regionMask(), FROZEN_VERSION, id});
+                ids.add(id);
+            }, FROZEN_VERSION, afterId, CHUNK_SIZE);
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+                afterId = ids.getLast();
+            }
+            rowCount = updates.size();
+        } while (rowCount == CHUNK_SIZE);
+    }
+
+    static Classification classify(String title, String jobCategory, String experience, String location) {
+        return new Classification(roleMask(title, jobCategory), experienceLevel(experience), regionMask(location));
+    }
+
+    private static int roleMask(String... fields) {
+        int mask = 0;
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            String text = field.toLowerCase(Locale.ROOT);
+            for (Rule rule : ROLE_RULES) {
+                if (rule.keywords().stream().anyMatch(text::contains)) {
+                    mask |= rule.bit();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static String experienceLevel(String experience) {
+        if (experience == null || experience.isBlank()) {
+            return "UNKNOWN";
+        }
+        boolean entry = experience.contains("신입");
+        if (experience.contains("무관")) {
+            return entry ? "ENTRY_OR_ANY" : "ANY";
+        }
+        boolean experienced = experience.contains("경력");
+        if (entry && experienced) {
+            return "ENTRY_OR_EXPERIENCED";
+        }
+        if (entry) {
+            return "ENTRY";
+        }
+        return experienced ? "EXPERIENCED" : "UNKNOWN";
+    }
+
+    private static int regionMask(String location) {
+        if (location == null || location.isBlank()) {
+            return 0;
+        }
+        String text = location.toLowerCase(Locale.ROOT);
+        int mask = 0;
+        for (Rule rule : REGION_RULES) {
+            if (rule.keywords().stream().anyMatch(keyword -> rule.mentions(text, keyword))) {
+                mask |= rule.bit();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @param experienceLevel ExperienceLevel 상수 이름 (job_posts.experience_level 저장값)
+     */
+    record Classification(int roleMask, String experienceLevel, int regionMask) {
+    }
+
+    private record Rule(int bit, List<String> keywords, List<String> excludedPrefixes) {
+
+        Rule(int bit, List<String> keywords) {
+            this(bit, keywords, List.of());
+        }
+
+        boolean mentions(String text, String keyword) {
+            for (int at = text.indexOf(keyword); at >= 0; at = text.indexOf(keyword, at + 1)) {
+                String before = text.substring(0, at).stripTrailing();
+                if (excludedPrefixes.stream().noneMatch(before::endsWith)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
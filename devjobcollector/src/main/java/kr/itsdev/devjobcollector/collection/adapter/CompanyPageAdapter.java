@@ -6,7 +6,9 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
+import kr.itsdev.devjobcollector.collection.support.ConditionalRequests;
 import kr.itsdev.devjobcollector.collection.support.ContentHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -51,12 +53,17 @@ public class CompanyPageAdapter implements JobSourceAdapter {
             return CollectionResult.failed(CollectionStatus.FAILED, SCHEMA_VERSION);
         }
 
+        HttpValidator validator = context.validatorFor(pageUri.toString());
         try {
             RequestEntity<Void> request = RequestEntity.get(pageUri)
                     .header(HttpHeaders.USER_AGENT, properties.userAgent())
+                    .headers(headers -> ConditionalRequests.apply(headers, validator))
                     .accept(MediaType.TEXT_HTML, MediaType.APPLICATION_XHTML_XML)
                     .build();
             ResponseEntity<String> response = restTemplate.exchange(request, String.class);
+            if (validator != null && ConditionalRequests.isNotModified(response)) {
+                return CollectionResult.notModified(SCHEMA_VERSION, validator);
+            }
             String html = response.getBody();
             if (html == null || html.isBlank()) {
                 return CollectionResult.failed(CollectionStatus.SCHEMA_CHANGED, SCHEMA_VERSION);
@@ -72,7 +79,8 @@ public class CompanyPageAdapter implements JobSourceAdapter {
                     jobs.size(),
                     SCHEMA_VERSION,
                     false,
-                    ContentHash.sha256(html));
+                    ContentHash.sha256(html))
+                    .withValidator(ConditionalRequests.capture(pageUri.toString(), response));
         } catch (HttpStatusCodeException e) {
             CollectionStatus status = e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
                     ? CollectionStatus.RATE_LIMITED : CollectionStatus.FAILED;
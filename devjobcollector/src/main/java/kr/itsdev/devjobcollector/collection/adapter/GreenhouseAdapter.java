@@ -7,11 +7,15 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
+import kr.itsdev.devjobcollector.collection.support.ConditionalRequests;
 import kr.itsdev.devjobcollector.collection.support.ContentHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClientException;
@@ -19,6 +23,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.HtmlUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
@@ -44,20 +49,30 @@ public class GreenhouseAdapter implements JobSourceAdapter {
     @Override
     public CollectionResult fetchJobs(CompanySourceTarget target, CollectionContext context) {
         requireTarget(target);
-        String url = UriComponentsBuilder.fromUriString(BASE_URL)
+        URI uri = UriComponentsBuilder.fromUriString(BASE_URL)
                 .pathSegment(target.getSourceIdentifier(), "jobs")
                 .queryParam("content", true)
                 .build()
-                .toUriString();
+                .encode()
+                .toUri();
+        HttpValidator validator = context.validatorFor(uri.toString());
 
         try {
-            String rawResponse = restTemplate.getForObject(url, String.class);
+            RequestEntity<Void> request = RequestEntity.get(uri)
+                    .headers(headers -> ConditionalRequests.apply(headers, validator))
+                    .build();
+            ResponseEntity<String> httpResponse = restTemplate.exchange(request, String.class);
+            if (validator != null && ConditionalRequests.isNotModified(httpResponse)) {
+                return CollectionResult.notModified(SCHEMA_VERSION, validator);
+            }
+            String rawResponse = httpResponse.getBody();
             GreenhouseJobResponse response = objectMapper.readValue(rawResponse, GreenhouseJobResponse.class);
             List<GreenhouseJobResponse.Job> sourceJobs = response.jobs() == null ? List.of() : response.jobs();
             List<JobRawDto> jobs = sourceJobs.stream().map(this::toRawJob).toList();
             CollectionStatus status = jobs.isEmpty() ? CollectionStatus.EMPTY_SUCCESS : CollectionStatus.SUCCESS;
             return new CollectionResult(status, jobs, jobs.size(), SCHEMA_VERSION,
-                    !jobs.isEmpty(), ContentHash.sha256(rawResponse));
+                    !jobs.isEmpty(), ContentHash.sha256(rawResponse))
+                    .withValidator(ConditionalRequests.capture(uri.toString(), httpResponse));
         } catch (HttpStatusCodeException e) {
             CollectionStatus status = e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
                     ? CollectionStatus.RATE_LIMITED : CollectionStatus.FAILED;
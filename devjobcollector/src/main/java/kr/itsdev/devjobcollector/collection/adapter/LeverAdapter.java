@@ -8,17 +8,22 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
+import kr.itsdev.devjobcollector.collection.support.ConditionalRequests;
 import kr.itsdev.devjobcollector.collection.support.ContentHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.time.Instant;
 import java.util.List;
 
@@ -41,20 +46,30 @@ public class LeverAdapter implements JobSourceAdapter {
     @Override
     public CollectionResult fetchJobs(CompanySourceTarget target, CollectionContext context) {
         requireTarget(target);
-        String url = UriComponentsBuilder.fromUriString(BASE_URL)
+        URI uri = UriComponentsBuilder.fromUriString(BASE_URL)
                 .pathSegment(target.getSourceIdentifier())
                 .queryParam("mode", "json")
                 .build()
-                .toUriString();
+                .encode()
+                .toUri();
+        HttpValidator validator = context.validatorFor(uri.toString());
 
         try {
-            String rawResponse = restTemplate.getForObject(url, String.class);
+            RequestEntity<Void> request = RequestEntity.get(uri)
+                    .headers(headers -> ConditionalRequests.apply(headers, validator))
+                    .build();
+            ResponseEntity<String> httpResponse = restTemplate.exchange(request, String.class);
+            if (validator != null && ConditionalRequests.isNotModified(httpResponse)) {
+                return CollectionResult.notModified(SCHEMA_VERSION, validator);
+            }
+            String rawResponse = httpResponse.getBody();
             List<LeverPostingResponse> sourceJobs = objectMapper.readValue(
                     rawResponse, new TypeReference<List<LeverPostingResponse>>() {});
             List<JobRawDto> jobs = sourceJobs.stream().map(this::toRawJob).toList();
             CollectionStatus status = jobs.isEmpty() ? CollectionStatus.EMPTY_SUCCESS : CollectionStatus.SUCCESS;
             return new CollectionResult(status, jobs, jobs.size(), SCHEMA_VERSION,
-                    !jobs.isEmpty(), ContentHash.sha256(rawResponse));
+                    !jobs.isEmpty(), ContentHash.sha256(rawResponse))
+                    .withValidator(ConditionalRequests.capture(uri.toString(), httpResponse));
         } catch (HttpStatusCodeException e) {
             CollectionStatus status = e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
                     ? CollectionStatus.RATE_LIMITED : CollectionStatus.FAILED;
@@ -9,9 +9,13 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
+import kr.itsdev.devjobcollector.collection.support.ConditionalRequests;
 import kr.itsdev.devjobcollector.collection.support.ContentHash;
-import lombok.RequiredArgsConstructor;
+import kr.itsdev.devjobcollector.collection.support.HostRateLimiter;
+import kr.itsdev.devjobcollector.collection.support.RunningContentHash;
+import kr.itsdev.devjobcollector.collection.support.StreamingJson;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -33,15 +37,20 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class NaverCareerAdapter implements JobSourceAdapter {
 
     static final String LIST_URL = "https://recruit.navercorp.com/rcrt/loadJobList.do";
@@ -62,6 +71,15 @@ public class NaverCareerAdapter implements JobSourceAdapter {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final CompanyPageCollectionProperties properties;
+    private final HostRateLimiter detailRateLimiter;
+
+    public NaverCareerAdapter(RestTemplate restTemplate, ObjectMapper objectMapper,
+                              CompanyPageCollectionProperties properties) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.detailRateLimiter = new HostRateLimiter(properties.detailPermitsPerSecond());
+    }
 
     @Override
     public SourceType sourceType() {
@@ -78,26 +96,37 @@ public class NaverCareerAdapter implements JobSourceAdapter {
             }
             if (pages.jobs().isEmpty()) {
                 return new CollectionResult(CollectionStatus.EMPTY_SUCCESS, List.of(), 0,
-                        SCHEMA_VERSION, false, ContentHash.sha256(pages.rawResponse()));
+                        SCHEMA_VERSION, false, pages.responseHash())
+                        .withPageFingerprints(pages.pageFingerprints());
             }
 
             boolean detailFailure = false;
             boolean malformedJob = false;
-            Map<Long, JobRawDto> uniqueJobs = new LinkedHashMap<>();
+            Map<Long, NaverCareerResponse.Job> sourceJobs = new LinkedHashMap<>();
             for (NaverCareerResponse.Job sourceJob : pages.jobs()) {
                 if (!isValid(sourceJob)) {
                     malformedJob = true;
                     continue;
                 }
+                sourceJobs.putIfAbsent(sourceJob.annoId(), sourceJob);
+            }
+
+            Map<Long, DetailFetch> details = fetchDetails(sourceJobs.values(), context);
+            Map<Long, JobRawDto> uniqueJobs = new LinkedHashMap<>();
+            List<HttpValidator> validators = new ArrayList<>();
+            for (NaverCareerResponse.Job sourceJob : sourceJobs.values()) {
+                DetailFetch fetched = details.get(sourceJob.annoId());
                 DetailData detail;
-                try {
-                    detail = fetchDetail(sourceJob);
-                } catch (RestClientException e) {
+                if (fetched == null) {
                     detailFailure = true;
                     detail = DetailData.empty();
-                    log.warn("Naver career detail collection failed: annoId={}", sourceJob.annoId());
+                } else {
+                    detail = fetched.detail();
+                    if (fetched.validator() != null) {
+                        validators.add(fetched.validator());
+                    }
                 }
-                uniqueJobs.putIfAbsent(sourceJob.annoId(), toRawJob(target, sourceJob, detail));
+                uniqueJobs.put(sourceJob.annoId(), toRawJob(target, sourceJob, detail));
             }
 
             boolean completeJobSet = !malformedJob
@@ -106,7 +135,7 @@ public class NaverCareerAdapter implements JobSourceAdapter {
                     ? CollectionStatus.PARTIAL_SUCCESS : CollectionStatus.SUCCESS;
             List<JobRawDto> jobs = List.copyOf(uniqueJobs.values());
             return new CollectionResult(status, jobs, jobs.size(), SCHEMA_VERSION,
-                    completeJobSet, ContentHash.sha256(pages.rawResponse()));
+                    completeJobSet, pages.responseHash(), validators, pages.pageFingerprints());
         } catch (HttpStatusCodeException e) {
             CollectionStatus status = e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
                     ? CollectionStatus.RATE_LIMITED : CollectionStatus.FAILED;
@@ -122,27 +151,32 @@ public class NaverCareerAdapter implements JobSourceAdapter {
         }
     }
 
+    /**
+     * 목록 페이지는 본문을 String으로 받지 않고 응답 스트림에서 바로 역직렬화하며, 페이지 바이트는 누적 해시에만 반영한다.
+     */
     private ListResponse fetchAllPages() throws JsonProcessingException {
         List<NaverCareerResponse.Job> jobs = new ArrayList<>();
-        StringBuilder rawResponse = new StringBuilder();
+        RunningContentHash responseHash = new RunningContentHash();
         Integer expectedTotal = null;
         int firstIndex = 0;
 
         for (int page = 0; page < MAX_PAGES; page++) {
-            String rawPage = fetchText(URI.create(LIST_URL + "?firstIndex=" + firstIndex),
-                    MediaType.APPLICATION_JSON);
-            if (rawPage == null || rawPage.isBlank()) {
-                return new ListResponse(List.of(), 0, rawResponse.toString(), false);
+            NaverCareerResponse response = StreamingJson.get(restTemplate, objectMapper,
+                    URI.create(LIST_URL + "?firstIndex=" + firstIndex),
+                    headers -> headers.set(HttpHeaders.USER_AGENT, properties.userAgent()),
+                    responseHash,
+                    parser -> parser.nextToken() == null
+                            ? null : objectMapper.readValue(parser, NaverCareerResponse.class));
+            if (response == null) {
+                return ListResponse.of(List.of(), 0, responseHash, false);
             }
-            rawResponse.append(rawPage);
-            NaverCareerResponse response = objectMapper.readValue(rawPage, NaverCareerResponse.class);
             if (response.totalSize() == null || response.totalSize() < 0 || response.list() == null) {
-                return new ListResponse(List.of(), 0, rawResponse.toString(), false);
+                return ListResponse.of(List.of(), 0, responseHash, false);
             }
             if (expectedTotal == null) {
                 expectedTotal = response.totalSize();
             } else if (!expectedTotal.equals(response.totalSize())) {
-                return new ListResponse(List.copyOf(jobs), expectedTotal, rawResponse.toString(), false);
+                return ListResponse.of(List.copyOf(jobs), expectedTotal, responseHash, false);
             }
 
             List<NaverCareerResponse.Job> pageJobs = response.list().stream()
@@ -151,20 +185,73 @@ public class NaverCareerAdapter implements JobSourceAdapter {
             jobs.addAll(pageJobs);
             firstIndex += response.list().size();
             if (firstIndex >= expectedTotal) {
-                return new ListResponse(List.copyOf(jobs), expectedTotal, rawResponse.toString(),
+                return ListResponse.of(List.copyOf(jobs), expectedTotal, responseHash,
                         jobs.size() == expectedTotal);
             }
             if (response.list().isEmpty()) {
-                return new ListResponse(List.copyOf(jobs), expectedTotal, rawResponse.toString(), false);
+                return ListResponse.of(List.copyOf(jobs), expectedTotal, responseHash, false);
             }
         }
-        return new ListResponse(List.copyOf(jobs), expectedTotal == null ? 0 : expectedTotal,
-                rawResponse.toString(), false);
+        return ListResponse.of(List.copyOf(jobs), expectedTotal == null ? 0 : expectedTotal,
+                responseHash, false);
     }
 
-    private DetailData fetchDetail(NaverCareerResponse.Job job) {
+    private Map<Long, DetailFetch> fetchDetails(Collection<NaverCareerResponse.Job> jobs, CollectionContext context) {
+        Semaphore inFlight = new Semaphore(properties.detailMaxInFlight());
+        Map<Long, Future<DetailFetch>> pending = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (NaverCareerResponse.Job job : jobs) {
+                HttpValidator validator = context.validatorFor(detailUri(job).toString());
+                pending.put(job.annoId(), executor.submit(() -> fetchDetailGoverned(job, validator, inFlight)));
+            }
+        }
+
+        Map<Long, DetailFetch> details = new HashMap<>();
+        for (Map.Entry<Long, Future<DetailFetch>> entry : pending.entrySet()) {
+            Future<DetailFetch> future = entry.getValue();
+            if (future.state() == Future.State.SUCCESS) {
+                details.put(entry.getKey(), future.resultNow());
+                continue;
+            }
+            Throwable failure = future.state() == Future.State.FAILED ? future.exceptionNow() : null;
+            if (failure instanceof RuntimeException runtime && !(failure instanceof RestClientException)) {
+                throw runtime;
+            }
+            log.warn("Naver career detail collection failed: annoId={}", entry.getKey());
+        }
+        return details;
+    }
+
+    private DetailFetch fetchDetailGoverned(NaverCareerResponse.Job job, HttpValidator validator,
+                                            Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted while waiting for Naver career detail slot");
+        }
+        try {
+            detailRateLimiter.acquire(detailUri(job));
+            return fetchDetail(job, validator);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted while waiting for Naver career rate limit");
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * 상세 페이지는 URL별 검증자로 조건부 요청하고, 304면 지난번 파싱 결과(cachedBody)를 재사용한다.
+     */
+    private DetailFetch fetchDetail(NaverCareerResponse.Job job, HttpValidator validator) {
         URI detailUri = detailUri(job);
-        String html = fetchText(detailUri, MediaType.TEXT_HTML);
+        DetailData cached = cachedDetail(validator);
+        ResponseEntity<String> response = fetch(detailUri, MediaType.TEXT_HTML, cached == null ? null : validator);
+        if (cached != null && ConditionalRequests.isNotModified(response)) {
+            return new DetailFetch(cached, validator);
+        }
+        String html = response.getBody();
         if (html == null || html.isBlank()) {
             throw new RestClientException("Empty Naver career detail response");
         }
@@ -174,19 +261,32 @@ public class NaverCareerAdapter implements JobSourceAdapter {
                 .map(String::trim)
                 .filter(value -> !value.isBlank())
                 .collect(Collectors.joining("\n\n"));
-        return new DetailData(
+        DetailData detail = new DetailData(
                 truncate(description),
                 jsonLdLocation(document)
         );
+        HttpValidator captured = ConditionalRequests.capture(detailUri.toString(), response);
+        return new DetailFetch(detail, captured == null ? null : captured.withCachedBody(writePayload(detail)));
+    }
+
+    private DetailData cachedDetail(HttpValidator validator) {
+        if (validator == null || validator.cachedBody() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(validator.cachedBody(), DetailData.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
     }
 
-    private String fetchText(URI uri, MediaType accept) {
+    private ResponseEntity<String> fetch(URI uri, MediaType accept, HttpValidator validator) {
         RequestEntity<Void> request = RequestEntity.get(uri)
                 .header(HttpHeaders.USER_AGENT, properties.userAgent())
+                .headers(headers -> ConditionalRequests.apply(headers, validator))
                 .accept(accept)
                 .build();
-        ResponseEntity<String> response = restTemplate.exchange(request, String.class);
-        return response.getBody();
+        return restTemplate.exchange(request, String.class);
     }
 
     private JobRawDto toRawJob(CompanySourceTarget target, NaverCareerResponse.Job job,
@@ -303,17 +403,26 @@ public class NaverCareerAdapter implements JobSourceAdapter {
     private record ListResponse(
             List<NaverCareerResponse.Job> jobs,
             int totalSize,
-            String rawResponse,
+            String responseHash,
+            List<String> pageFingerprints,
             boolean complete
     ) {
+        private static ListResponse of(List<NaverCareerResponse.Job> jobs, int totalSize,
+                                       RunningContentHash responseHash, boolean complete) {
+            return new ListResponse(jobs, totalSize, responseHash.finish(), responseHash.pageFingerprints(),
+                    complete);
+        }
     }
 
-    private record DetailData(String description, String location) {
+    record DetailData(String description, String location) {
         private static DetailData empty() {
             return new DetailData(null, null);
         }
     }
 
+    private record DetailFetch(DetailData detail, HttpValidator validator) {
+    }
+
     private record RawPayload(NaverCareerResponse.Job job, DetailData detail) {
     }
 }
@@ -1,6 +1,9 @@
 package kr.itsdev.devjobcollector.collection.adapter;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.itsdev.devjobcollector.collection.config.SaraminCollectionProperties;
 import kr.itsdev.devjobcollector.collection.domain.CollectionStatus;
@@ -10,22 +13,23 @@ import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
 import kr.itsdev.devjobcollector.collection.support.ContentHash;
+import kr.itsdev.devjobcollector.collection.support.RunningContentHash;
+import kr.itsdev.devjobcollector.collection.support.StreamingJson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -52,48 +56,54 @@ public class SaraminAdapter implements JobSourceAdapter {
             return CollectionResult.failed(CollectionStatus.FAILED, SCHEMA_VERSION);
         }
 
+        Instant watermark = deltaWatermark(target, context);
         List<JobRawDto> collected = new ArrayList<>();
-        StringBuilder responsePayload = new StringBuilder();
+        RunningContentHash responseHash = new RunningContentHash();
         long fetchedCount = 0;
         long total = Long.MAX_VALUE;
         boolean completed = false;
+        int fetchedPages = 0;
 
         try {
             for (int page = 0; page < properties.maxPages(); page++) {
+                fetchedPages++;
                 URI uri = buildUri(target.getSourceIdentifier(), page);
-                RequestEntity<Void> request = RequestEntity.get(uri)
-                        .accept(MediaType.APPLICATION_JSON)
-                        .build();
-                ResponseEntity<String> httpResponse = restTemplate.exchange(request, String.class);
-                String rawResponse = httpResponse.getBody();
-                if (rawResponse == null || rawResponse.isBlank()) {
-                    throw new JsonProcessingException("Saramin returned an empty response") { };
+                // 공고는 디코딩되는 대로 변환해 페이지 버퍼에 담고, 페이지가 온전히 끝났을 때만 결과에 합친다.
+                List<JobRawDto> pageJobs = new ArrayList<>();
+                PageSummary summary = StreamingJson.get(restTemplate, objectMapper, uri, headers -> { },
+                        responseHash, parser -> readPage(parser, watermark, job -> {
+                            if (job.active() == null || job.active() == 1) {
+                                pageJobs.add(toRawJob(job));
+                            }
+                        }));
+                if (summary.errorCode() != null) {
+                    return apiFailure(summary.errorCode(), collected, responseHash);
                 }
-                responsePayload.append(rawResponse);
-
-                SaraminJobResponse response = objectMapper.readValue(rawResponse, SaraminJobResponse.class);
-                if (response.result() != null && response.result().code() != null) {
-                    return apiFailure(response.result().code(), collected, responsePayload);
+                // 전체 수집 차례에는 깊은 페이지에서 빠진 공고를 찾아야 하므로 첫 페이지가 같아도 끝까지 받는다.
+                if (page == 0 && watermark != null
+                        && firstPageUnchanged(target, context, responseHash.lastPageFingerprint())) {
+                    log.info("Saramin first page unchanged since last run: target={}",
+                            target.getSourceIdentifier());
+                    return CollectionResult.unchangedFirstPage(SCHEMA_VERSION, responseHash.lastPageFingerprint());
                 }
+                collected.addAll(pageJobs);
+                fetchedCount += summary.jobCount();
+                total = summary.total() == null ? fetchedCount : summary.total();
 
-                SaraminJobResponse.Jobs responseJobs = response.jobs();
-                if (responseJobs == null) {
-                    throw new JsonProcessingException("Saramin response does not contain jobs") { };
+                if (summary.jobCount() == 0 || summary.jobCount() < properties.pageSize() || fetchedCount >= total) {
+                    completed = true;
+                    break;
                 }
-                List<SaraminJobResponse.Job> sourceJobs = responseJobs.job() == null
-                        ? List.of() : responseJobs.job();
-                fetchedCount += sourceJobs.size();
-                total = responseJobs.total() == null ? fetchedCount : responseJobs.total();
-                sourceJobs.stream()
-                        .filter(job -> job.active() == null || job.active() == 1)
-                        .map(this::toRawJob)
-                        .forEach(collected::add);
-
-                if (sourceJobs.isEmpty() || sourceJobs.size() < properties.pageSize() || fetchedCount >= total) {
+                // sort=ud 이므로 한 페이지가 모두 워터마크 이하이면 이후 페이지도 변경이 없다.
+                if (watermark != null && summary.allNotModified()) {
                     completed = true;
                     break;
                 }
             }
+            if (watermark != null) {
+                log.info("Saramin delta collection: target={}, watermark={}, pages={}, collected={}",
+                        target.getSourceIdentifier(), watermark, fetchedPages, collected.size());
+            }
 
             CollectionStatus status;
             if (collected.isEmpty()) {
@@ -101,7 +111,8 @@ public class SaraminAdapter implements JobSourceAdapter {
             } else {
                 status = completed ? CollectionStatus.SUCCESS : CollectionStatus.PARTIAL_SUCCESS;
             }
-            return result(status, collected, completed && !collected.isEmpty(), responsePayload);
+            // 증분 수집은 전체 목록이 아니므로 마감 판정에 쓰지 않는다.
+            return result(status, collected, watermark == null && completed && !collected.isEmpty(), responseHash);
         } catch (HttpStatusCodeException e) {
             CollectionStatus failureStatus = e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
                     ? CollectionStatus.RATE_LIMITED : CollectionStatus.FAILED;
@@ -109,18 +120,111 @@ public class SaraminAdapter implements JobSourceAdapter {
                     target.getSourceIdentifier(), e.getStatusCode().value());
             return collected.isEmpty()
                     ? CollectionResult.failed(failureStatus, SCHEMA_VERSION)
-                    : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responsePayload);
+                    : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responseHash);
         } catch (JsonProcessingException e) {
             log.warn("Saramin schema changed: target={}", target.getSourceIdentifier());
             return collected.isEmpty()
                     ? CollectionResult.failed(CollectionStatus.SCHEMA_CHANGED, SCHEMA_VERSION)
-                    : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responsePayload);
+                    : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responseHash);
         } catch (RestClientException e) {
             log.warn("Saramin request failed: target={}", target.getSourceIdentifier());
             return collected.isEmpty()
                     ? CollectionResult.failed(CollectionStatus.FAILED, SCHEMA_VERSION)
-                    : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responsePayload);
+                    : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responseHash);
+        }
+    }
+
+    /**
+     * 워터마크가 있고 전체 수집 주기가 지나지 않았으면 증분 수집 기준 시각을, 아니면 null(전체 수집)을 반환한다.
+     */
+    private Instant deltaWatermark(CompanySourceTarget target, CollectionContext context) {
+        Instant watermark = target.getSourceWatermarkAt();
+        Instant lastFullSweepAt = target.getLastFullSweepAt();
+        if (watermark == null || lastFullSweepAt == null
+                || !context.requestedAt().isBefore(lastFullSweepAt.plus(properties.fullSweepInterval()))) {
+            return null;
         }
+        return watermark;
+    }
+
+    /**
+     * sort=ud 이므로 첫 페이지가 직전 정상 수집과 바이트 단위로 같으면 그 사이 등록·수정된 공고가 없다.
+     * 스키마 버전이 바뀐 뒤에는 새 파서로 다시 처리해야 하므로 비교하지 않는다.
+     * 등록·수정이 없다는 뜻일 뿐 마감(목록에서 빠짐)은 알 수 없으므로 증분 수집에서만 쓴다.
+     */
+    private static boolean firstPageUnchanged(CompanySourceTarget target, CollectionContext context,
+                                              String firstPageFingerprint) {
+        String previous = context.previousFirstPageFingerprint();
+        return previous != null
+                && previous.equals(firstPageFingerprint)
+                && SCHEMA_VERSION.equals(target.getSchemaVersion());
+    }
+
+    /**
+     * 페이지 하나를 토큰 단위로 읽는다. jobs.job 원소는 하나씩 Job으로 역직렬화해 sink로 넘기고 페이지 요약만 반환한다.
+     */
+    PageSummary readPage(JsonParser parser, Instant watermark,
+                         Consumer<SaraminJobResponse.Job> sink) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Saramin returned an empty response");
+        }
+        PageSummary summary = null;
+        String errorCode = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("jobs".equals(field) && value == JsonToken.START_OBJECT) {
+                summary = readJobs(parser, watermark, sink);
+            } else if ("result".equals(field) && value == JsonToken.START_OBJECT) {
+                errorCode = objectMapper.readValue(parser, SaraminJobResponse.Result.class).code();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (errorCode != null) {
+            return new PageSummary(0, null, false, errorCode);
+        }
+        if (summary == null) {
+            throw new JsonParseException(parser, "Saramin response does not contain jobs");
+        }
+        return summary;
+    }
+
+    private PageSummary readJobs(JsonParser parser, Instant watermark,
+                                 Consumer<SaraminJobResponse.Job> sink) throws IOException {
+        int jobCount = 0;
+        Long total = null;
+        boolean allNotModified = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("total".equals(field)) {
+                total = value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+            } else if ("job".equals(field) && (value == JsonToken.START_ARRAY || value == JsonToken.START_OBJECT)) {
+                // 공고가 1건이면 배열 대신 객체 하나로 내려온다.
+                boolean array = value == JsonToken.START_ARRAY;
+                JsonToken element = array ? parser.nextToken() : value;
+                while (element != null && element != JsonToken.END_ARRAY) {
+                    if (element == JsonToken.START_OBJECT) {
+                        SaraminJobResponse.Job job = objectMapper.readValue(parser, SaraminJobResponse.Job.class);
+                        jobCount++;
+                        allNotModified &= watermark != null && notModifiedSince(job, watermark);
+                        sink.accept(job);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    element = array ? parser.nextToken() : null;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new PageSummary(jobCount, total, allNotModified, null);
+    }
+
+    private static boolean notModifiedSince(SaraminJobResponse.Job job, Instant watermark) {
+        Instant modifiedAt = instant(job.modificationTimestamp());
+        return modifiedAt != null && !modifiedAt.isAfter(watermark);
     }
 
     private URI buildUri(String jobMidCode, int page) {
@@ -139,25 +243,25 @@ public class SaraminAdapter implements JobSourceAdapter {
     private CollectionResult apiFailure(
             String code,
             List<JobRawDto> collected,
-            StringBuilder responsePayload
+            RunningContentHash responseHash
     ) {
         CollectionStatus status = "4".equals(code)
                 ? CollectionStatus.RATE_LIMITED : CollectionStatus.FAILED;
         log.warn("Saramin API rejected collection: code={}", code);
         return collected.isEmpty()
                 ? CollectionResult.failed(status, SCHEMA_VERSION)
-                : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responsePayload);
+                : result(CollectionStatus.PARTIAL_SUCCESS, collected, false, responseHash);
     }
 
     private CollectionResult result(
             CollectionStatus status,
             List<JobRawDto> jobs,
             boolean closureEvaluationAllowed,
-            StringBuilder responsePayload
+            RunningContentHash responseHash
     ) {
-        String payload = responsePayload.toString();
         return new CollectionResult(status, jobs, jobs.size(), SCHEMA_VERSION,
-                closureEvaluationAllowed, payload.isEmpty() ? null : ContentHash.sha256(payload));
+                closureEvaluationAllowed, responseHash.isEmpty() ? null : responseHash.finish())
+                .withPageFingerprints(responseHash.pageFingerprints());
     }
 
     private JobRawDto toRawJob(SaraminJobResponse.Job job) {
@@ -211,4 +315,7 @@ public class SaraminAdapter implements JobSourceAdapter {
             throw new IllegalArgumentException("Saramin target is required");
         }
     }
+
+    record PageSummary(int jobCount, Long total, boolean allNotModified, String errorCode) {
+    }
 }
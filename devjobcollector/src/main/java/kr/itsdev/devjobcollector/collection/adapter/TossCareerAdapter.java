@@ -9,7 +9,9 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
+import kr.itsdev.devjobcollector.collection.support.ConditionalRequests;
 import kr.itsdev.devjobcollector.collection.support.ContentHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -68,12 +70,17 @@ public class TossCareerAdapter implements JobSourceAdapter {
     @Override
     public CollectionResult fetchJobs(CompanySourceTarget target, CollectionContext context) {
         requireTarget(target);
+        HttpValidator validator = context.validatorFor(JOB_GROUPS_URL);
         try {
             RequestEntity<Void> request = RequestEntity.get(URI.create(JOB_GROUPS_URL))
                     .header(HttpHeaders.USER_AGENT, properties.userAgent())
+                    .headers(headers -> ConditionalRequests.apply(headers, validator))
                     .accept(MediaType.APPLICATION_JSON)
                     .build();
             ResponseEntity<String> responseEntity = restTemplate.exchange(request, String.class);
+            if (validator != null && ConditionalRequests.isNotModified(responseEntity)) {
+                return CollectionResult.notModified(SCHEMA_VERSION, validator);
+            }
             String rawResponse = responseEntity.getBody();
             if (rawResponse == null || rawResponse.isBlank()) {
                 return CollectionResult.failed(CollectionStatus.SCHEMA_CHANGED, SCHEMA_VERSION);
@@ -91,7 +98,8 @@ public class TossCareerAdapter implements JobSourceAdapter {
             CollectionStatus status = jobs.isEmpty()
                     ? CollectionStatus.EMPTY_SUCCESS : CollectionStatus.SUCCESS;
             return new CollectionResult(status, jobs, jobs.size(), SCHEMA_VERSION,
-                    !jobs.isEmpty(), ContentHash.sha256(rawResponse));
+                    !jobs.isEmpty(), ContentHash.sha256(rawResponse))
+                    .withValidator(ConditionalRequests.capture(JOB_GROUPS_URL, responseEntity));
         } catch (HttpStatusCodeException e) {
             CollectionStatus status = e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
                     ? CollectionStatus.RATE_LIMITED : CollectionStatus.FAILED;
@@ -4,16 +4,24 @@ import kr.itsdev.devjobcollector.collection.domain.CollectionTier;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @ConfigurationProperties(prefix = "collection.ats")
 public record AtsCollectionProperties(
         boolean enabled,
         int closureMissThreshold,
+        Concurrency concurrency,
+        Lease lease,
         List<Target> targets
 ) {
     public AtsCollectionProperties {
         closureMissThreshold = closureMissThreshold < 1 ? 2 : closureMissThreshold;
+        concurrency = concurrency == null ? new Concurrency(false, 0, 0, null) : concurrency;
+        lease = lease == null ? new Lease(null, null, null, 0) : lease;
         targets = targets == null ? List.of() : List.copyOf(targets);
     }
 
@@ -26,4 +34,43 @@ public record AtsCollectionProperties(
             CollectionTier collectionTier
     ) {
     }
+
+    /**
+     * 인스턴스 간 대상 분배용 행 임대. 실행 중에는 renewInterval마다 연장하고, 인스턴스가 죽으면 duration 뒤 다른 인스턴스가 가져간다.
+     */
+    public record Lease(
+            String ownerId,
+            Duration duration,
+            Duration renewInterval,
+            int batchSize
+    ) {
+        public Lease {
+            ownerId = ownerId == null || ownerId.isBlank()
+                    ? ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                    : ownerId.trim();
+            duration = duration == null ? Duration.ofMinutes(15) : duration;
+            renewInterval = renewInterval == null || renewInterval.compareTo(duration) >= 0
+                    ? duration.dividedBy(3)
+                    : renewInterval;
+            batchSize = batchSize < 1 ? 20 : batchSize;
+        }
+    }
+
+    public record Concurrency(
+            boolean enabled,
+            int maxTargets,
+            int maxTargetsPerSource,
+            Map<SourceType, Integer> sourceLimits
+    ) {
+        public Concurrency {
+            maxTargets = maxTargets < 1 ? 4 : maxTargets;
+            maxTargetsPerSource = maxTargetsPerSource < 1 ? 1 : Math.min(maxTargetsPerSource, maxTargets);
+            sourceLimits = sourceLimits == null ? Map.of() : Map.copyOf(sourceLimits);
+        }
+
+        public int limitFor(SourceType provider) {
+            Integer limit = sourceLimits.get(provider);
+            return limit == null || limit < 1 ? maxTargetsPerSource : Math.min(limit, maxTargets);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package kr.itsdev.devjobcollector.collection.config;
+
+import kr.itsdev.devjobcollector.collection.domain.CollectionTier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "collection.schedule")
+public record CollectionScheduleProperties(
+        double smoothing,
+        Duration failureBackoff,
+        Map<CollectionTier, Bounds> tiers
+) {
+    private static final Map<CollectionTier, Bounds> DEFAULT_TIERS = Map.of(
+            CollectionTier.A, new Bounds(Duration.ofMinutes(30), Duration.ofHours(2)),
+            CollectionTier.B, new Bounds(Duration.ofHours(1), Duration.ofHours(6)),
+            CollectionTier.C, new Bounds(Duration.ofHours(2), Duration.ofHours(12)),
+            CollectionTier.D, new Bounds(Duration.ofHours(6), Duration.ofHours(24)));
+
+    public CollectionScheduleProperties {
+        smoothing = smoothing <= 0 || smoothing > 1 ? 0.3 : smoothing;
+        failureBackoff = failureBackoff == null ? Duration.ofMinutes(30) : failureBackoff;
+        Map<CollectionTier, Bounds> merged = new EnumMap<>(DEFAULT_TIERS);
+        if (tiers != null) {
+            merged.putAll(tiers);
+        }
+        tiers = Map.copyOf(merged);
+    }
+
+    public Bounds boundsFor(CollectionTier tier) {
+        return tiers.get(tier == null ? CollectionTier.B : tier);
+    }
+
+    public record Bounds(
+            Duration minInterval,
+            Duration maxInterval
+    ) {
+        public Bounds {
+            if (minInterval == null || maxInterval == null || minInterval.compareTo(maxInterval) > 0) {
+                throw new IllegalArgumentException("minInterval must not exceed maxInterval");
+            }
+        }
+    }
+}
@@ -5,12 +5,16 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "collection.company-page")
 public record CompanyPageCollectionProperties(
         String userAgent,
-        int maxDescriptionLength
+        int maxDescriptionLength,
+        double detailPermitsPerSecond,
+        int detailMaxInFlight
 ) {
     public CompanyPageCollectionProperties {
         userAgent = userAgent == null || userAgent.isBlank()
                 ? "DevJobCollector/1.0 (+https://itsdev.kr)"
                 : userAgent.trim();
         maxDescriptionLength = maxDescriptionLength < 1 ? 20_000 : maxDescriptionLength;
+        detailPermitsPerSecond = detailPermitsPerSecond <= 0 ? 5.0 : detailPermitsPerSecond;
+        detailMaxInFlight = detailMaxInFlight < 1 ? 4 : detailMaxInFlight;
     }
 }
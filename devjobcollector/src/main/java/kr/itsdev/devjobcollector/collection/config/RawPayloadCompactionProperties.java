@@ -0,0 +1,15 @@
+package kr.itsdev.devjobcollector.collection.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "collection.raw-payload.compaction")
+public record RawPayloadCompactionProperties(
+        boolean enabled,
+        int chunkSize,
+        int maxChunksPerRun
+) {
+    public RawPayloadCompactionProperties {
+        chunkSize = chunkSize < 1 ? 200 : chunkSize;
+        maxChunksPerRun = maxChunksPerRun < 1 ? 50 : maxChunksPerRun;
+    }
+}
@@ -2,16 +2,21 @@ package kr.itsdev.devjobcollector.collection.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "collection.saramin")
 public record SaraminCollectionProperties(
         boolean enabled,
         String accessKey,
         int pageSize,
-        int maxPages
+        int maxPages,
+        Duration fullSweepInterval
 ) {
     public SaraminCollectionProperties {
         accessKey = accessKey == null ? "" : accessKey.trim();
         pageSize = pageSize < 1 ? 110 : Math.min(pageSize, 110);
         maxPages = maxPages < 1 ? 10 : maxPages;
+        fullSweepInterval = fullSweepInterval == null || fullSweepInterval.isNegative()
+                ? Duration.ofHours(24) : fullSweepInterval;
     }
 }
@@ -4,6 +4,7 @@ public enum CollectionStatus {
     SUCCESS,
     PARTIAL_SUCCESS,
     EMPTY_SUCCESS,
+    NOT_MODIFIED,
     FAILED,
     SCHEMA_CHANGED,
     RATE_LIMITED
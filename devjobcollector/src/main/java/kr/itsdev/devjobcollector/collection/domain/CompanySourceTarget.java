@@ -71,6 +71,24 @@ public class CompanySourceTarget {
     @Column(name = "next_collect_at")
     private Instant nextCollectAt;
 
+    /**
+     * 소스가 보고한 공고 수정 시각 중 최댓값. 증분 수집은 이 시각 이하만 남은 페이지에서 멈춘다.
+     */
+    /**
+     * 성공한 수집 중 공고가 바뀐 비율의 지수 가중 이동 평균. 다음 수집 주기를 정하는 데 쓴다.
+     */
+    @Column(name = "change_rate")
+    private Double changeRate;
+
+    @Column(name = "source_watermark_at")
+    private Instant sourceWatermarkAt;
+
+    /**
+     * 마지막 전체 수집(마감 판정 가능) 완료 시각
+     */
+    @Column(name = "last_full_sweep_at")
+    private Instant lastFullSweepAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -140,6 +158,20 @@ public class CompanySourceTarget {
         this.updatedAt = checkedAt;
     }
 
+    public void recordChangeRate(double changeRate) {
+        this.changeRate = changeRate;
+    }
+
+    public void advanceSourceWatermark(Instant sourceUpdatedAt) {
+        if (sourceUpdatedAt != null && (sourceWatermarkAt == null || sourceUpdatedAt.isAfter(sourceWatermarkAt))) {
+            this.sourceWatermarkAt = sourceUpdatedAt;
+        }
+    }
+
+    public void recordFullSweep(Instant sweptAt) {
+        this.lastFullSweepAt = sweptAt;
+    }
+
     private static String requireIdentifier(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("sourceIdentifier is required");
@@ -16,6 +16,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.List;
 
 @Entity
 @Table(name = "crawl_run")
@@ -56,6 +57,15 @@ public class CrawlRun {
     @Column(name = "closure_evaluation_allowed", nullable = false)
     private boolean closureEvaluationAllowed;
 
+    @Column(name = "content_changed")
+    private Boolean contentChanged;
+
+    /**
+     * 목록 페이지별 SHA-256 (요청 순서, 쉼표 구분)
+     */
+    @Column(name = "page_fingerprints", columnDefinition = "TEXT")
+    private String pageFingerprints;
+
     private CrawlRun(CompanySourceTarget target, Integer previousItemCount, Instant startedAt) {
         this.target = target;
         this.previousItemCount = previousItemCount;
@@ -78,6 +88,20 @@ public class CrawlRun {
         this.closureEvaluationAllowed = requestedClosureEvaluation && isSafeItemCount(itemCount);
     }
 
+    public void recordContentChange(boolean contentChanged) {
+        this.contentChanged = contentChanged;
+    }
+
+    public void recordPageFingerprints(List<String> pageFingerprints) {
+        this.pageFingerprints = pageFingerprints == null || pageFingerprints.isEmpty()
+                ? null : String.join(",", pageFingerprints);
+    }
+
+    public List<String> pageFingerprintList() {
+        return pageFingerprints == null || pageFingerprints.isBlank()
+                ? List.of() : List.of(pageFingerprints.split(","));
+    }
+
     private boolean isSafeItemCount(int currentItemCount) {
         if (status != CollectionStatus.SUCCESS || previousItemCount == null || previousItemCount == 0) {
             return status == CollectionStatus.SUCCESS && currentItemCount > 0;
@@ -0,0 +1,59 @@
+package kr.itsdev.devjobcollector.collection.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import kr.itsdev.devjobcollector.collection.support.ContentHash;
+import kr.itsdev.devjobcollector.collection.support.PayloadCompression;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+@Entity
+@Table(name = "job_raw_payload")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobRawPayload {
+
+    @Id
+    @Column(name = "payload_hash", length = 64)
+    private String payloadHash;
+
+    @Column(nullable = false, length = 20)
+    private String encoding;
+
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Lob
+    @Column(name = "compressed_payload", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] compressedPayload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    private JobRawPayload(String payloadHash, byte[] payload, Instant createdAt) {
+        this.payloadHash = payloadHash;
+        this.encoding = PayloadCompression.DEFLATE;
+        this.originalLength = payload.length;
+        this.compressedPayload = PayloadCompression.deflate(payload);
+        this.createdAt = createdAt;
+    }
+
+    public static JobRawPayload of(String rawPayload, Instant createdAt) {
+        String value = rawPayload == null ? "" : rawPayload;
+        return new JobRawPayload(ContentHash.sha256(value), value.getBytes(StandardCharsets.UTF_8), createdAt);
+    }
+
+    public String decode() {
+        if (!PayloadCompression.DEFLATE.equals(encoding)) {
+            throw new IllegalStateException("Unsupported payload encoding: " + encoding);
+        }
+        return PayloadCompression.inflate(compressedPayload, originalLength);
+    }
+}
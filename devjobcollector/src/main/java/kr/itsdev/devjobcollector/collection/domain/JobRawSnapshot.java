@@ -52,16 +52,22 @@ public class JobRawSnapshot {
     @Column(name = "response_hash", nullable = false, length = 64)
     private String responseHash;
 
+    @Column(name = "payload_hash", length = 64)
+    private String payloadHash;
+
+    /**
+     * 레거시 원문 컬럼. 원문은 payload_hash로 job_raw_payload를 참조하며, 이 컬럼은 NOT NULL을 지키려고 빈 문자열로 둔다.
+     */
     @Lob
     @Column(name = "raw_payload", nullable = false, columnDefinition = "LONGTEXT")
-    private String rawPayload;
+    private String rawPayload = "";
 
     @Column(name = "fetched_at", nullable = false)
     private Instant fetchedAt;
 
     public JobRawSnapshot(CrawlRun crawlRun, CompanySourceTarget target, SourceType provider,
                           String sourceJobId, String sourceUrl, Integer httpStatus,
-                          String responseHash, String rawPayload, Instant fetchedAt) {
+                          String responseHash, String payloadHash, Instant fetchedAt) {
         this.crawlRun = crawlRun;
         this.target = target;
         this.provider = provider;
@@ -69,7 +75,7 @@ public class JobRawSnapshot {
         this.sourceUrl = sourceUrl;
         this.httpStatus = httpStatus;
         this.responseHash = responseHash;
-        this.rawPayload = rawPayload;
+        this.payloadHash = payloadHash;
         this.fetchedAt = fetchedAt;
     }
 }
@@ -0,0 +1,67 @@
+package kr.itsdev.devjobcollector.collection.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
+import kr.itsdev.devjobcollector.collection.support.ContentHash;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "source_http_validator", uniqueConstraints =
+        @UniqueConstraint(name = "uk_source_http_validator_target_url", columnNames = {"target_id", "url_hash"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SourceHttpValidator {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "url_hash", nullable = false, length = 64)
+    private String urlHash;
+
+    @Column(name = "request_url", nullable = false, length = 1000)
+    private String requestUrl;
+
+    @Column(length = 255)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    @Column(name = "cached_body", columnDefinition = "MEDIUMTEXT")
+    private String cachedBody;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public SourceHttpValidator(Long targetId, HttpValidator validator, Instant updatedAt) {
+        this.targetId = targetId;
+        this.requestUrl = validator.url();
+        this.urlHash = ContentHash.sha256(validator.url());
+        refresh(validator, updatedAt);
+    }
+
+    public void refresh(HttpValidator validator, Instant updatedAt) {
+        this.etag = validator.etag();
+        this.lastModified = validator.lastModified();
+        this.cachedBody = validator.cachedBody();
+        this.updatedAt = updatedAt;
+    }
+
+    public HttpValidator toValidator() {
+        return new HttpValidator(requestUrl, etag, lastModified, cachedBody);
+    }
+}
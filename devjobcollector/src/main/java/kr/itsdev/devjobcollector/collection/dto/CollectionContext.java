@@ -1,16 +1,42 @@
 package kr.itsdev.devjobcollector.collection.dto;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
-public record CollectionContext(Instant requestedAt) {
+/**
+ * @param validators 이전 수집에서 저장한 URL별 HTTP 검증자 (조건부 요청용)
+ * @param previousPageFingerprints 마지막 정상 수집의 목록 페이지별 SHA-256 (요청 순서)
+ */
+public record CollectionContext(Instant requestedAt, Map<String, HttpValidator> validators,
+                                List<String> previousPageFingerprints) {
 
     public CollectionContext {
         if (requestedAt == null) {
             requestedAt = Instant.now();
         }
+        validators = validators == null ? Map.of() : Map.copyOf(validators);
+        previousPageFingerprints = previousPageFingerprints == null
+                ? List.of() : List.copyOf(previousPageFingerprints);
+    }
+
+    public CollectionContext(Instant requestedAt, Map<String, HttpValidator> validators) {
+        this(requestedAt, validators, List.of());
+    }
+
+    public CollectionContext(Instant requestedAt) {
+        this(requestedAt, Map.of(), List.of());
     }
 
     public static CollectionContext now() {
         return new CollectionContext(Instant.now());
     }
+
+    public HttpValidator validatorFor(String url) {
+        return validators.get(url);
+    }
+
+    public String previousFirstPageFingerprint() {
+        return previousPageFingerprints.isEmpty() ? null : previousPageFingerprints.getFirst();
+    }
 }
@@ -4,20 +4,70 @@ import kr.itsdev.devjobcollector.collection.domain.CollectionStatus;
 
 import java.util.List;
 
+/**
+ * @param validators 이번 수집에서 받은 URL별 HTTP 검증자. 완전한 성공 결과일 때만 저장된다.
+ * @param pageFingerprints 목록 페이지별 SHA-256 (요청 순서). 다음 수집이 첫 페이지를 비교하는 데 쓴다.
+ */
 public record CollectionResult(
         CollectionStatus status,
         List<JobRawDto> jobs,
         int receivedCount,
         String schemaVersion,
         boolean closureEvaluationAllowed,
-        String responseHash
+        String responseHash,
+        List<HttpValidator> validators,
+        List<String> pageFingerprints
 ) {
     public CollectionResult {
         jobs = jobs == null ? List.of() : List.copyOf(jobs);
         receivedCount = Math.max(receivedCount, 0);
+        validators = validators == null ? List.of() : List.copyOf(validators);
+        pageFingerprints = pageFingerprints == null ? List.of() : List.copyOf(pageFingerprints);
+    }
+
+    public CollectionResult(CollectionStatus status, List<JobRawDto> jobs, int receivedCount,
+                            String schemaVersion, boolean closureEvaluationAllowed, String responseHash,
+                            List<HttpValidator> validators) {
+        this(status, jobs, receivedCount, schemaVersion, closureEvaluationAllowed, responseHash, validators,
+                List.of());
+    }
+
+    public CollectionResult(CollectionStatus status, List<JobRawDto> jobs, int receivedCount,
+                            String schemaVersion, boolean closureEvaluationAllowed, String responseHash) {
+        this(status, jobs, receivedCount, schemaVersion, closureEvaluationAllowed, responseHash, List.of());
     }
 
     public static CollectionResult failed(CollectionStatus status, String schemaVersion) {
         return new CollectionResult(status, List.of(), 0, schemaVersion, false, null);
     }
+
+    /**
+     * 대상 목록이 304 Not Modified로 응답한 결과 (본문 없음, 마감 판정 불가)
+     */
+    public static CollectionResult notModified(String schemaVersion, HttpValidator validator) {
+        return new CollectionResult(CollectionStatus.NOT_MODIFIED, List.of(), 0, schemaVersion, false, null,
+                List.of(validator));
+    }
+
+    /**
+     * 목록 첫 페이지가 이전 수집과 바이트 단위로 같아 이후 페이지를 받지 않은 결과 (마감 판정 불가)
+     */
+    public static CollectionResult unchangedFirstPage(String schemaVersion, String firstPageFingerprint) {
+        return new CollectionResult(CollectionStatus.NOT_MODIFIED, List.of(), 0, schemaVersion, false, null,
+                List.of(), List.of(firstPageFingerprint));
+    }
+
+    public CollectionResult withValidator(HttpValidator validator) {
+        return validator == null ? this : withValidators(List.of(validator));
+    }
+
+    public CollectionResult withValidators(List<HttpValidator> validators) {
+        return new CollectionResult(status, jobs, receivedCount, schemaVersion, closureEvaluationAllowed,
+                responseHash, validators, pageFingerprints);
+    }
+
+    public CollectionResult withPageFingerprints(List<String> pageFingerprints) {
+        return new CollectionResult(status, jobs, receivedCount, schemaVersion, closureEvaluationAllowed,
+                responseHash, validators, pageFingerprints);
+    }
 }
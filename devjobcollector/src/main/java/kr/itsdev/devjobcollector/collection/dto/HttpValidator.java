@@ -0,0 +1,25 @@
+package kr.itsdev.devjobcollector.collection.dto;
+
+/**
+ * URL별 HTTP 검증자. cachedBody는 304 응답에서 본문 대신 쓸 파싱 결과가 필요한 어댑터만 사용한다.
+ */
+public record HttpValidator(
+        String url,
+        String etag,
+        String lastModified,
+        String cachedBody
+) {
+    public HttpValidator {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("url is required");
+        }
+    }
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+
+    public HttpValidator withCachedBody(String cachedBody) {
+        return new HttpValidator(url, etag, lastModified, cachedBody);
+    }
+}
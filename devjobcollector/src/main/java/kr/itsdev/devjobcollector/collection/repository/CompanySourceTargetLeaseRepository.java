@@ -0,0 +1,27 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.TargetStatus;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface CompanySourceTargetLeaseRepository {
+
+    /**
+     * 수집 시각이 지났고 임대가 없거나 만료된 대상을 최대 limit개 선점한다.
+     * 다른 인스턴스가 잠근 행은 건너뛰므로 인스턴스끼리 같은 대상을 중복 선점하지 않는다.
+     */
+    List<Long> claimDueTargets(Collection<TargetStatus> statuses, Instant now,
+                               String owner, Instant leaseExpiresAt, int limit);
+
+    int renewLeases(Collection<Long> targetIds, String owner, Instant leaseExpiresAt);
+
+    /**
+     * 수집 결과를 기록하지 못했을 때 임대를 반환하기 전에 다음 수집 시각을 notBefore 이후로 미룬다.
+     * 이미 그보다 뒤로 잡혀 있으면 그대로 둔다.
+     */
+    void deferCollection(Long targetId, String owner, Instant notBefore);
+
+    void releaseLease(Long targetId, String owner);
+}
@@ -0,0 +1,118 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.TargetStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 임대 컬럼은 엔티티에 매핑하지 않는다. 수집 결과를 저장하는 엔티티 UPDATE가 임대를 덮어쓰지 않게 하기 위해서다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompanySourceTargetLeaseRepositoryImpl implements CompanySourceTargetLeaseRepository {
+
+    private static final String SELECT_DUE_SQL = """
+            SELECT id
+            FROM company_source_target
+            WHERE status IN (%s)
+              AND (next_collect_at IS NULL OR next_collect_at <= ?)
+              AND (lease_expires_at IS NULL OR lease_expires_at <= ?)
+            ORDER BY next_collect_at ASC, id ASC
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String ACQUIRE_SQL = """
+            UPDATE company_source_target
+            SET lease_owner = ?, lease_expires_at = ?
+            WHERE id IN (%s)
+            """;
+    private static final String RENEW_SQL = """
+            UPDATE company_source_target
+            SET lease_expires_at = ?
+            WHERE lease_owner = ? AND id IN (%s)
+            """;
+    private static final String DEFER_SQL = """
+            UPDATE company_source_target
+            SET next_collect_at = ?
+            WHERE id = ? AND lease_owner = ?
+              AND (next_collect_at IS NULL OR next_collect_at < ?)
+            """;
+    private static final String RELEASE_SQL = """
+            UPDATE company_source_target
+            SET lease_owner = NULL, lease_expires_at = NULL
+            WHERE id = ? AND lease_owner = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<Long> claimDueTargets(Collection<TargetStatus> statuses, Instant now,
+                                      String owner, Instant leaseExpiresAt, int limit) {
+        if (statuses.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        List<Long> ids = jdbcTemplate.query(SELECT_DUE_SQL.formatted(placeholders(statuses.size())), ps -> {
+            int index = 1;
+            for (TargetStatus status : statuses) {
+                ps.setString(index++, status.name());
+            }
+            SqlTimestamps.setInstant(ps, index++, now);
+            SqlTimestamps.setInstant(ps, index++, now);
+            ps.setInt(index, limit);
+        }, (rs, rowNum) -> rs.getLong(1));
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.update(ACQUIRE_SQL.formatted(placeholders(ids.size())), ps -> {
+            ps.setString(1, owner);
+            SqlTimestamps.setInstant(ps, 2, leaseExpiresAt);
+            int index = 3;
+            for (Long id : ids) {
+                ps.setLong(index++, id);
+            }
+        });
+        return ids;
+    }
+
+    @Override
+    public int renewLeases(Collection<Long> targetIds, String owner, Instant leaseExpiresAt) {
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(RENEW_SQL.formatted(placeholders(targetIds.size())), ps -> {
+            SqlTimestamps.setInstant(ps, 1, leaseExpiresAt);
+            ps.setString(2, owner);
+            int index = 3;
+            for (Long id : targetIds) {
+                ps.setLong(index++, id);
+            }
+        });
+    }
+
+    @Override
+    public void deferCollection(Long targetId, String owner, Instant notBefore) {
+        jdbcTemplate.update(DEFER_SQL, ps -> {
+            SqlTimestamps.setInstant(ps, 1, notBefore);
+            ps.setLong(2, targetId);
+            ps.setString(3, owner);
+            SqlTimestamps.setInstant(ps, 4, notBefore);
+        });
+    }
+
+    @Override
+    public void releaseLease(Long targetId, String owner) {
+        jdbcTemplate.update(RELEASE_SQL, targetId, owner);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -4,8 +4,16 @@ import kr.itsdev.devjobcollector.collection.domain.CollectionStatus;
 import kr.itsdev.devjobcollector.collection.domain.CrawlRun;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CrawlRunRepository extends JpaRepository<CrawlRun, Long> {
-    Optional<CrawlRun> findTopByTargetIdAndStatusOrderByStartedAtDesc(Long targetId, CollectionStatus status);
+    /**
+     * 마감 판정을 통과한 마지막 전체 수집. 델타 수집이나 거부된 수집의 건수는 급감 판정 기준으로 쓰지 않는다.
+     */
+    Optional<CrawlRun> findTopByTargetIdAndStatusAndClosureEvaluationAllowedTrueOrderByStartedAtDesc(
+            Long targetId, CollectionStatus status);
+
+    Optional<CrawlRun> findTopByTargetIdAndStatusInAndPageFingerprintsIsNotNullOrderByStartedAtDesc(
+            Long targetId, Collection<CollectionStatus> statuses);
 }
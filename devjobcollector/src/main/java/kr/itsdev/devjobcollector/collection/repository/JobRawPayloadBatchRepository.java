@@ -0,0 +1,9 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.JobRawPayload;
+
+import java.util.Collection;
+
+public interface JobRawPayloadBatchRepository {
+    void insertMissing(Collection<JobRawPayload> payloads);
+}
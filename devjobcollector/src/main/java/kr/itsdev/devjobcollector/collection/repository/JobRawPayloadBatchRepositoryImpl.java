@@ -0,0 +1,42 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.JobRawPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JobRawPayloadBatchRepositoryImpl implements JobRawPayloadBatchRepository {
+
+    private static final int BATCH_SIZE = 200;
+    private static final String INSERT_SQL = """
+            INSERT INTO job_raw_payload (payload_hash, encoding, original_length, compressed_payload, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE payload_hash = payload_hash
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertMissing(Collection<JobRawPayload> payloads) {
+        Map<String, JobRawPayload> uniquePayloads = new LinkedHashMap<>();
+        payloads.forEach(payload -> uniquePayloads.putIfAbsent(payload.getPayloadHash(), payload));
+        if (uniquePayloads.isEmpty()) {
+            return;
+        }
+        List<JobRawPayload> rows = List.copyOf(uniquePayloads.values());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, payload) -> {
+            ps.setString(1, payload.getPayloadHash());
+            ps.setString(2, payload.getEncoding());
+            ps.setInt(3, payload.getOriginalLength());
+            ps.setBytes(4, payload.getCompressedPayload());
+            SqlTimestamps.setInstant(ps, 5, payload.getCreatedAt());
+        });
+    }
+}
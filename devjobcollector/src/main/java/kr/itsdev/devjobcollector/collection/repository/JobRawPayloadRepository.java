@@ -0,0 +1,7 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.JobRawPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobRawPayloadRepository extends JpaRepository<JobRawPayload, String>, JobRawPayloadBatchRepository {
+}
@@ -0,0 +1,14 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.JobRawSnapshot;
+
+import java.util.List;
+import java.util.Map;
+
+public interface JobRawSnapshotBatchRepository {
+    void insertAll(List<JobRawSnapshot> snapshots);
+
+    List<LegacySnapshotPayload> findLegacyPayloadsAfter(long afterId, int limit);
+
+    void replaceRawPayloads(Map<Long, String> payloadHashesBySnapshotId);
+}
@@ -0,0 +1,73 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.JobRawSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JobRawSnapshotBatchRepositoryImpl implements JobRawSnapshotBatchRepository {
+
+    private static final int BATCH_SIZE = 200;
+    private static final String INSERT_SQL = """
+            INSERT INTO job_raw_snapshot (crawl_run_id, target_id, provider, source_job_id, source_url,
+                                          http_status, response_hash, payload_hash, raw_payload, fetched_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, '', ?)
+            """;
+    private static final String LEGACY_PAYLOAD_SQL = """
+            SELECT id, raw_payload
+            FROM job_raw_snapshot
+            WHERE id > ? AND payload_hash IS NULL
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String REPLACE_PAYLOAD_SQL = """
+            UPDATE job_raw_snapshot
+            SET payload_hash = ?, raw_payload = ''
+            WHERE id = ? AND payload_hash IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<JobRawSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, snapshots, BATCH_SIZE, (ps, snapshot) -> {
+            ps.setLong(1, snapshot.getCrawlRun().getId());
+            ps.setLong(2, snapshot.getTarget().getId());
+            ps.setString(3, snapshot.getProvider().name());
+            ps.setString(4, snapshot.getSourceJobId());
+            ps.setString(5, snapshot.getSourceUrl());
+            ps.setObject(6, snapshot.getHttpStatus(), Types.INTEGER);
+            ps.setString(7, snapshot.getResponseHash());
+            ps.setString(8, snapshot.getPayloadHash());
+            SqlTimestamps.setInstant(ps, 9, snapshot.getFetchedAt());
+        });
+    }
+
+    @Override
+    public List<LegacySnapshotPayload> findLegacyPayloadsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(LEGACY_PAYLOAD_SQL,
+                (rs, rowNum) -> new LegacySnapshotPayload(rs.getLong("id"), rs.getString("raw_payload")),
+                afterId, limit);
+    }
+
+    @Override
+    public void replaceRawPayloads(Map<Long, String> payloadHashesBySnapshotId) {
+        if (payloadHashesBySnapshotId.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(REPLACE_PAYLOAD_SQL, List.copyOf(payloadHashesBySnapshotId.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+}
@@ -0,0 +1,9 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.JobSourceOccurrence;
+
+import java.util.List;
+
+public interface JobSourceOccurrenceBatchRepository {
+    void insertAll(List<JobSourceOccurrence> occurrences);
+}
@@ -0,0 +1,49 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.JobSourceOccurrence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JobSourceOccurrenceBatchRepositoryImpl implements JobSourceOccurrenceBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO job_source_occurrence (job_posting_id, target_id, provider, source_job_id, source_url,
+                                               apply_url, source_title, source_location, source_status,
+                                               published_at, updated_at_source, last_seen_at,
+                                               missed_successful_runs, content_hash, is_primary)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<JobSourceOccurrence> occurrences) {
+        if (occurrences.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, occurrences, BATCH_SIZE, (ps, occurrence) -> {
+            ps.setObject(1, occurrence.getJobPostingId(), Types.BIGINT);
+            ps.setLong(2, occurrence.getTarget().getId());
+            ps.setString(3, occurrence.getProvider().name());
+            ps.setString(4, occurrence.getSourceJobId());
+            ps.setString(5, occurrence.getSourceUrl());
+            ps.setString(6, occurrence.getApplyUrl());
+            ps.setString(7, occurrence.getSourceTitle());
+            ps.setString(8, occurrence.getSourceLocation());
+            ps.setString(9, occurrence.getSourceStatus());
+            SqlTimestamps.setInstant(ps, 10, occurrence.getPublishedAt());
+            SqlTimestamps.setInstant(ps, 11, occurrence.getUpdatedAtSource());
+            SqlTimestamps.setInstant(ps, 12, occurrence.getLastSeenAt());
+            ps.setInt(13, occurrence.getMissedSuccessfulRuns());
+            ps.setString(14, occurrence.getContentHash());
+            ps.setBoolean(15, occurrence.isPrimary());
+        });
+    }
+}
@@ -3,13 +3,32 @@ package kr.itsdev.devjobcollector.collection.repository;
 import kr.itsdev.devjobcollector.collection.domain.JobSourceOccurrence;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface JobSourceOccurrenceRepository extends JpaRepository<JobSourceOccurrence, Long> {
+public interface JobSourceOccurrenceRepository extends JpaRepository<JobSourceOccurrence, Long>,
+        JobSourceOccurrenceBatchRepository {
     Optional<JobSourceOccurrence> findByProviderAndTargetIdAndSourceJobId(
             SourceType provider, Long targetId, String sourceJobId);
 
+    List<JobSourceOccurrence> findByProviderAndTargetIdAndSourceJobIdIn(
+            SourceType provider, Long targetId, Collection<String> sourceJobIds);
+
     List<JobSourceOccurrence> findByTargetIdAndSourceStatus(Long targetId, String sourceStatus);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JobSourceOccurrence o SET o.lastSeenAt = :seenAt, o.missedSuccessfulRuns = 0 " +
+            "WHERE o.id IN :ids")
+    int markSeenUnchanged(@Param("ids") Collection<Long> ids, @Param("seenAt") Instant seenAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JobSourceOccurrence o SET o.lastSeenAt = :seenAt, o.missedSuccessfulRuns = 0 " +
+            "WHERE o.target.id = :targetId AND o.sourceStatus = 'ACTIVE'")
+    int markActiveSeen(@Param("targetId") Long targetId, @Param("seenAt") Instant seenAt);
 }
@@ -0,0 +1,4 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+public record LegacySnapshotPayload(Long id, String rawPayload) {
+}
@@ -0,0 +1,10 @@
+package kr.itsdev.devjobcollector.collection.repository;
+
+import kr.itsdev.devjobcollector.collection.domain.SourceHttpValidator;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SourceHttpValidatorRepository extends JpaRepository<SourceHttpValidator, Long> {
+    List<SourceHttpValidator> findByTargetId(Long targetId);
+}
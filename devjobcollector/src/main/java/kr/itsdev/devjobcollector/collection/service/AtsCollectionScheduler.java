@@ -2,6 +2,7 @@ package kr.itsdev.devjobcollector.collection.service;
 
 import kr.itsdev.devjobcollector.collection.config.AtsCollectionProperties;
 import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
+import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.domain.TargetStatus;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
 import kr.itsdev.devjobcollector.collection.repository.CompanySourceTargetRepository;
@@ -10,9 +11,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -25,6 +39,7 @@ public class AtsCollectionScheduler {
     private final AtsCollectionProperties properties;
     private final CompanySourceTargetRepository targetRepository;
     private final CollectionOrchestrator orchestrator;
+    private final CollectionSchedulePolicy schedulePolicy;
 
     @Scheduled(
             initialDelayString = "${collection.ats.initial-delay-ms:30000}",
@@ -34,20 +49,115 @@ public class AtsCollectionScheduler {
             return;
         }
 
-        List<CompanySourceTarget> dueTargets =
-                targetRepository.findDueTargets(COLLECTABLE_STATUSES, Instant.now());
-        if (dueTargets.isEmpty()) {
+        AtsCollectionProperties.Lease lease = properties.lease();
+        int claimedTotal = 0;
+        while (true) {
+            List<CompanySourceTarget> claimed = claimBatch(lease);
+            if (claimed.isEmpty()) {
+                break;
+            }
+            claimedTotal += claimed.size();
+            collectClaimed(claimed, lease);
+            // 배치가 덜 찼으면 남은 대상이 없다는 뜻이고, 꽉 찼으면 아직 남았을 수 있다.
+            if (claimed.size() < lease.batchSize()) {
+                break;
+            }
+        }
+        if (claimedTotal == 0) {
             log.debug("No ATS collection targets are due");
-            return;
         }
+    }
+
+    private List<CompanySourceTarget> claimBatch(AtsCollectionProperties.Lease lease) {
+        Instant now = Instant.now();
+        List<Long> ids = targetRepository.claimDueTargets(
+                COLLECTABLE_STATUSES, now, lease.ownerId(), now.plus(lease.duration()), lease.batchSize());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CompanySourceTarget> targets = targetRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CompanySourceTarget::getId, Function.identity()));
+        return ids.stream().map(targets::get).filter(Objects::nonNull).toList();
+    }
+
+    private void collectClaimed(List<CompanySourceTarget> claimed, AtsCollectionProperties.Lease lease) {
+        Set<Long> leased = ConcurrentHashMap.newKeySet();
+        claimed.forEach(target -> leased.add(target.getId()));
+        AtsCollectionProperties.Concurrency concurrency = properties.concurrency();
+        log.info("ATS collection started: claimedTargets={}, concurrent={}, owner={}",
+                claimed.size(), concurrency.enabled(), lease.ownerId());
+
+        long renewMillis = lease.renewInterval().toMillis();
+        // 선점한 대상을 모두 수집·반환하면 close()가 주기적인 임대 연장을 멈춘다.
+        try (ScheduledExecutorService renewer =
+                     Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory())) {
+            renewer.scheduleAtFixedRate(
+                    () -> renewLeases(leased, lease), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+            if (concurrency.enabled() && claimed.size() > 1) {
+                collectConcurrently(claimed, concurrency, leased);
+            } else {
+                claimed.forEach(target -> collect(target, leased));
+            }
+        }
+    }
+
+    private void renewLeases(Set<Long> leased, AtsCollectionProperties.Lease lease) {
+        try {
+            List<Long> ids = List.copyOf(leased);
+            int renewed = targetRepository.renewLeases(ids, lease.ownerId(), Instant.now().plus(lease.duration()));
+            if (renewed < ids.size()) {
+                log.warn("ATS collection lease lost: owner={}, held={}, renewed={}",
+                        lease.ownerId(), ids.size(), renewed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("ATS collection lease renewal failed: owner={}", lease.ownerId(), e);
+        }
+    }
+
+    private void collectConcurrently(List<CompanySourceTarget> dueTargets,
+                                     AtsCollectionProperties.Concurrency concurrency, Set<Long> leased) {
+        Semaphore globalPermits = new Semaphore(concurrency.maxTargets(), true);
+        Map<SourceType, Semaphore> sourcePermits = new EnumMap<>(SourceType.class);
+        dueTargets.forEach(target -> sourcePermits.computeIfAbsent(
+                target.getProvider(), provider -> new Semaphore(concurrency.limitFor(provider), true)));
+
+        long startNano = System.nanoTime();
+        // close()는 제출한 수집이 모두 끝날 때까지 기다리므로 fixed delay는 한 바퀴가 끝난 뒤부터 센다.
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (CompanySourceTarget target : dueTargets) {
+                Semaphore sourceLimit = sourcePermits.get(target.getProvider());
+                executor.execute(() -> collectWithPermits(target, sourceLimit, globalPermits, leased));
+            }
+        }
+        log.info("ATS concurrent collection finished: dueTargets={}, elapsedMs={}",
+                dueTargets.size(), Duration.ofNanos(System.nanoTime() - startNano).toMillis());
+    }
 
-        log.info("ATS collection started: dueTargets={}", dueTargets.size());
-        for (CompanySourceTarget target : dueTargets) {
-            collect(target);
+    private void collectWithPermits(CompanySourceTarget target, Semaphore sourceLimit, Semaphore globalLimit,
+                                    Set<Long> leased) {
+        try {
+            // 소스별 허가를 먼저 받아, 대기 중인 대상이 전역 슬롯을 놀리며 붙잡지 않게 한다.
+            sourceLimit.acquire();
+            try {
+                globalLimit.acquire();
+                try {
+                    collect(target, leased);
+                } finally {
+                    globalLimit.release();
+                }
+            } finally {
+                sourceLimit.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("ATS collection interrupted before start: provider={}, identifier={}",
+                    target.getProvider(), target.getSourceIdentifier());
+            release(target, leased);
         }
     }
 
-    private void collect(CompanySourceTarget target) {
+    private void collect(CompanySourceTarget target, Set<Long> leased) {
+        boolean releasable = true;
         try {
             CollectionResult result = orchestrator.collectTarget(target.getId());
             log.info("ATS collection completed: provider={}, identifier={}, status={}, received={}",
@@ -55,6 +165,41 @@ public class AtsCollectionScheduler {
         } catch (RuntimeException e) {
             log.error("ATS collection crashed: provider={}, identifier={}",
                     target.getProvider(), target.getSourceIdentifier(), e);
+            releasable = deferAfterCrash(target);
+        } finally {
+            if (releasable) {
+                release(target, leased);
+            } else {
+                // 연장만 멈추고 임대는 남겨 둔다. 만료될 때까지는 어느 인스턴스도 다시 선점하지 못한다.
+                leased.remove(target.getId());
+            }
+        }
+    }
+
+    /**
+     * finishRun이 실패하면 next_collect_at이 그대로라 임대를 반환하는 즉시 다시 선점된다.
+     * 반환 전에 실패 재시도 간격만큼 미루고, 미루지 못했으면 false를 돌려 임대를 반환하지 않게 한다.
+     */
+    private boolean deferAfterCrash(CompanySourceTarget target) {
+        try {
+            targetRepository.deferCollection(target.getId(), properties.lease().ownerId(),
+                    schedulePolicy.nextRetryAt(Instant.now()));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("ATS collection retry deferral failed, keeping lease until expiry: provider={}, identifier={}",
+                    target.getProvider(), target.getSourceIdentifier(), e);
+            return false;
+        }
+    }
+
+    private void release(CompanySourceTarget target, Set<Long> leased) {
+        leased.remove(target.getId());
+        try {
+            targetRepository.releaseLease(target.getId(), properties.lease().ownerId());
+        } catch (RuntimeException e) {
+            // 임대는 만료 시각이 지나면 풀린다. nextCollectAt은 결과 기록이나 deferAfterCrash로 이미 미뤄져 있다.
+            log.warn("ATS collection lease release failed: provider={}, identifier={}",
+                    target.getProvider(), target.getSourceIdentifier(), e);
         }
     }
 }
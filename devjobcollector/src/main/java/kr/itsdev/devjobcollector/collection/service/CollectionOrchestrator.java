@@ -5,27 +5,41 @@ import kr.itsdev.devjobcollector.collection.config.AtsCollectionProperties;
 import kr.itsdev.devjobcollector.collection.domain.CollectionStatus;
 import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.CrawlRun;
+import kr.itsdev.devjobcollector.collection.domain.JobRawPayload;
 import kr.itsdev.devjobcollector.collection.domain.JobRawSnapshot;
 import kr.itsdev.devjobcollector.collection.domain.JobSourceOccurrence;
+import kr.itsdev.devjobcollector.collection.domain.SourceHttpValidator;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
 import kr.itsdev.devjobcollector.collection.repository.CompanySourceTargetRepository;
 import kr.itsdev.devjobcollector.collection.repository.CrawlRunRepository;
+import kr.itsdev.devjobcollector.collection.repository.JobRawPayloadRepository;
 import kr.itsdev.devjobcollector.collection.repository.JobRawSnapshotRepository;
 import kr.itsdev.devjobcollector.collection.repository.JobSourceOccurrenceRepository;
+import kr.itsdev.devjobcollector.collection.repository.SourceHttpValidatorRepository;
 import kr.itsdev.devjobcollector.domain.JobPost;
 import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.service.JobPostsChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,40 +47,50 @@ import java.util.stream.Collectors;
 public class CollectionOrchestrator {
 
     private static final int DEGRADE_THRESHOLD = 3;
-    private static final Duration SUCCESS_INTERVAL = Duration.ofHours(2);
-    private static final Duration FAILURE_BACKOFF = Duration.ofMinutes(30);
 
     private final CompanySourceTargetRepository targetRepository;
     private final CrawlRunRepository crawlRunRepository;
     private final JobRawSnapshotRepository snapshotRepository;
+    private final JobRawPayloadRepository payloadRepository;
     private final JobSourceOccurrenceRepository occurrenceRepository;
+    private final SourceHttpValidatorRepository validatorRepository;
     private final JobPostRepository jobPostRepository;
     private final JobPostProjectionService projectionService;
     private final AtsCollectionProperties properties;
+    private final CollectionSchedulePolicy schedulePolicy;
     private final Map<SourceType, JobSourceAdapter> adapters;
     private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CollectionOrchestrator(
             CompanySourceTargetRepository targetRepository,
             CrawlRunRepository crawlRunRepository,
             JobRawSnapshotRepository snapshotRepository,
+            JobRawPayloadRepository payloadRepository,
             JobSourceOccurrenceRepository occurrenceRepository,
+            SourceHttpValidatorRepository validatorRepository,
             JobPostRepository jobPostRepository,
             JobPostProjectionService projectionService,
             AtsCollectionProperties properties,
+            CollectionSchedulePolicy schedulePolicy,
             List<JobSourceAdapter> adapters,
-            PlatformTransactionManager transactionManager
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.targetRepository = targetRepository;
         this.crawlRunRepository = crawlRunRepository;
         this.snapshotRepository = snapshotRepository;
+        this.payloadRepository = payloadRepository;
         this.occurrenceRepository = occurrenceRepository;
+        this.validatorRepository = validatorRepository;
         this.jobPostRepository = jobPostRepository;
         this.projectionService = projectionService;
         this.properties = properties;
+        this.schedulePolicy = schedulePolicy;
         this.adapters = new EnumMap<>(SourceType.class);
         adapters.forEach(adapter -> this.adapters.put(adapter.sourceType(), adapter));
         this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
     }
 
     public CollectionResult collectTarget(Long targetId) {
@@ -82,7 +106,8 @@ public class CollectionOrchestrator {
 
         CollectionResult result;
         try {
-            result = adapter.fetchJobs(state.target(), new CollectionContext(state.startedAt()));
+            result = adapter.fetchJobs(state.target(), new CollectionContext(
+                    state.startedAt(), state.validators(), state.previousPageFingerprints()));
         } catch (RuntimeException e) {
             result = CollectionResult.failed(CollectionStatus.FAILED, null);
             CollectionResult failedResult = result;
@@ -109,12 +134,24 @@ public class CollectionOrchestrator {
             throw new IllegalStateException("Collection target is not active: " + targetId);
         }
         Instant startedAt = Instant.now();
+        // 델타 수집은 변경분만 받으므로 건수가 작다. 전체 수집끼리만 비교해야 잘린 전체 수집을 걸러낼 수 있다.
         Integer previousCount = crawlRunRepository
-                .findTopByTargetIdAndStatusOrderByStartedAtDesc(targetId, CollectionStatus.SUCCESS)
+                .findTopByTargetIdAndStatusAndClosureEvaluationAllowedTrueOrderByStartedAtDesc(
+                        targetId, CollectionStatus.SUCCESS)
                 .map(CrawlRun::getItemCount)
                 .orElse(null);
         CrawlRun run = crawlRunRepository.save(CrawlRun.start(target, previousCount, startedAt));
-        return new RunState(run.getId(), target, startedAt);
+        Map<String, HttpValidator> validators = new HashMap<>();
+        validatorRepository.findByTargetId(targetId)
+                .forEach(stored -> validators.put(stored.getRequestUrl(), stored.toValidator()));
+        // 첫 페이지 비교는 목록을 온전히 받았거나 변경 없음으로 끝난 수집의 지문만 기준으로 삼는다.
+        List<String> previousPageFingerprints = crawlRunRepository
+                .findTopByTargetIdAndStatusInAndPageFingerprintsIsNotNullOrderByStartedAtDesc(targetId,
+                        EnumSet.of(CollectionStatus.SUCCESS, CollectionStatus.EMPTY_SUCCESS,
+                                CollectionStatus.NOT_MODIFIED))
+                .map(CrawlRun::pageFingerprintList)
+                .orElse(List.of());
+        return new RunState(run.getId(), target, startedAt, validators, previousPageFingerprints);
     }
 
     private void finishRun(Long runId, Long targetId, CollectionResult result) {
@@ -123,54 +160,176 @@ public class CollectionOrchestrator {
         CrawlRun run = crawlRunRepository.findById(runId)
                 .orElseThrow(() -> new IllegalArgumentException("Crawl run not found: " + runId));
         Instant finishedAt = Instant.now();
+        boolean notModified = result.status() == CollectionStatus.NOT_MODIFIED;
+        // 첫 페이지 지문이 같아 멈춘 수집은 304가 아니라 200 본문을 받은 것이다.
         Integer httpStatus = successfulResponse(result.status()) ? 200
+                : notModified ? (result.pageFingerprints().isEmpty() ? 304 : 200)
                 : result.status() == CollectionStatus.RATE_LIMITED ? 429 : null;
         run.complete(result.status(), httpStatus, result.receivedCount(),
-                successfulResponse(result.status()) ? null : result.status().name(),
+                successfulResponse(result.status()) || notModified ? null : result.status().name(),
                 result.closureEvaluationAllowed(), finishedAt);
+        run.recordPageFingerprints(result.pageFingerprints());
+
+        if (notModified) {
+            recordNotModified(target, run, result, httpStatus, finishedAt);
+            return;
+        }
 
         if (successfulResponse(result.status())) {
-            persistSuccessfulResult(run, target, result, finishedAt);
+            Set<Long> changedPostIds = new HashSet<>(persistSuccessfulResult(run, target, result, finishedAt));
             if (result.closureEvaluationAllowed()) {
-                reconcileMissingOccurrences(target, result.jobs());
+                changedPostIds.addAll(reconcileMissingOccurrences(target, result.jobs()));
+                target.recordFullSweep(finishedAt);
+            }
+            // 중간에 끊긴 수집은 받지 못한 페이지가 있으므로 워터마크를 올리지 않는다.
+            if (result.status() != CollectionStatus.PARTIAL_SUCCESS) {
+                result.jobs().stream()
+                        .map(JobRawDto::updatedAtSource)
+                        .filter(Objects::nonNull)
+                        .max(Comparator.naturalOrder())
+                        .ifPresent(target::advanceSourceWatermark);
+            }
+            saveValidators(target.getId(), result, finishedAt);
+            observeChange(target, run, !changedPostIds.isEmpty());
+            target.recordSuccess(finishedAt, httpStatus, result.schemaVersion(),
+                    schedulePolicy.nextCollectAt(target, finishedAt));
+            if (!changedPostIds.isEmpty()) {
+                eventPublisher.publishEvent(new JobPostsChangedEvent(target.getProvider().name(), changedPostIds));
             }
-            target.recordSuccess(finishedAt, httpStatus, result.schemaVersion(), finishedAt.plus(SUCCESS_INTERVAL));
         } else {
-            target.recordFailure(finishedAt, httpStatus, DEGRADE_THRESHOLD, finishedAt.plus(FAILURE_BACKOFF));
+            target.recordFailure(finishedAt, httpStatus, DEGRADE_THRESHOLD, schedulePolicy.nextRetryAt(finishedAt));
+        }
+    }
+
+    /**
+     * 304 응답: 공고 내용은 그대로이므로 활성 occurrence의 lastSeenAt만 갱신하고 다음 수집 시각을 잡는다.
+     * 검증자를 저장한 뒤 어댑터 스키마 버전이 바뀌었으면 검증자를 지우고 바로 다시 수집해 새 파서로 처리한다.
+     */
+    private void recordNotModified(CompanySourceTarget target, CrawlRun run, CollectionResult result,
+                                   Integer httpStatus, Instant finishedAt) {
+        if (!Objects.equals(result.schemaVersion(), target.getSchemaVersion())) {
+            validatorRepository.deleteAll(validatorRepository.findByTargetId(target.getId()));
+            target.recordSuccess(finishedAt, httpStatus, target.getSchemaVersion(), finishedAt);
+            return;
+        }
+        occurrenceRepository.markActiveSeen(target.getId(), finishedAt);
+        observeChange(target, run, false);
+        target.recordSuccess(finishedAt, httpStatus, result.schemaVersion(),
+                schedulePolicy.nextCollectAt(target, finishedAt));
+    }
+
+    private void observeChange(CompanySourceTarget target, CrawlRun run, boolean contentChanged) {
+        run.recordContentChange(contentChanged);
+        target.recordChangeRate(schedulePolicy.updatedChangeRate(target.getChangeRate(), contentChanged));
+    }
+
+    private void saveValidators(Long targetId, CollectionResult result, Instant updatedAt) {
+        if (result.validators().isEmpty() && !result.closureEvaluationAllowed()) {
+            return;
+        }
+        Map<String, SourceHttpValidator> stored = new HashMap<>();
+        validatorRepository.findByTargetId(targetId)
+                .forEach(validator -> stored.put(validator.getRequestUrl(), validator));
+        List<SourceHttpValidator> created = new ArrayList<>();
+        for (HttpValidator validator : result.validators()) {
+            SourceHttpValidator existing = stored.remove(validator.url());
+            if (existing == null) {
+                created.add(new SourceHttpValidator(targetId, validator, updatedAt));
+            } else {
+                existing.refresh(validator, updatedAt);
+            }
+        }
+        validatorRepository.saveAll(created);
+        // 전체 목록을 받은 수집이면 이번에 쓰이지 않은 URL(마감된 상세 등)의 검증자를 정리한다.
+        if (result.closureEvaluationAllowed() && !stored.isEmpty()) {
+            validatorRepository.deleteAll(stored.values());
         }
     }
 
-    private void persistSuccessfulResult(CrawlRun run, CompanySourceTarget target,
-                                         CollectionResult result, Instant fetchedAt) {
-        for (JobRawDto job : result.jobs()) {
-            snapshotRepository.save(new JobRawSnapshot(
+    private Collection<Long> persistSuccessfulResult(CrawlRun run, CompanySourceTarget target,
+                                        CollectionResult result, Instant fetchedAt) {
+        if (result.jobs().isEmpty()) {
+            return List.of();
+        }
+        Map<String, JobRawDto> latestJobs = new LinkedHashMap<>();
+        result.jobs().forEach(job -> latestJobs.put(JobPostProjectionService.lookupKey(job.sourceJobId()), job));
+        Map<String, JobSourceOccurrence> occurrences = new HashMap<>();
+        occurrenceRepository.findByProviderAndTargetIdAndSourceJobIdIn(
+                        target.getProvider(), target.getId(),
+                        latestJobs.values().stream().map(JobRawDto::sourceJobId).toList())
+                .forEach(occurrence -> occurrences.put(
+                        JobPostProjectionService.lookupKey(occurrence.getSourceJobId()), occurrence));
+
+        List<Long> unchangedOccurrenceIds = new ArrayList<>();
+        Map<String, JobRawDto> changedJobs = new LinkedHashMap<>();
+        latestJobs.forEach((key, job) -> {
+            JobSourceOccurrence occurrence = occurrences.get(key);
+            if (isUnchanged(occurrence, job)) {
+                unchangedOccurrenceIds.add(occurrence.getId());
+            } else {
+                changedJobs.put(key, job);
+            }
+        });
+        if (!unchangedOccurrenceIds.isEmpty()) {
+            occurrenceRepository.markSeenUnchanged(unchangedOccurrenceIds, fetchedAt);
+        }
+        if (changedJobs.isEmpty()) {
+            return List.of();
+        }
+
+        List<JobRawPayload> payloads = new ArrayList<>(changedJobs.size());
+        List<JobRawSnapshot> snapshots = new ArrayList<>(changedJobs.size());
+        for (JobRawDto job : changedJobs.values()) {
+            JobRawPayload payload = JobRawPayload.of(job.rawPayload(), fetchedAt);
+            payloads.add(payload);
+            snapshots.add(new JobRawSnapshot(
                     run, target, job.provider(), job.sourceJobId(), job.sourceUrl(), 200,
-                    result.responseHash(), job.rawPayload(), fetchedAt));
-            JobPost jobPost = projectionService.upsert(target, job);
-            upsertOccurrence(target, job, jobPost.getId(), fetchedAt);
+                    result.responseHash(), payload.getPayloadHash(), fetchedAt));
         }
+        payloadRepository.insertMissing(payloads);
+        snapshotRepository.insertAll(snapshots);
+        Map<String, Long> jobPostIds = projectionService.upsertAll(target, changedJobs.values());
+        upsertOccurrences(target, changedJobs, occurrences, jobPostIds, fetchedAt);
+        return jobPostIds.values();
     }
 
-    private void upsertOccurrence(CompanySourceTarget target, JobRawDto job, Long jobPostingId, Instant seenAt) {
-        JobSourceOccurrence occurrence = occurrenceRepository
-                .findByProviderAndTargetIdAndSourceJobId(job.provider(), target.getId(), job.sourceJobId())
-                .orElseGet(() -> new JobSourceOccurrence(
+    private static boolean isUnchanged(JobSourceOccurrence occurrence, JobRawDto job) {
+        return occurrence != null
+                && occurrence.getJobPostingId() != null
+                && "ACTIVE".equals(occurrence.getSourceStatus())
+                && job.contentHash() != null
+                && job.contentHash().equals(occurrence.getContentHash());
+    }
+
+    private void upsertOccurrences(CompanySourceTarget target, Map<String, JobRawDto> jobs,
+                                   Map<String, JobSourceOccurrence> occurrences,
+                                   Map<String, Long> jobPostIds, Instant seenAt) {
+        List<JobSourceOccurrence> created = new ArrayList<>();
+        jobs.forEach((key, job) -> {
+            JobSourceOccurrence occurrence = occurrences.get(key);
+            if (occurrence == null) {
+                occurrence = new JobSourceOccurrence(
                         target, job.provider(), job.sourceJobId(), job.sourceUrl(), job.applyUrl(),
                         job.title(), job.location(), job.publishedAt(), job.updatedAtSource(),
-                        job.contentHash(), seenAt));
-        occurrence.refresh(job.sourceUrl(), job.applyUrl(), job.title(), job.location(),
-                job.publishedAt(), job.updatedAtSource(), job.contentHash(), seenAt);
-        occurrence.linkJobPosting(jobPostingId);
-        occurrenceRepository.save(occurrence);
+                        job.contentHash(), seenAt);
+                created.add(occurrence);
+            } else {
+                occurrence.refresh(job.sourceUrl(), job.applyUrl(), job.title(), job.location(),
+                        job.publishedAt(), job.updatedAtSource(), job.contentHash(), seenAt);
+            }
+            occurrence.linkJobPosting(jobPostIds.get(job.sourceJobId()));
+        });
+        occurrenceRepository.insertAll(created);
     }
 
-    private void reconcileMissingOccurrences(CompanySourceTarget target, List<JobRawDto> currentJobs) {
+    private List<Long> reconcileMissingOccurrences(CompanySourceTarget target, List<JobRawDto> currentJobs) {
         Set<String> seenSourceJobIds = currentJobs.stream()
                 .map(JobRawDto::sourceJobId)
                 .collect(Collectors.toSet());
         List<JobSourceOccurrence> activeOccurrences =
                 occurrenceRepository.findByTargetIdAndSourceStatus(target.getId(), "ACTIVE");
 
+        List<Long> deactivatedPostIds = new ArrayList<>();
         for (JobSourceOccurrence occurrence : activeOccurrences) {
             if (seenSourceJobIds.contains(occurrence.getSourceJobId())) {
                 continue;
@@ -178,8 +337,10 @@ public class CollectionOrchestrator {
             boolean closed = occurrence.recordMissing(properties.closureMissThreshold());
             if (closed && occurrence.getJobPostingId() != null) {
                 jobPostRepository.findById(occurrence.getJobPostingId()).ifPresent(JobPost::deactivate);
+                deactivatedPostIds.add(occurrence.getJobPostingId());
             }
         }
+        return deactivatedPostIds;
     }
 
     private static boolean successfulResponse(CollectionStatus status) {
@@ -188,6 +349,7 @@ public class CollectionOrchestrator {
                 || status == CollectionStatus.EMPTY_SUCCESS;
     }
 
-    private record RunState(Long runId, CompanySourceTarget target, Instant startedAt) {
+    private record RunState(Long runId, CompanySourceTarget target, Instant startedAt,
+                            Map<String, HttpValidator> validators, List<String> previousPageFingerprints) {
     }
 }
@@ -0,0 +1,51 @@
+package kr.itsdev.devjobcollector.collection.service;
+
+import kr.itsdev.devjobcollector.collection.config.CollectionScheduleProperties;
+import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 대상별 변경률(EWMA)로 다음 수집 시각을 정한다.
+ * 변경률 1이면 티어 최소 주기, 0이면 최대 주기이며 그 사이는 로그 스케일로 보간한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollectionSchedulePolicy {
+
+    /**
+     * 관측 이력이 없는 대상의 사전 변경률. 티어 최소/최대 주기의 기하 평균에서 시작한다.
+     */
+    static final double PRIOR_CHANGE_RATE = 0.5;
+
+    private final CollectionScheduleProperties properties;
+
+    public double updatedChangeRate(Double previous, boolean changed) {
+        double prior = previous == null ? PRIOR_CHANGE_RATE : previous;
+        double alpha = properties.smoothing();
+        return alpha * (changed ? 1.0 : 0.0) + (1 - alpha) * prior;
+    }
+
+    public Instant nextCollectAt(CompanySourceTarget target, Instant finishedAt) {
+        return finishedAt.plus(intervalFor(target));
+    }
+
+    public Instant nextRetryAt(Instant failedAt) {
+        return failedAt.plus(properties.failureBackoff());
+    }
+
+    Duration intervalFor(CompanySourceTarget target) {
+        CollectionScheduleProperties.Bounds bounds = properties.boundsFor(target.getCollectionTier());
+        double rate = target.getChangeRate() == null ? PRIOR_CHANGE_RATE : target.getChangeRate();
+        rate = Math.clamp(rate, 0.0, 1.0);
+        double minSeconds = bounds.minInterval().toSeconds();
+        double maxSeconds = bounds.maxInterval().toSeconds();
+        if (minSeconds <= 0) {
+            return Duration.ofSeconds(Math.round(maxSeconds - rate * maxSeconds));
+        }
+        return Duration.ofSeconds(Math.round(maxSeconds * Math.pow(minSeconds / maxSeconds, rate)));
+    }
+}
@@ -4,13 +4,27 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
 import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.JobPostDetail;
 import kr.itsdev.devjobcollector.domain.SourcePlatform;
+import kr.itsdev.devjobcollector.repository.JobPostDetailRepository;
 import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.service.TechStackDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,8 +34,86 @@ public class JobPostProjectionService {
     private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
 
     private final JobPostRepository jobPostRepository;
+    private final JobPostDetailRepository jobPostDetailRepository;
+    private final TechTermExtractor techTermExtractor;
+    private final TechStackDictionary techStackDictionary;
 
     public JobPost upsert(CompanySourceTarget target, JobRawDto rawJob) {
+        Set<String> stackNames = extractStackNames(rawJob);
+        SourceProjection projection = project(target, rawJob,
+                techStacks(stackNames, resolveStacks(List.of(stackNames))));
+        JobPost jobPost = jobPostRepository
+                .findBySourcePlatformAndOriginalSn(projection.platform(), projection.originalSn())
+                .orElseGet(projection::newJobPost);
+        projection.applyTo(jobPost);
+        JobPost saved = jobPostRepository.save(jobPost);
+        jobPostDetailRepository.upsertAll(List.of(projection.detail(saved.getId())));
+        jobPostRepository.replacePostTags(Map.of(saved.getId(), projection.techStacks().keySet()));
+        return saved;
+    }
+
+    public Map<String, Long> upsertAll(CompanySourceTarget target, Collection<JobRawDto> rawJobs) {
+        List<Set<String>> stackNames = rawJobs.stream().map(this::extractStackNames).toList();
+        Map<String, TechStackDictionary.Entry> stacks = resolveStacks(stackNames);
+        Map<String, SourceProjection> projectionsBySourceJobId = new LinkedHashMap<>();
+        Iterator<Set<String>> jobStackNames = stackNames.iterator();
+        for (JobRawDto rawJob : rawJobs) {
+            projectionsBySourceJobId.put(rawJob.sourceJobId(),
+                    project(target, rawJob, techStacks(jobStackNames.next(), stacks)));
+        }
+        Map<SourcePlatform, Map<String, SourceProjection>> projectionsByPlatform = new EnumMap<>(SourcePlatform.class);
+        projectionsBySourceJobId.values().forEach(projection -> projectionsByPlatform
+                .computeIfAbsent(projection.platform(), ignored -> new LinkedHashMap<>())
+                .put(lookupKey(projection.originalSn()), projection));
+
+        Map<SourcePlatform, Map<String, Long>> idsByPlatform = new EnumMap<>(SourcePlatform.class);
+        projectionsByPlatform.forEach((platform, projections) ->
+                idsByPlatform.put(platform, upsertPlatform(platform, projections)));
+
+        Map<String, Long> jobPostIds = new LinkedHashMap<>();
+        projectionsBySourceJobId.forEach((sourceJobId, projection) -> jobPostIds.put(sourceJobId,
+                idsByPlatform.get(projection.platform()).get(lookupKey(projection.originalSn()))));
+        return jobPostIds;
+    }
+
+    static String lookupKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private Map<String, Long> upsertPlatform(SourcePlatform platform, Map<String, SourceProjection> projections) {
+        Map<String, Long> ids = new HashMap<>();
+        Map<String, SourceProjection> pending = new LinkedHashMap<>(projections);
+        List<String> originalSns = projections.values().stream().map(SourceProjection::originalSn).toList();
+        for (JobPost jobPost : jobPostRepository.findBySourcePlatformAndOriginalSnIn(platform, originalSns)) {
+            String key = lookupKey(jobPost.getOriginalSn());
+            SourceProjection projection = pending.remove(key);
+            if (projection != null) {
+                projection.applyTo(jobPost);
+                ids.put(key, jobPost.getId());
+            }
+        }
+        if (!pending.isEmpty()) {
+            jobPostRepository.insertAll(pending.values().stream().map(SourceProjection::newJobPost).toList());
+            List<String> insertedSns = pending.values().stream().map(SourceProjection::originalSn).toList();
+            jobPostRepository.findKeysBySourcePlatformAndOriginalSnIn(platform, insertedSns)
+                    .forEach(key -> ids.put(lookupKey(key.originalSn()), key.id()));
+        }
+
+        List<JobPostDetail> details = new ArrayList<>(projections.size());
+        Map<Long, Set<Integer>> postTags = new LinkedHashMap<>();
+        projections.forEach((key, projection) -> {
+            Long id = ids.get(key);
+            if (id != null) {
+                details.add(projection.detail(id));
+                postTags.put(id, projection.techStacks().keySet());
+            }
+        });
+        jobPostDetailRepository.upsertAll(details);
+        jobPostRepository.replacePostTags(postTags);
+        return ids;
+    }
+
+    private SourceProjection project(CompanySourceTarget target, JobRawDto rawJob, Map<Integer, String> techStacks) {
         SourcePlatform platform = toPlatform(rawJob.provider());
         if (rawJob.sourceJobId() == null || rawJob.sourceJobId().isBlank()) {
             throw new IllegalArgumentException("ATS job requires source job ID");
@@ -43,24 +135,9 @@ public class JobPostProjectionService {
             throw new IllegalArgumentException("ATS job requires title and source URL: " + originalSn);
         }
 
-        JobPost jobPost = jobPostRepository.findBySourcePlatformAndOriginalSn(platform, originalSn)
-                .orElseGet(() -> JobPost.builder()
-                        .sourcePlatform(platform)
-                        .originalSn(originalSn)
-                        .companyName(truncate(companyName, 150))
-                        .title(truncate(rawJob.title(), 255))
-                        .jobCategory(truncate(rawJob.team(), 255))
-                        .experience(truncate(experience, 255))
-                        .location(truncate(rawJob.location(), 255))
-                        .hireType(truncate(rawJob.employmentType(), 255))
-                        .startDate(startDate)
-                        .endDate(endDate)
-                        .originalUrl(sourceUrl)
-                        .applyQual(rawJob.plainDescription())
-                        .processInfo(null)
-                        .build());
-
-        jobPost.refreshFromSource(
+        return new SourceProjection(
+                platform,
+                originalSn,
                 truncate(companyName, 150),
                 truncate(rawJob.title(), 255),
                 truncate(rawJob.team(), 255),
@@ -71,8 +148,38 @@ public class JobPostProjectionService {
                 endDate,
                 sourceUrl,
                 rawJob.plainDescription(),
-                null);
-        return jobPostRepository.save(jobPost);
+                techStacks);
+    }
+
+    private Set<String> extractStackNames(JobRawDto rawJob) {
+        return techTermExtractor.extract(rawJob.title(), rawJob.team(), rawJob.plainDescription());
+    }
+
+    /**
+     * 배치 전체에서 뽑은 이름을 한 번에 사전으로 해석한다. 사전에 없는 표준 이름은 여기서 만들어진다.
+     */
+    private Map<String, TechStackDictionary.Entry> resolveStacks(Collection<Set<String>> stackNames) {
+        Set<String> names = new LinkedHashSet<>();
+        stackNames.forEach(names::addAll);
+        return names.isEmpty() ? Map.of() : techStackDictionary.resolveAll(names);
+    }
+
+    /**
+     * 공고 하나의 기술 스택 (ID → DB 표기). 별칭이 같은 ID로 풀리면 먼저 나온 이름만 남긴다.
+     */
+    private static Map<Integer, String> techStacks(Set<String> stackNames,
+                                                   Map<String, TechStackDictionary.Entry> stacks) {
+        if (stackNames.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, String> techStacks = new LinkedHashMap<>();
+        for (String stackName : stackNames) {
+            TechStackDictionary.Entry stack = stacks.get(stackName);
+            if (stack != null) {
+                techStacks.putIfAbsent(stack.id(), stack.stackName());
+            }
+        }
+        return techStacks;
     }
 
     private static SourcePlatform toPlatform(SourceType sourceType) {
@@ -100,4 +207,48 @@ public class JobPostProjectionService {
         }
         return value.substring(0, maxLength);
     }
+
+    private record SourceProjection(
+            SourcePlatform platform,
+            String originalSn,
+            String companyName,
+            String title,
+            String jobCategory,
+            String experience,
+            String location,
+            String hireType,
+            LocalDate startDate,
+            LocalDate endDate,
+            String originalUrl,
+            String applyQual,
+            Map<Integer, String> techStacks
+    ) {
+        JobPost newJobPost() {
+            JobPost jobPost = JobPost.builder()
+                    .sourcePlatform(platform)
+                    .originalSn(originalSn)
+                    .companyName(companyName)
+                    .title(title)
+                    .jobCategory(jobCategory)
+                    .experience(experience)
+                    .location(location)
+                    .hireType(hireType)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .originalUrl(originalUrl)
+                    .build();
+            jobPost.applyTechStackNames(techStacks.values());
+            return jobPost;
+        }
+
+        void applyTo(JobPost jobPost) {
+            jobPost.refreshFromSource(companyName, title, jobCategory, experience, location, hireType,
+                    startDate, endDate, originalUrl);
+            jobPost.applyTechStackNames(techStacks.values());
+        }
+
+        JobPostDetail detail(Long jobPostId) {
+            return new JobPostDetail(jobPostId, applyQual, null);
+        }
+    }
 }
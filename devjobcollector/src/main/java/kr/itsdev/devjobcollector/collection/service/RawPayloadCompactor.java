@@ -0,0 +1,87 @@
+package kr.itsdev.devjobcollector.collection.service;
+
+import kr.itsdev.devjobcollector.collection.config.RawPayloadCompactionProperties;
+import kr.itsdev.devjobcollector.collection.domain.JobRawPayload;
+import kr.itsdev.devjobcollector.collection.repository.JobRawPayloadRepository;
+import kr.itsdev.devjobcollector.collection.repository.JobRawSnapshotRepository;
+import kr.itsdev.devjobcollector.collection.repository.LegacySnapshotPayload;
+import kr.itsdev.devjobcollector.scheduling.ClusterLocked;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레거시 job_raw_snapshot.raw_payload를 job_raw_payload로 옮기고 빈 문자열로 비운다.
+ * 비운 공간은 테이블스페이스에 남으므로 이관이 끝나면 docs/runbooks/raw-payload-compaction.md대로 재구성한다.
+ */
+@Slf4j
+@Component
+public class RawPayloadCompactor {
+
+    private final RawPayloadCompactionProperties properties;
+    private final JobRawSnapshotRepository snapshotRepository;
+    private final JobRawPayloadRepository payloadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private long lastCompactedId;
+
+    public RawPayloadCompactor(
+            RawPayloadCompactionProperties properties,
+            JobRawSnapshotRepository snapshotRepository,
+            JobRawPayloadRepository payloadRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.properties = properties;
+        this.snapshotRepository = snapshotRepository;
+        this.payloadRepository = payloadRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(
+            initialDelayString = "${collection.raw-payload.compaction.initial-delay-ms:120000}",
+            fixedDelayString = "${collection.raw-payload.compaction.delay-ms:300000}")
+    @ClusterLocked(name = "raw-payload-compaction", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void compactLegacySnapshots() {
+        if (!properties.enabled()) {
+            return;
+        }
+        int compacted = 0;
+        for (int chunk = 0; chunk < properties.maxChunksPerRun(); chunk++) {
+            Integer count = transactionTemplate.execute(status -> compactNextChunk());
+            if (count == null || count == 0) {
+                break;
+            }
+            compacted += count;
+        }
+        if (compacted > 0) {
+            log.info("Raw snapshot payloads compacted: rows={}, lastSnapshotId={}", compacted, lastCompactedId);
+        }
+    }
+
+    private int compactNextChunk() {
+        List<LegacySnapshotPayload> rows =
+                snapshotRepository.findLegacyPayloadsAfter(lastCompactedId, properties.chunkSize());
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        List<JobRawPayload> payloads = new ArrayList<>(rows.size());
+        Map<Long, String> payloadHashes = new LinkedHashMap<>();
+        for (LegacySnapshotPayload row : rows) {
+            JobRawPayload payload = JobRawPayload.of(row.rawPayload(), now);
+            payloads.add(payload);
+            payloadHashes.put(row.id(), payload.getPayloadHash());
+        }
+        payloadRepository.insertMissing(payloads);
+        snapshotRepository.replaceRawPayloads(payloadHashes);
+        lastCompactedId = rows.getLast().id();
+        return rows.size();
+    }
+}
@@ -0,0 +1,118 @@
+package kr.itsdev.devjobcollector.collection.service;
+
+import kr.itsdev.devjobcollector.collection.support.TechTermAutomaton;
+import kr.itsdev.devjobcollector.service.TechStackDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ATS 공고의 제목·팀·본문에서 기술 스택 이름을 뽑는다.
+ * tech_stacks 사전과 동의어 파일로 만든 오토마톤 하나를 모든 수집 스레드가 공유하고,
+ * 사전이 늘어나면 새 오토마톤으로 통째로 바꾼다.
+ */
+@Slf4j
+@Component
+public class TechTermExtractor {
+
+    static final String SYNONYMS_RESOURCE = "tech-stack-synonyms.txt";
+
+    private final TechStackDictionary techStackDictionary;
+    private final Map<String, String> synonyms;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TechTermExtractor(TechStackDictionary techStackDictionary) {
+        this(techStackDictionary, loadSynonyms());
+    }
+
+    TechTermExtractor(TechStackDictionary techStackDictionary, Map<String, String> synonyms) {
+        this.techStackDictionary = techStackDictionary;
+        this.synonyms = Collections.unmodifiableMap(new LinkedHashMap<>(synonyms));
+    }
+
+    /**
+     * @return 표준 기술 스택 이름 (처음 나온 순서)
+     */
+    public Set<String> extract(String title, String team, String plainDescription) {
+        return automaton().match(title, team, plainDescription);
+    }
+
+    private TechTermAutomaton automaton() {
+        Snapshot current = snapshot;
+        int dictionarySize = techStackDictionary.size();
+        if (current != null && current.dictionarySize() == dictionarySize) {
+            return current.automaton();
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || current.dictionarySize() != dictionarySize) {
+                current = new Snapshot(dictionarySize, TechTermAutomaton.build(terms()));
+                snapshot = current;
+                log.info("Tech term automaton rebuilt: terms={}", current.automaton().termCount());
+            }
+            return current.automaton();
+        }
+    }
+
+    /**
+     * 동의어를 먼저 넣어 같은 표기가 사전에도 있으면 동의어 쪽 표준 이름을 쓴다.
+     * 한글만으로 된 사전 이름은 ALIO NCS 분류 조각("경영", "회계" 등)이라 본문 매칭에서 제외한다.
+     */
+    private Map<String, String> terms() {
+        Map<String, String> canonicalByTerm = new LinkedHashMap<>(synonyms);
+        for (String stackName : techStackDictionary.stackNames()) {
+            if (stackName.chars().anyMatch(c -> c < 0x80 && Character.isLetterOrDigit(c))) {
+                canonicalByTerm.putIfAbsent(stackName, stackName);
+            }
+        }
+        return canonicalByTerm;
+    }
+
+    private static Map<String, String> loadSynonyms() {
+        ClassPathResource resource = new ClassPathResource(SYNONYMS_RESOURCE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return parseSynonyms(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load " + SYNONYMS_RESOURCE, e);
+        }
+    }
+
+    /**
+     * "표준 이름 = 동의어, 동의어" 형식. '#'으로 시작하는 줄과 빈 줄은 건너뛴다.
+     */
+    static Map<String, String> parseSynonyms(BufferedReader reader) throws IOException {
+        Map<String, String> canonicalByTerm = new LinkedHashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            int separator = line.indexOf('=');
+            if (line.isEmpty() || line.startsWith("#") || separator <= 0) {
+                continue;
+            }
+            String canonical = line.substring(0, separator).strip();
+            canonicalByTerm.putIfAbsent(canonical, canonical);
+            for (String alias : line.substring(separator + 1).split(",")) {
+                if (!alias.isBlank()) {
+                    canonicalByTerm.putIfAbsent(alias.strip(), canonical);
+                }
+            }
+        }
+        return canonicalByTerm;
+    }
+
+    private record Snapshot(int dictionarySize, TechTermAutomaton automaton) {
+    }
+}
@@ -0,0 +1,45 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag / Last-Modified 기반 조건부 GET 보조 함수
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * 저장된 검증자가 있으면 If-None-Match / If-Modified-Since 헤더를 설정한다.
+     * 사용: {@code RequestEntity.get(uri).headers(headers -> ConditionalRequests.apply(headers, validator))}
+     */
+    public static void apply(HttpHeaders headers, HttpValidator validator) {
+        if (validator == null) {
+            return;
+        }
+        if (validator.etag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, validator.etag());
+        }
+        if (validator.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validator.lastModified());
+        }
+    }
+
+    public static boolean isNotModified(ResponseEntity<?> response) {
+        return response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED);
+    }
+
+    /**
+     * 응답의 ETag / Last-Modified를 검증자로 만든다. 둘 다 없으면 null.
+     */
+    public static HttpValidator capture(String url, ResponseEntity<?> response) {
+        HttpHeaders headers = response.getHeaders();
+        HttpValidator validator = new HttpValidator(url, headers.getETag(),
+                headers.getFirst(HttpHeaders.LAST_MODIFIED), null);
+        return validator.isEmpty() ? null : validator;
+    }
+}
@@ -1,5 +1,10 @@
 package kr.itsdev.devjobcollector.collection.support;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -7,16 +12,82 @@ import java.util.HexFormat;
 
 public final class ContentHash {
 
+    private static final int CHUNK_BYTES = 8 * 1024;
+    // UTF-8은 char 하나당 최대 3바이트이므로 이 길이 이하면 청크 하나에 다 들어간다.
+    private static final int SINGLE_CHUNK_CHARS = CHUNK_BYTES / 3;
+
     private ContentHash() {
     }
 
+    /**
+     * 호출마다 digest를 새로 만든다. 가상 스레드에서는 ThreadLocal 재사용이 호출마다 새 할당과 같기 때문이다.
+     * 짧은 문자열은 입력 크기의 byte[] 하나로, 긴 문자열은 8KB 청크로 나눠 인코딩하므로 전체 크기의 byte[]를 만들지 않는다.
+     */
     public static String sha256(String value) {
+        MessageDigest digest = newSha256();
+        updateUtf8(value == null ? "" : value, digest);
+        return hex(digest.digest());
+    }
+
+    /**
+     * value의 UTF-8 바이트를 targets에 넣고 넣은 바이트 수를 돌려준다.
+     * 잘못된 서로게이트는 String.getBytes와 같이 '?'로 바꾼다.
+     */
+    static long updateUtf8(CharSequence value, MessageDigest... targets) {
+        if (value.length() <= SINGLE_CHUNK_CHARS) {
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            for (MessageDigest target : targets) {
+                target.update(bytes);
+            }
+            return bytes.length;
+        }
+        return new Utf8Chunks().update(value, targets);
+    }
+
+    static MessageDigest newSha256() {
         try {
-            byte[] digest = MessageDigest.getInstance("SHA-256")
-                    .digest((value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(digest);
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-256 algorithm is unavailable", e);
         }
     }
+
+    static String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    /**
+     * 긴 문자열을 인코딩하는 동안만 쓰는 UTF-8 인코더와 청크 버퍼. 호출마다 만들고 버린다.
+     */
+    private static final class Utf8Chunks {
+
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+        private long written;
+
+        long update(CharSequence value, MessageDigest[] targets) {
+            CharBuffer chars = CharBuffer.wrap(value);
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, chunk, true);
+                drain(targets);
+            } while (result.isOverflow());
+            while (encoder.flush(chunk).isOverflow()) {
+                drain(targets);
+            }
+            drain(targets);
+            return written;
+        }
+
+        private void drain(MessageDigest[] targets) {
+            chunk.flip();
+            for (MessageDigest target : targets) {
+                target.update(chunk.array(), 0, chunk.limit());
+            }
+            written += chunk.limit();
+            chunk.clear();
+        }
+    }
 }
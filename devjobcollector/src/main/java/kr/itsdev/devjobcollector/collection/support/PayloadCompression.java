@@ -0,0 +1,48 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+public final class PayloadCompression {
+
+    public static final String DEFLATE = "DEFLATE";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private PayloadCompression() {
+    }
+
+    public static byte[] deflate(byte[] value) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, value.length / 4));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String inflate(byte[] compressed, int originalLength) {
+        try (InflaterInputStream input = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] output = input.readAllBytes();
+            if (output.length != originalLength) {
+                throw new IllegalStateException("Compressed payload length mismatch: expected="
+                        + originalLength + ", actual=" + output.length);
+            }
+            return new String(output, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed compressed payload", e);
+        }
+    }
+}
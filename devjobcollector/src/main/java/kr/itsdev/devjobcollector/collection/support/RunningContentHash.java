@@ -0,0 +1,109 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 페이지 응답을 이어 붙이지 않고 읽는 즉시 SHA-256에 누적한다.
+ * 같은 UTF-8 바이트를 이어 붙인 문자열의 {@link ContentHash#sha256(String)}과 값이 같다.
+ * 페이지마다 따로 계산한 지문도 순서대로 남겨, 이전 수집과 페이지 단위로 비교할 수 있게 한다.
+ */
+public final class RunningContentHash {
+
+    private final MessageDigest digest = ContentHash.newSha256();
+    private final MessageDigest pageDigest = ContentHash.newSha256();
+    private final List<String> pageFingerprints = new ArrayList<>();
+    // 해시에 넣은 UTF-8 바이트 수 (스트림과 String 페이지 모두 바이트로 센다)
+    private long length;
+
+    /**
+     * 응답 본문 하나를 한 페이지로 감싼다. 스트림을 닫으면 그 페이지의 지문이 기록된다.
+     */
+    public InputStream wrap(InputStream body) {
+        return new FilterInputStream(body) {
+            private boolean closed;
+
+            @Override
+            public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) {
+                    digest.update((byte) value);
+                    pageDigest.update((byte) value);
+                    length++;
+                }
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int count) throws IOException {
+                int read = super.read(buffer, offset, count);
+                if (read > 0) {
+                    digest.update(buffer, offset, read);
+                    pageDigest.update(buffer, offset, read);
+                    length += read;
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long count) throws IOException {
+                // 건너뛴 바이트도 해시에 포함되도록 읽어서 버린다.
+                byte[] buffer = new byte[(int) Math.min(count, 8192)];
+                long skipped = 0;
+                while (skipped < count) {
+                    int read = read(buffer, 0, (int) Math.min(buffer.length, count - skipped));
+                    if (read < 0) {
+                        break;
+                    }
+                    skipped += read;
+                }
+                return skipped;
+            }
+
+            @Override
+            public void close() throws IOException {
+                // JsonParser와 호출부가 각각 닫으므로 첫 close에서만 페이지를 마감한다.
+                if (!closed) {
+                    closed = true;
+                    endPage();
+                }
+                super.close();
+            }
+        };
+    }
+
+    /**
+     * 이미 String으로 받은 페이지를 UTF-8 청크 단위로 누적한다.
+     */
+    public void addPage(CharSequence page) {
+        length += ContentHash.updateUtf8(page, digest, pageDigest);
+        endPage();
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public List<String> pageFingerprints() {
+        return List.copyOf(pageFingerprints);
+    }
+
+    public String lastPageFingerprint() {
+        return pageFingerprints.isEmpty() ? null : pageFingerprints.getLast();
+    }
+
+    /**
+     * 지금까지 읽은 바이트의 해시. 호출 후에는 다시 쓸 수 없다.
+     */
+    public String finish() {
+        return ContentHash.hex(digest.digest());
+    }
+
+    private void endPage() {
+        pageFingerprints.add(ContentHash.hex(pageDigest.digest()));
+    }
+}
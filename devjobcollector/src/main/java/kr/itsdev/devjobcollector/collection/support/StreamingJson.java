@@ -0,0 +1,61 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JSON 응답 본문을 String으로 받지 않고 InputStream에서 바로 토큰 단위로 파싱한다.
+ */
+public final class StreamingJson {
+
+    private StreamingJson() {
+    }
+
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * GET 요청 후 본문을 reader로 파싱하고, 읽은 바이트는 모두 hash에 누적한다.
+     * 파싱 오류는 RestTemplate이 ResourceAccessException으로 감싸므로 원래의 JsonProcessingException으로 되돌려 던진다.
+     */
+    public static <T> T get(RestTemplate restTemplate, ObjectMapper objectMapper, URI uri,
+                            Consumer<HttpHeaders> headers, RunningContentHash hash,
+                            BodyReader<T> reader) throws JsonProcessingException {
+        try {
+            return restTemplate.execute(uri, HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                        headers.accept(request.getHeaders());
+                    },
+                    response -> {
+                        try (InputStream body = hash.wrap(response.getBody());
+                             JsonParser parser = objectMapper.createParser(body)) {
+                            T value = reader.read(parser);
+                            // 해시가 응답 전체를 덮도록 파서가 읽지 않은 나머지 바이트도 소비한다.
+                            body.transferTo(OutputStream.nullOutputStream());
+                            return value;
+                        }
+                    });
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof JsonProcessingException parseFailure) {
+                throw parseFailure;
+            }
+            throw e;
+        }
+    }
+}
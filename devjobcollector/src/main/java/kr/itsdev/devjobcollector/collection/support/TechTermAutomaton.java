@@ -0,0 +1,218 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 기술 용어 사전을 한 번에 찾는 Aho-Corasick 오토마톤.
+ * 본문 길이에 선형으로 한 번만 훑고, 생성 후에는 배열만 읽으므로 여러 스레드가 공유해도 된다.
+ *
+ * <p>경계 규칙
+ * <ul>
+ *     <li>라틴 문자·숫자로 시작(끝)나는 용어는 앞(뒤) 글자가 라틴 문자·숫자가 아니어야 한다. ("Java" ≠ "JavaScript")</li>
+ *     <li>한글로 시작하는 용어는 앞 글자가 한글이 아니어야 한다. 뒤에는 조사가 붙을 수 있으므로 보지 않는다.</li>
+ *     <li>겹치는 후보는 가장 왼쪽에서 시작하는 가장 긴 용어만 남긴다. ("자바스크립트"에서 "자바"는 버린다)</li>
+ *     <li>두 글자 라틴 용어("Go", "JS")는 일반 단어와 구분하도록 대소문자까지 같아야 한다.</li>
+ * </ul>
+ */
+public final class TechTermAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int SHORT_TERM_LENGTH = 2;
+
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 이 노드에서 끝나는 용어 번호 (-1: 없음)
+    private final int[] termAt;
+    // 실패 링크를 따라가며 만나는, 용어가 끝나는 가장 가까운 노드 (-1: 없음)
+    private final int[] outputLink;
+    private final Term[] terms;
+
+    private TechTermAutomaton(List<Map<Character, Integer>> trie, int[] termAt, Term[] terms) {
+        int size = trie.size();
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            // TreeMap이므로 문자 순으로 정렬돼 있어 이진 탐색할 수 있다.
+            Map<Character, Integer> edges = trie.get(node);
+            char[] chars = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                chars[i] = edge.getKey();
+                targets[i++] = edge.getValue();
+            }
+            edgeChars[node] = chars;
+            edgeTargets[node] = targets;
+        }
+        this.termAt = termAt;
+        this.terms = terms;
+        this.failure = new int[size];
+        this.outputLink = new int[size];
+        linkFailures();
+    }
+
+    /**
+     * @param canonicalByTerm 찾을 표기 → 결과로 돌려줄 표준 이름. 두 글자 미만이나 공백뿐인 표기는 건너뛴다.
+     */
+    public static TechTermAutomaton build(Map<String, String> canonicalByTerm) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        List<Term> terms = new ArrayList<>();
+        Map<Integer, Integer> termByNode = new HashMap<>();
+        canonicalByTerm.forEach((rawTerm, canonical) -> {
+            String term = rawTerm == null ? "" : rawTerm.strip();
+            if (term.length() < SHORT_TERM_LENGTH || canonical == null || canonical.isBlank()) {
+                return;
+            }
+            int node = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                char c = Character.toLowerCase(term.charAt(i));
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            // 대소문자만 다른 표기가 여럿이면 먼저 들어온 것을 쓴다.
+            if (!termByNode.containsKey(node)) {
+                termByNode.put(node, terms.size());
+                terms.add(new Term(term, canonical.strip(), isShortLatin(term)));
+            }
+        });
+
+        int[] termAt = new int[trie.size()];
+        Arrays.fill(termAt, -1);
+        termByNode.forEach((node, term) -> termAt[node] = term);
+        return new TechTermAutomaton(trie, termAt, terms.toArray(Term[]::new));
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * 필드들에서 찾은 표준 이름을 처음 나온 순서대로 돌려준다. null 필드는 건너뛴다.
+     */
+    public Set<String> match(CharSequence... fields) {
+        Set<String> canonicals = new LinkedHashSet<>();
+        for (CharSequence field : fields) {
+            if (field != null && !field.isEmpty()) {
+                scan(field, canonicals);
+            }
+        }
+        return canonicals;
+    }
+
+    private void scan(CharSequence text, Set<String> canonicals) {
+        List<Match> matches = new ArrayList<>();
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, Character.toLowerCase(text.charAt(i)));
+            for (int out = termAt[node] >= 0 ? node : outputLink[node]; out >= 0; out = outputLink[out]) {
+                int term = termAt[out];
+                int start = i + 1 - terms[term].text().length();
+                if (accepts(text, start, i + 1, terms[term])) {
+                    matches.add(new Match(start, i + 1, term));
+                }
+            }
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+        matches.sort(Comparator.comparingInt(Match::start)
+                .thenComparing(Comparator.comparingInt(Match::end).reversed()));
+        int coveredUntil = 0;
+        for (Match match : matches) {
+            if (match.start() >= coveredUntil) {
+                canonicals.add(terms[match.term()].canonical());
+                coveredUntil = match.end();
+            }
+        }
+    }
+
+    private int step(int node, char c) {
+        while (true) {
+            int next = edge(node, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = failure[node];
+        }
+    }
+
+    private int edge(int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    private void linkFailures() {
+        Arrays.fill(outputLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                failure[child] = step(failure[node], c);
+                int fallback = failure[child];
+                outputLink[child] = termAt[fallback] >= 0 ? fallback : outputLink[fallback];
+                queue.add(child);
+            }
+        }
+    }
+
+    private static boolean accepts(CharSequence text, int start, int end, Term term) {
+        if (term.caseSensitive() && !term.text().contentEquals(text.subSequence(start, end))) {
+            return false;
+        }
+        char first = term.text().charAt(0);
+        if (start > 0) {
+            char before = text.charAt(start - 1);
+            if (isLatinOrDigit(first) && isLatinOrDigit(before)) {
+                return false;
+            }
+            if (isHangul(first) && isHangul(before)) {
+                return false;
+            }
+        }
+        char last = term.text().charAt(term.text().length() - 1);
+        return end >= text.length() || !isLatinOrDigit(last) || !isLatinOrDigit(text.charAt(end));
+    }
+
+    private static boolean isShortLatin(String term) {
+        return term.length() <= SHORT_TERM_LENGTH && term.chars().allMatch(c -> isLatinOrDigit((char) c));
+    }
+
+    private static boolean isLatinOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㅣ');
+    }
+
+    private record Term(String text, String canonical, boolean caseSensitive) {
+    }
+
+    private record Match(int start, int end, int term) {
+    }
+}
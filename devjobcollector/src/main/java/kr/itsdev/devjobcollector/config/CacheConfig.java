@@ -0,0 +1,21 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공고 조회 결과 캐시 설정 (Caffeine, spring.cache.* 로 크기/TTL 지정)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String JOB_POST_SEARCH = "jobPostSearch";
+
+    @Bean
+    public KeyGenerator jobPostSearchKeyGenerator() {
+        return new JobPostSearchKeyGenerator();
+    }
+}
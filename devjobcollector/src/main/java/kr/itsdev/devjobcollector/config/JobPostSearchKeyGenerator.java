@@ -0,0 +1,43 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 공고 검색 캐시 키 생성기.
+ * 검색 조건은 모두 대소문자/앞뒤 공백을 무시하므로 정규화한 값으로 키를 만들고,
+ * 마감일 필터 기준일(오늘)을 키에 포함해 날짜가 바뀌면 자연스럽게 새 키를 사용한다.
+ */
+public class JobPostSearchKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        List<Object> filters = new ArrayList<>(params.length);
+        for (Object param : params) {
+            filters.add(normalize(param));
+        }
+        return new SearchKey(method.getName(), Collections.unmodifiableList(filters), LocalDate.now());
+    }
+
+    private static Object normalize(Object param) {
+        if (param instanceof String value) {
+            return value.isBlank() ? null : value.strip().toLowerCase(Locale.ROOT);
+        }
+        if (param instanceof Pageable pageable) {
+            return pageable.isUnpaged()
+                    ? "unpaged"
+                    : List.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+        return param;
+    }
+
+    record SearchKey(String method, List<Object> filters, LocalDate today) {
+    }
+}
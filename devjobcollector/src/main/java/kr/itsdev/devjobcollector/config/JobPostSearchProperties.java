@@ -0,0 +1,24 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "job-post.search")
+public record JobPostSearchProperties(Engine engine, Lucene lucene) {
+
+    public JobPostSearchProperties {
+        engine = engine == null ? Engine.FULLTEXT : engine;
+        lucene = lucene == null ? new Lucene(null) : lucene;
+    }
+
+    public enum Engine {
+        LIKE,
+        FULLTEXT,
+        LUCENE
+    }
+
+    public record Lucene(String indexPath) {
+        public Lucene {
+            indexPath = indexPath == null || indexPath.isBlank() ? "data/search/job-posts" : indexPath;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * job_posts.role_mask/region_mask 비트 검사를 JPQL/Querydsl에서 쓰기 위한 비트 AND 함수 등록.
+ * 분류 컬럼이 keyset 인덱스에 포함돼 있어 (mask & ?) 조건은 행을 읽지 않고 인덱스 안에서 걸러진다.
+ */
+public class MySqlBitFunctionContributor implements FunctionContributor {
+
+    public static final String BIT_AND = "bitmask_and";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                BIT_AND,
+                "(?1 & ?2)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.INTEGER));
+    }
+}
@@ -0,0 +1,24 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * job_posts FULLTEXT(ngram) 인덱스를 JPQL/Querydsl에서 쓰기 위한 MATCH ... AGAINST 함수 등록.
+ * 인자 순서는 ftx_job_posts_keyword 인덱스 컬럼 순서와 같아야 인덱스를 탄다.
+ */
+public class MySqlFullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2, ?3, ?4, ?5, ?6) against(?7 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
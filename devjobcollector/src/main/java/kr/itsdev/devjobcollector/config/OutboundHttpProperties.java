@@ -0,0 +1,44 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 호출용 공유 커넥션 풀 설정.
+ * profiles는 호스트별 타임아웃 프로파일이며, 매칭되지 않는 호스트는 기본 타임아웃을 쓴다.
+ */
+@ConfigurationProperties(prefix = "outbound-http")
+public record OutboundHttpProperties(
+        int maxTotal,
+        int maxPerRoute,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration connectionRequestTimeout,
+        Duration idleEvictAfter,
+        Duration timeToLive,
+        Map<String, Profile> profiles
+) {
+    public OutboundHttpProperties {
+        maxTotal = maxTotal < 1 ? 40 : maxTotal;
+        maxPerRoute = maxPerRoute < 1 ? 6 : Math.min(maxPerRoute, maxTotal);
+        connectTimeout = connectTimeout == null ? Duration.ofSeconds(5) : connectTimeout;
+        readTimeout = readTimeout == null ? Duration.ofSeconds(20) : readTimeout;
+        connectionRequestTimeout = connectionRequestTimeout == null ? Duration.ofSeconds(5) : connectionRequestTimeout;
+        idleEvictAfter = idleEvictAfter == null ? Duration.ofSeconds(30) : idleEvictAfter;
+        timeToLive = timeToLive == null ? Duration.ofMinutes(5) : timeToLive;
+        profiles = profiles == null ? Map.of() : Map.copyOf(profiles);
+    }
+
+    public record Profile(
+            List<String> hosts,
+            Duration connectTimeout,
+            Duration readTimeout
+    ) {
+        public Profile {
+            hosts = hosts == null ? List.of() : List.copyOf(hosts);
+        }
+    }
+}
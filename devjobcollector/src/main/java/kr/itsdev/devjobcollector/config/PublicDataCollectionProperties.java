@@ -0,0 +1,32 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공공데이터(ALIO) 수집 파이프라인 설정.
+ * 목록 페이지 → 상세 동시 조회 → 제한 큐 → 짧은 배치 트랜잭션 저장 순서로 흐른다.
+ *
+ * @param maxPages                목록 페이지 상한 (totalCount 기준 페이지 수가 더 크면 여기서 끊는다)
+ * @param detailPermitsPerSecond  상세 API 초당 호출 상한
+ * @param detailMaxInFlight       동시에 진행 중인 상세 호출 수 상한. outbound-http.max-per-route(기본 6)보다 작게 둔다.
+ *                                넘으면 초과분이 connection-request-timeout(5s) 동안 커넥션을 기다리다 실패로 처리되고,
+ *                                목록 페이지 조회도 같은 호스트 풀을 쓰므로 여유를 남긴다.
+ * @param queueCapacity           상세 조회와 저장 사이 큐 크기 (가득 차면 상세 조회가 기다린다)
+ * @param persistBatchSize        트랜잭션 하나에서 저장하는 공고 수
+ */
+@ConfigurationProperties(prefix = "public-data.collection")
+public record PublicDataCollectionProperties(
+        int maxPages,
+        double detailPermitsPerSecond,
+        int detailMaxInFlight,
+        int queueCapacity,
+        int persistBatchSize
+) {
+    public PublicDataCollectionProperties {
+        maxPages = maxPages < 1 ? 200 : maxPages;
+        detailPermitsPerSecond = detailPermitsPerSecond <= 0 ? 10 : detailPermitsPerSecond;
+        detailMaxInFlight = detailMaxInFlight < 1 ? 4 : detailMaxInFlight;
+        queueCapacity = queueCapacity < 1 ? 200 : queueCapacity;
+        persistBatchSize = persistBatchSize < 1 ? 50 : persistBatchSize;
+    }
+}
@@ -0,0 +1,27 @@
+package kr.itsdev.devjobcollector.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param cacheEvictionDelay 커밋 직후 무효화한 뒤 검색 캐시를 한 번 더 비우기까지의 시간. 복제 지연 상한보다 길게 잡는다.
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        int maximumPoolSize,
+        Duration cacheEvictionDelay
+) {
+    public ReplicaDataSourceProperties {
+        if (maximumPoolSize <= 0) {
+            maximumPoolSize = 10;
+        }
+        if (cacheEvictionDelay == null || cacheEvictionDelay.isNegative() || cacheEvictionDelay.isZero()) {
+            cacheEvictionDelay = Duration.ofSeconds(5);
+        }
+    }
+}
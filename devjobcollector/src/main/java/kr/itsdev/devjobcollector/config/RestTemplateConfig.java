@@ -1,20 +1,89 @@
 package kr.itsdev.devjobcollector.config;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 수집 어댑터와 외부 API 클라이언트가 함께 쓰는 풀링 HTTP 클라이언트.
+ * 호스트별 keep-alive 커넥션을 재사용하고 gzip/deflate 응답은 HttpClient가 풀어서 넘긴다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public PoolingHttpClientConnectionManager outboundConnectionManager(OutboundHttpProperties properties) {
+        ConnectionConfig defaults = connectionConfig(
+                properties.connectTimeout(), properties.readTimeout(), properties.timeToLive());
+        Map<String, ConnectionConfig> byHost = new HashMap<>();
+        properties.profiles().values().forEach(profile -> {
+            ConnectionConfig config = connectionConfig(
+                    profile.connectTimeout() == null ? properties.connectTimeout() : profile.connectTimeout(),
+                    profile.readTimeout() == null ? properties.readTimeout() : profile.readTimeout(),
+                    properties.timeToLive());
+            profile.hosts().forEach(host -> byHost.put(host.toLowerCase(Locale.ROOT), config));
+        });
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxTotal())
+                .setMaxConnPerRoute(properties.maxPerRoute())
+                .build();
+        connectionManager.setConnectionConfigResolver(route -> byHost.getOrDefault(
+                route.getTargetHost().getHostName().toLowerCase(Locale.ROOT), defaults));
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager,
+                                                  OutboundHttpProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(
+                                properties.connectionRequestTimeout().toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.idleEvictAfter().toMillis()))
+                .build();
+    }
+
+    @Bean
+    public MeterBinder outboundConnectionPoolMetrics(PoolingHttpClientConnectionManager outboundConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(outboundConnectionManager, "outbound");
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient outboundHttpClient) {
+        // 읽기 타임아웃은 요청 단위로 덮어쓰지 않고 호스트별 ConnectionConfig의 소켓 타임아웃을 따른다.
         return builder
-                .connectTimeout(Duration.ofSeconds(5))
-                .readTimeout(Duration.ofSeconds(20))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(outboundHttpClient))
+                .build();
+    }
+
+    private static ConnectionConfig connectionConfig(Duration connectTimeout, Duration readTimeout,
+                                                     Duration timeToLive) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(timeToLive.toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
                 .build();
     }
 }
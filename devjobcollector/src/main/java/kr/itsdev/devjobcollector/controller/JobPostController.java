@@ -1,5 +1,6 @@
 package kr.itsdev.devjobcollector.controller;
 
+import kr.itsdev.devjobcollector.dto.JobPostCursorPage;
 import kr.itsdev.devjobcollector.dto.JobPostDetailDto;
 import kr.itsdev.devjobcollector.dto.JobPostDto;
 import kr.itsdev.devjobcollector.service.JobPostService;
@@ -36,6 +37,17 @@ public class JobPostController {
             return ResponseEntity.ok(jobs);
     }
 
+    /**
+     * 채용 공고 목록 커서 조회 (무한 스크롤, 깊은 페이지도 첫 페이지와 같은 비용)
+     * GET /api/v1/jobs?cursor=&size=20 (첫 페이지는 빈 cursor, 이후 응답의 nextCursor 전달)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<JobPostCursorPage> scrollJobs(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(jobPostService.scrollJobPosts(cursor, size));
+    }
+
     /**
      * 채용 공고 상세 조회
      * GET /api/v1/jobs/1
@@ -50,6 +62,7 @@ public class JobPostController {
     /**
      * 채용공고 검색
      * GET /api/v1/jobs/search?keyword=개발자&location=서울&experience=신입&page=0&size=20
+     * sortBy: createdAt(기본) | endDate | relevance(키워드 일치도순, keyword 필요)
      */
     @GetMapping("/search")
     public ResponseEntity<Page<JobPostDto>> searchJobPosts(
@@ -67,7 +80,11 @@ public class JobPostController {
                 keyword, location, experience, page, size);
         Sort.Direction sortDirection = (direction != null) ? direction : Sort.Direction.ASC;
 
-        String sortProperty = "endDate".equals(sortBy) ? "endDate" : "createdAt";
+        String sortProperty = switch (sortBy) {
+            case "endDate" -> "endDate";
+            case "relevance" -> "relevance";
+            default -> "createdAt";
+        };
 
         // 1순위: D-Day(마감일) 오름차순, 2순위: 최근 등록 내림차순
         Sort sort = Sort.by(new Sort.Order(sortDirection, sortProperty))
@@ -82,6 +99,30 @@ public class JobPostController {
         return ResponseEntity.ok(results);               
     }   
 
+    /**
+     * 채용공고 검색 커서 조회
+     * GET /api/v1/jobs/search?cursor=&keyword=개발자&sortBy=endDate&direction=ASC&size=20
+     * sortBy: createdAt(기본) | endDate (relevance는 커서 조회에서 최신순으로 처리)
+     */
+    @GetMapping(path = "/search", params = "cursor")
+    public ResponseEntity<JobPostCursorPage> scrollSearchJobPosts(
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "keyword", required = false) String keyword,
+        @RequestParam(name = "location", required = false) String location,
+        @RequestParam(name = "experience", required = false) String experience,
+        @RequestParam(name = "jobCategory", required = false) String jobCategory,
+        @RequestParam(name = "techStack", required = false) String techStack,
+        @RequestParam(name = "size", defaultValue = "20") int size,
+        @RequestParam(name = "sortBy", defaultValue = "createdAt") String sortBy,
+        @RequestParam(name = "direction", defaultValue = "DESC") Sort.Direction direction
+    ) {
+        String sortProperty = "endDate".equals(sortBy) ? "endDate" : "createdAt";
+        Sort sort = Sort.by(new Sort.Order(direction, sortProperty));
+
+        return ResponseEntity.ok(jobPostService.scrollSearchJobPosts(
+                keyword, location, experience, jobCategory, techStack, sort, cursor, size));
+    }
+
         /**
      * 활성 채용공고만 조회 (마감일이 지나지 않은 공고)
      * GET /api/v1/jobs/active?page=0&size=10
@@ -106,4 +147,16 @@ public class JobPostController {
         Page<JobPostDto> jobs = jobPostService.getJobPostsByTechStack(stackName, pageable);
         return ResponseEntity.ok(jobs);
     } 
+
+    /**
+     * 기술 스택 필터링 커서 조회
+     * GET /api/v1/jobs/tech-stack?stackName=Java&cursor=&size=20
+     */
+    @GetMapping(path = "/tech-stack", params = "cursor")
+    public ResponseEntity<JobPostCursorPage> scrollJobsByTechStack(
+            @RequestParam(name = "stackName") String stackName,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(jobPostService.scrollJobPostsByTechStack(stackName, cursor, size));
+    }
 }
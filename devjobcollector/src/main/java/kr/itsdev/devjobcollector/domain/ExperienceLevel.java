@@ -0,0 +1,54 @@
+package kr.itsdev.devjobcollector.domain;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 경력 조건 정규화 값. job_posts.experience_level에 이름(STRING)으로 저장하므로 상수 이름을 바꾸지 않는다.
+ */
+public enum ExperienceLevel {
+    /** 신입/경력/무관 표기가 없음 (원문 검색으로만 찾는다) */
+    UNKNOWN,
+    /** 신입만 */
+    ENTRY,
+    /** 경력만 (신입·무관 표기 없음) */
+    EXPERIENCED,
+    /** 신입과 경력 모두 */
+    ENTRY_OR_EXPERIENCED,
+    /** 경력 무관 (신입 표기 없음) */
+    ANY,
+    /** 경력 무관이면서 신입 표기도 있음 ("신입/경력 무관") */
+    ENTRY_OR_ANY;
+
+    public static ExperienceLevel classify(String experience) {
+        if (experience == null || experience.isBlank()) {
+            return UNKNOWN;
+        }
+        boolean entry = experience.contains("신입");
+        if (experience.contains("무관")) {
+            return entry ? ENTRY_OR_ANY : ANY;
+        }
+        boolean experienced = experience.contains("경력");
+        if (entry && experienced) {
+            return ENTRY_OR_EXPERIENCED;
+        }
+        if (entry) {
+            return ENTRY;
+        }
+        return experienced ? EXPERIENCED : UNKNOWN;
+    }
+
+    /**
+     * 검색 파라미터(신입/경력/경력무관)가 허용하는 값들. 그 밖의 입력은 원문 검색으로 처리하도록 비워 둔다.
+     * 원문에 "신입"/"무관"이 들어 있는지로 거르던 기존 필터와 같은 결과가 나오도록 묶는다.
+     */
+    public static Optional<Set<ExperienceLevel>> forFilter(String experience) {
+        return switch (experience.trim()) {
+            case "신입" -> Optional.of(EnumSet.of(ENTRY, ENTRY_OR_EXPERIENCED, ENTRY_OR_ANY));
+            case "경력" -> Optional.of(EnumSet.of(EXPERIENCED));
+            case "경력무관" -> Optional.of(EnumSet.of(ANY, ENTRY_OR_ANY));
+            default -> Optional.empty();
+        };
+    }
+}
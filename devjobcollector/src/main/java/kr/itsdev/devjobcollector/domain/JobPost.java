@@ -7,8 +7,10 @@ import org.hibernate.annotations.BatchSize;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Entity
 @Table(name = "job_posts", 
@@ -63,12 +65,29 @@ public class JobPost {
     @Column(name = "original_url", columnDefinition = "TEXT", nullable = false)
     private String originalUrl;
 
-    @Column(name = "apply_qual", columnDefinition = "LONGTEXT")
-    private String applyQual;
-
-    @Column(name = "process_info", columnDefinition = "LONGTEXT")
-    private String processInfo;
    
+    /**
+     * FULLTEXT 검색용 기술 스택명 목록 (공백 구분). post_tags 변경 시 함께 갱신한다.
+     */
+    @Column(name = "tech_stack_names", columnDefinition = "TEXT")
+    private String techStackNames;
+
+    /**
+     * 검색 필터용 분류값 (JobPostClassification). title/jobCategory/experience/location이 바뀔 때 함께 다시 계산한다.
+     */
+    @Column(name = "role_mask", nullable = false)
+    private int roleMask;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level", nullable = false, length = 30)
+    private ExperienceLevel experienceLevel = ExperienceLevel.UNKNOWN;
+
+    @Column(name = "region_mask", nullable = false)
+    private int regionMask;
+
+    @Column(name = "classification_version", nullable = false)
+    private int classificationVersion;
+
     @Column(name = "is_active", nullable = false, columnDefinition = "BOOLEAN DEFAULT true")
     private boolean isActive = true;
 
@@ -96,9 +115,7 @@ public class JobPost {
         String hireType,
         LocalDate startDate,
         LocalDate endDate,
-        String originalUrl,
-        String applyQual,
-        String processInfo) {
+        String originalUrl) {
             this.sourcePlatform = sourcePlatform;
             this.originalSn = originalSn;
             this.companyName = companyName;
@@ -110,9 +127,8 @@ public class JobPost {
             this.startDate = startDate;
             this.endDate = endDate;
             this.originalUrl = originalUrl;
-            this.applyQual = applyQual;
-            this.processInfo = processInfo;            
             this.isActive = true;
+            classify();
             this.postTags = new ArrayList<>();  // ✅ 초기화
             this.files = new ArrayList<>();     // ✅ 초기화
     }
@@ -172,10 +188,32 @@ public class JobPost {
             .build();
     
         this.postTags.add(postTag);
+        refreshTechStackNames();
     }
 
     public void removeTechStack(TechStack techStack) {
         postTags.removeIf(pt -> pt.getTechStack().equals(techStack));
+        refreshTechStackNames();
+    }
+
+    /**
+     * post_tags를 JDBC로 일괄 저장하는 경로용. 연관관계 없이 검색용 기술 스택명만 채운다.
+     */
+    public void applyTechStackNames(Collection<String> stackNames) {
+        this.techStackNames = joinStackNames(stackNames.stream());
+    }
+
+    private void refreshTechStackNames() {
+        this.techStackNames = joinStackNames(postTags.stream()
+            .map(PostTag::getTechStack)
+            .map(TechStack::getStackName));
+    }
+
+    private static String joinStackNames(Stream<String> stackNames) {
+        return stackNames
+            .distinct()
+            .sorted()
+            .collect(Collectors.joining(" "));
     }
 
     public List<TechStack> getTechStacks() {
@@ -201,9 +239,7 @@ public class JobPost {
         String hireType,
         LocalDate startDate,
         LocalDate endDate,
-        String originalUrl,
-        String applyQual,
-        String processInfo) {
+        String originalUrl) {
         this.companyName = companyName;
         this.title = title;
         this.jobCategory = jobCategory;
@@ -213,8 +249,16 @@ public class JobPost {
         this.startDate = startDate;
         this.endDate = endDate;
         this.originalUrl = originalUrl;
-        this.applyQual = applyQual;
-        this.processInfo = processInfo;
         this.isActive = true;
+        classify();
+    }
+
+    private void classify() {
+        JobPostClassification classification =
+            JobPostClassification.classify(title, jobCategory, experience, location);
+        this.roleMask = classification.roleMask();
+        this.experienceLevel = classification.experienceLevel();
+        this.regionMask = classification.regionMask();
+        this.classificationVersion = JobPostClassification.VERSION;
     }
 }
@@ -0,0 +1,24 @@
+package kr.itsdev.devjobcollector.domain;
+
+/**
+ * 저장 시점에 계산하는 공고 분류값. 검색 필터가 문자열 LIKE 대신 작은 정수 컬럼의 비교·비트 검사로 동작하게 한다.
+ *
+ * @param roleMask        JobRole 비트 합 (제목 + 직무 분류)
+ * @param experienceLevel 경력 조건 정규화 값
+ * @param regionMask      Region 비트 합 (근무지)
+ */
+public record JobPostClassification(int roleMask, ExperienceLevel experienceLevel, int regionMask) {
+
+    /**
+     * 분류 규칙 버전. 키워드·규칙을 바꾸면 올리고, JobPostClassificationBackfill이 낮은 버전의 행을 다시 계산한다.
+     * V16 마이그레이션은 버전 2 규칙의 사본으로 채우므로, 규칙을 바꿀 때 올리지 않으면 두 결과가 어긋난다.
+     */
+    public static final int VERSION = 3;
+
+    public static JobPostClassification classify(String title, String jobCategory, String experience, String location) {
+        return new JobPostClassification(
+                JobRole.maskOf(title, jobCategory),
+                ExperienceLevel.classify(experience),
+                Region.maskOf(location));
+    }
+}
@@ -0,0 +1,36 @@
+package kr.itsdev.devjobcollector.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고 상세 본문 (지원 자격, 전형 절차).
+ * 목록/검색 조회에서 LONGTEXT를 읽지 않도록 job_posts와 분리하며, 상세 조회에서만 로딩한다.
+ */
+@Entity
+@Table(name = "job_post_detail")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobPostDetail {
+
+    @Id
+    @Column(name = "job_post_id")
+    private Long jobPostId;
+
+    @Column(name = "apply_qual", columnDefinition = "LONGTEXT")
+    private String applyQual;
+
+    @Column(name = "process_info", columnDefinition = "LONGTEXT")
+    private String processInfo;
+
+    public JobPostDetail(Long jobPostId, String applyQual, String processInfo) {
+        this.jobPostId = jobPostId;
+        this.applyQual = applyQual;
+        this.processInfo = processInfo;
+    }
+}
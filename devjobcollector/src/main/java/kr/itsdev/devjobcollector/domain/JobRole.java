@@ -0,0 +1,66 @@
+package kr.itsdev.devjobcollector.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 직무 분류. job_posts.role_mask에 비트로 저장한다 (한 공고가 여러 직무에 걸칠 수 있다).
+ * 비트 값은 저장된 데이터의 의미이므로 바꾸지 않는다. 키워드를 바꾸면 JobPostClassification.VERSION을 올린다.
+ */
+@Getter
+public enum JobRole {
+    BACKEND("backend", 1, List.of("백엔드", "backend", "back-end", "server")),
+    FRONTEND("frontend", 1 << 1, List.of("프론트엔드", "frontend", "front-end", "web frontend")),
+    FULLSTACK("fullstack", 1 << 2, List.of("풀스택", "fullstack", "full-stack", "full stack")),
+    MOBILE("mobile", 1 << 3, List.of("모바일", "android", "ios", "flutter", "react native")),
+    DATA_AI("data-ai", 1 << 4, List.of("데이터", "data engineer", "machine learning", "머신러닝", "ai engineer", "인공지능")),
+    DEVOPS_SECURITY("devops-security", 1 << 5, List.of("devops", "sre", "platform engineer", "security engineer", "보안", "인프라"));
+
+    private final String param;
+    private final int bit;
+    private final List<String> keywords;
+
+    JobRole(String param, int bit, List<String> keywords) {
+        this.param = param;
+        this.bit = bit;
+        this.keywords = keywords;
+    }
+
+    /**
+     * 검색 파라미터(jobCategory)로 직무를 찾는다.
+     */
+    public static Optional<JobRole> fromParam(String param) {
+        if (param == null) {
+            return Optional.empty();
+        }
+        String normalized = param.trim().toLowerCase(Locale.ROOT);
+        for (JobRole role : values()) {
+            if (role.param.equals(normalized)) {
+                return Optional.of(role);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 제목·직무 분류에 키워드가 들어 있는 직무의 비트 합. 기존 LIKE 필터와 같은 부분 문자열 규칙을 쓴다.
+     */
+    public static int maskOf(String... fields) {
+        int mask = 0;
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            String text = field.toLowerCase(Locale.ROOT);
+            for (JobRole role : values()) {
+                if ((mask & role.bit) == 0 && role.keywords.stream().anyMatch(text::contains)) {
+                    mask |= role.bit;
+                }
+            }
+        }
+        return mask;
+    }
+}
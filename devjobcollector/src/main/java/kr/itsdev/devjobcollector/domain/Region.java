@@ -0,0 +1,96 @@
+package kr.itsdev.devjobcollector.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 근무 지역(시·도 단위 + 원격/해외). job_posts.region_mask에 비트로 저장한다.
+ * 공고 하나에 "서울, 경기"처럼 여러 지역이 적히므로 단일 코드가 아니라 비트 합으로 둔다.
+ * 비트 값은 바꾸지 않는다. 키워드를 바꾸면 JobPostClassification.VERSION을 올린다.
+ */
+@Getter
+public enum Region {
+    SEOUL("서울", 1, List.of("서울", "seoul")),
+    BUSAN("부산", 1 << 1, List.of("부산", "busan")),
+    DAEGU("대구", 1 << 2, List.of("대구", "daegu")),
+    INCHEON("인천", 1 << 3, List.of("인천", "incheon")),
+    // 경기도 광주시("경기 광주")는 광주광역시가 아니다.
+    GWANGJU("광주", 1 << 4, List.of("광주", "gwangju"), List.of("경기", "경기도", "gyeonggi", "gyeonggi-do")),
+    DAEJEON("대전", 1 << 5, List.of("대전", "daejeon")),
+    ULSAN("울산", 1 << 6, List.of("울산", "ulsan")),
+    // "세종대로"(서울) 오인을 피하려고 "세종" 단독은 키워드로 쓰지 않는다.
+    SEJONG("세종", 1 << 7, List.of("세종시", "세종특별자치시", "sejong")),
+    // "판교", "성남" 같은 시 이름은 넣지 않는다. location=경기가 원문에 "경기"가 있는 공고만 찾던 기존 필터보다 넓어진다.
+    GYEONGGI("경기", 1 << 8, List.of("경기", "gyeonggi")),
+    GANGWON("강원", 1 << 9, List.of("강원", "gangwon")),
+    CHUNGBUK("충북", 1 << 10, List.of("충북", "충청북도")),
+    CHUNGNAM("충남", 1 << 11, List.of("충남", "충청남도")),
+    JEONBUK("전북", 1 << 12, List.of("전북", "전라북도")),
+    JEONNAM("전남", 1 << 13, List.of("전남", "전라남도")),
+    GYEONGBUK("경북", 1 << 14, List.of("경북", "경상북도")),
+    GYEONGNAM("경남", 1 << 15, List.of("경남", "경상남도")),
+    JEJU("제주", 1 << 16, List.of("제주", "jeju")),
+    REMOTE("원격", 1 << 17, List.of("원격", "재택", "remote")),
+    OVERSEAS("해외", 1 << 18, List.of("해외", "overseas"));
+
+    private final String label;
+    private final int bit;
+    private final List<String> keywords;
+    // 키워드 바로 앞(공백 제외)에 오면 이 지역으로 보지 않는 표기
+    private final List<String> excludedPrefixes;
+
+    Region(String label, int bit, List<String> keywords) {
+        this(label, bit, keywords, List.of());
+    }
+
+    Region(String label, int bit, List<String> keywords, List<String> excludedPrefixes) {
+        this.label = label;
+        this.bit = bit;
+        this.keywords = keywords;
+        this.excludedPrefixes = excludedPrefixes;
+    }
+
+    /**
+     * 검색 파라미터(location)가 시·도 이름("서울")이나 로마자 표기("seoul")와 정확히 같을 때만 지역으로 본다.
+     * "강남", "판교"처럼 시·도보다 좁은 입력은 원문 검색으로 처리해야 결과가 넓어지지 않는다.
+     */
+    public static Optional<Region> fromParam(String location) {
+        if (location == null) {
+            return Optional.empty();
+        }
+        String normalized = location.trim().toLowerCase(Locale.ROOT);
+        for (Region region : values()) {
+            if (region.label.equals(normalized) || region.name().toLowerCase(Locale.ROOT).equals(normalized)) {
+                return Optional.of(region);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static int maskOf(String location) {
+        if (location == null || location.isBlank()) {
+            return 0;
+        }
+        String text = location.toLowerCase(Locale.ROOT);
+        int mask = 0;
+        for (Region region : values()) {
+            if (region.keywords.stream().anyMatch(keyword -> region.mentions(text, keyword))) {
+                mask |= region.bit;
+            }
+        }
+        return mask;
+    }
+
+    private boolean mentions(String text, String keyword) {
+        for (int at = text.indexOf(keyword); at >= 0; at = text.indexOf(keyword, at + 1)) {
+            String before = text.substring(0, at).stripTrailing();
+            if (excludedPrefixes.stream().noneMatch(before::endsWith)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * 기술 스택 마스터 테이블
@@ -20,6 +22,8 @@ import java.util.List;
 @EqualsAndHashCode(of = "stackName")
 public class TechStack {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -27,12 +31,24 @@ public class TechStack {
     @Column(name = "stack_name", unique = true, nullable = false, length = 50)
     private String stackName;       //기술 명칭 (예: Java, React, MySQL)
 
+    @Column(name = "normalized_key", unique = true, nullable = false, length = 50)
+    private String normalizedKey;   //필터·중복 판정용 키 (예: springboot)
+
     @OneToMany(mappedBy = "techStack", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
 
     @Builder
     public TechStack(String stackName){
         this.stackName = stackName;
+        this.normalizedKey = normalizedKey(stackName);
+    }
+
+    /**
+     * 공백을 모두 지우고 소문자로 바꾼다. "Spring Boot", "springboot", " SPRING BOOT "는 같은 키가 된다.
+     * V14 마이그레이션의 LOWER(REPLACE(TRIM(stack_name), ' ', ''))와 같은 규칙이어야 한다.
+     */
+    public static String normalizedKey(String stackName) {
+        return WHITESPACE.matcher(stackName).replaceAll("").toLowerCase(Locale.ROOT);
     }
 
     public void addPostTag(PostTag postTag){
@@ -0,0 +1,23 @@
+package kr.itsdev.devjobcollector.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 (무한 스크롤)
+ * nextCursor를 다음 요청의 cursor 파라미터로 넘기며, hasNext가 false면 마지막 페이지다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostCursorPage {
+
+    private List<JobPostDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
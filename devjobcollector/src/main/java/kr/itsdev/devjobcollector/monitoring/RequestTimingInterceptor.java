@@ -9,11 +9,19 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.lang.management.ManagementFactory;
+
 @Slf4j
 @Component
 public class RequestTimingInterceptor implements HandlerInterceptor {
 
     private static final String START_TIME_ATTR = "perfRequestStartNano";
+    private static final String START_ALLOCATED_ATTR = "perfRequestStartAllocatedBytes";
+    // HotSpot 확장 MXBean이 있으면 요청 스레드의 힙 할당량을 함께 기록한다 (목록 페이지당 할당량 비교용).
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()
+                    ? bean : null;
     private final long requestThresholdMs;
 
     public RequestTimingInterceptor(PerfLogProperties perfLogProperties) {
@@ -24,6 +32,9 @@ public class RequestTimingInterceptor implements HandlerInterceptor {
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
                              @NonNull Object handler) {
         request.setAttribute(START_TIME_ATTR, System.nanoTime());
+        if (THREAD_MX_BEAN != null) {
+            request.setAttribute(START_ALLOCATED_ATTR, THREAD_MX_BEAN.getCurrentThreadAllocatedBytes());
+        }
         return true;
     }
 
@@ -36,12 +47,13 @@ public class RequestTimingInterceptor implements HandlerInterceptor {
         }
 
         double elapsedMs = (System.nanoTime() - startNano) / 1_000_000.0;
-        String message = "API timing [{} {}] status={} elapsedMs={}";
+        String message = "API timing [{} {}] status={} elapsedMs={} allocatedKb={}";
         Object[] args = new Object[] {
                 request.getMethod(),
                 request.getRequestURI(),
                 response.getStatus(),
-                String.format("%.2f", elapsedMs)
+                String.format("%.2f", elapsedMs),
+                allocatedKb(request)
         };
 
         if (elapsedMs >= requestThresholdMs) {
@@ -50,4 +62,12 @@ public class RequestTimingInterceptor implements HandlerInterceptor {
         }
         log.info(message, args);
     }
+
+    private static String allocatedKb(HttpServletRequest request) {
+        if (THREAD_MX_BEAN == null || !(request.getAttribute(START_ALLOCATED_ATTR) instanceof Long startBytes)) {
+            return "n/a";
+        }
+        long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startBytes;
+        return String.format("%.1f", allocated / 1024.0);
+    }
 }
@@ -0,0 +1,39 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.JobPostClassification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC 배치 기반 대량 저장용 리포지토리 인터페이스.
+ */
+public interface JobPostBatchRepository {
+
+    /**
+     * 신규 공고 일괄 INSERT (영속성 컨텍스트를 거치지 않으므로 ID는 별도 조회한다)
+     */
+    void insertAll(List<JobPost> jobPosts);
+
+    /**
+     * post_tags 일괄 INSERT (공고 ID → 기술 스택 ID 목록). 이미 있는 조합은 무시한다.
+     */
+    void insertPostTags(Map<Long, ? extends Collection<Integer>> techStackIdsByJobPostId);
+
+    /**
+     * 키에 있는 공고의 post_tags를 지우고 주어진 기술 스택으로 다시 채운다 (빈 목록이면 지우기만 한다).
+     */
+    void replacePostTags(Map<Long, ? extends Collection<Integer>> techStackIdsByJobPostId);
+
+    /**
+     * 분류 버전이 version보다 낮은 공고를 id 순으로 조회한다 (백필용).
+     */
+    List<JobPostClassificationSource> findStaleClassifications(int version, long afterId, int limit);
+
+    /**
+     * 공고 ID별 분류값을 일괄 UPDATE하고 분류 버전을 version으로 올린다.
+     */
+    void updateClassifications(Map<Long, JobPostClassification> classificationsByJobPostId, int version);
+}
@@ -0,0 +1,134 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.JobPostClassification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JobPostBatchRepositoryImpl implements JobPostBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO job_posts (source_platform, original_sn, company_name, title, job_category,
+                                   experience, location, hire_type, start_date, end_date, original_url,
+                                   tech_stack_names, role_mask, experience_level, region_mask,
+                                   classification_version, is_active, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_POST_TAG_SQL =
+            "INSERT IGNORE INTO post_tags (job_post_id, tech_stack_id) VALUES (?, ?)";
+    private static final String DELETE_POST_TAGS_SQL = "DELETE FROM post_tags WHERE job_post_id IN (%s)";
+    private static final String SELECT_STALE_CLASSIFICATION_SQL = """
+            SELECT id, title, job_category, experience, location
+            FROM job_posts
+            WHERE classification_version < ? AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String UPDATE_CLASSIFICATION_SQL = """
+            UPDATE job_posts
+            SET role_mask = ?, experience_level = ?, region_mask = ?, classification_version = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<JobPost> jobPosts) {
+        if (jobPosts.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, jobPosts, BATCH_SIZE, (ps, jobPost) -> {
+            if (jobPost.getEndDate().isBefore(jobPost.getStartDate())) {
+                throw new IllegalStateException("종료일은 시작일보다 이전일 수 없습니다.");
+            }
+            ps.setString(1, jobPost.getSourcePlatform().name());
+            ps.setString(2, jobPost.getOriginalSn());
+            ps.setString(3, jobPost.getCompanyName());
+            ps.setString(4, jobPost.getTitle());
+            ps.setString(5, jobPost.getJobCategory());
+            ps.setString(6, jobPost.getExperience());
+            ps.setString(7, jobPost.getLocation());
+            ps.setString(8, jobPost.getHireType());
+            ps.setDate(9, Date.valueOf(jobPost.getStartDate()));
+            ps.setDate(10, Date.valueOf(jobPost.getEndDate()));
+            ps.setString(11, jobPost.getOriginalUrl());
+            ps.setString(12, jobPost.getTechStackNames());
+            ps.setInt(13, jobPost.getRoleMask());
+            ps.setString(14, jobPost.getExperienceLevel().name());
+            ps.setInt(15, jobPost.getRegionMask());
+            ps.setInt(16, jobPost.getClassificationVersion());
+            ps.setBoolean(17, true);
+            ps.setTimestamp(18, createdAt);
+        });
+    }
+
+    @Override
+    public void insertPostTags(Map<Long, ? extends Collection<Integer>> techStackIdsByJobPostId) {
+        List<long[]> rows = new ArrayList<>();
+        techStackIdsByJobPostId.forEach((jobPostId, techStackIds) ->
+                techStackIds.forEach(techStackId -> rows.add(new long[]{jobPostId, techStackId})));
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_POST_TAG_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setInt(2, (int) row[1]);
+        });
+    }
+
+    @Override
+    public void replacePostTags(Map<Long, ? extends Collection<Integer>> techStackIdsByJobPostId) {
+        if (techStackIdsByJobPostId.isEmpty()) {
+            return;
+        }
+        List<Long> jobPostIds = List.copyOf(techStackIdsByJobPostId.keySet());
+        jdbcTemplate.update(DELETE_POST_TAGS_SQL.formatted(placeholders(jobPostIds.size())), jobPostIds.toArray());
+        insertPostTags(techStackIdsByJobPostId);
+    }
+
+    @Override
+    public List<JobPostClassificationSource> findStaleClassifications(int version, long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_STALE_CLASSIFICATION_SQL,
+                (rs, rowNum) -> new JobPostClassificationSource(
+                        rs.getLong("id"),
+                        rs.getString("title"),
+                        rs.getString("job_category"),
+                        rs.getString("experience"),
+                        rs.getString("location")),
+                version, afterId, limit);
+    }
+
+    @Override
+    public void updateClassifications(Map<Long, JobPostClassification> classificationsByJobPostId, int version) {
+        if (classificationsByJobPostId.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_CLASSIFICATION_SQL, List.copyOf(classificationsByJobPostId.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    JobPostClassification classification = entry.getValue();
+                    ps.setInt(1, classification.roleMask());
+                    ps.setString(2, classification.experienceLevel().name());
+                    ps.setInt(3, classification.regionMask());
+                    ps.setInt(4, version);
+                    ps.setLong(5, entry.getKey());
+                });
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,13 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.JobPostClassification;
+
+/**
+ * 분류 백필 대상 공고의 분류 입력 컬럼.
+ */
+public record JobPostClassificationSource(Long id, String title, String jobCategory, String experience, String location) {
+
+    public JobPostClassification classify() {
+        return JobPostClassification.classify(title, jobCategory, experience, location);
+    }
+}
@@ -0,0 +1,41 @@
+package kr.itsdev.devjobcollector.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 위치 (마지막으로 내려준 공고의 정렬 키).
+ * 클라이언트에는 불투명한 base64url 문자열로 전달한다.
+ */
+public record JobPostCursor(LocalDate endDate, LocalDateTime createdAt, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static JobPostCursor after(JobPostSummary summary) {
+        return new JobPostCursor(summary.endDate(), summary.createdAt(), summary.id());
+    }
+
+    public String encode() {
+        String raw = endDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 커서
+     */
+    public static JobPostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new JobPostCursor(LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.JobPostDetail;
+
+import java.util.Collection;
+
+public interface JobPostDetailBatchRepository {
+    void upsertAll(Collection<JobPostDetail> details);
+}
@@ -0,0 +1,35 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.JobPostDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JobPostDetailBatchRepositoryImpl implements JobPostDetailBatchRepository {
+
+    private static final int BATCH_SIZE = 200;
+    private static final String UPSERT_SQL = """
+            INSERT INTO job_post_detail (job_post_id, apply_qual, process_info)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE apply_qual = VALUES(apply_qual), process_info = VALUES(process_info)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(Collection<JobPostDetail> details) {
+        if (details.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, List.copyOf(details), BATCH_SIZE, (ps, detail) -> {
+            ps.setLong(1, detail.getJobPostId());
+            ps.setString(2, detail.getApplyQual());
+            ps.setString(3, detail.getProcessInfo());
+        });
+    }
+}
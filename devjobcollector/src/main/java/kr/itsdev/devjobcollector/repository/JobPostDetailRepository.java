@@ -0,0 +1,12 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.JobPostDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 공고 상세 본문 Repository (상세 조회 전용 로딩)
+ */
+@Repository
+public interface JobPostDetailRepository extends JpaRepository<JobPostDetail, Long>, JobPostDetailBatchRepository {
+}
@@ -0,0 +1,7 @@
+package kr.itsdev.devjobcollector.repository;
+
+/**
+ * 공고 식별자 조회용 projection (원본 일련번호 → ID)
+ */
+public record JobPostKey(Long id, String originalSn) {
+}
@@ -2,6 +2,7 @@ package kr.itsdev.devjobcollector.repository;
 
 import kr.itsdev.devjobcollector.domain.JobPost;
 import kr.itsdev.devjobcollector.domain.SourcePlatform;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -13,6 +14,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,7 +23,8 @@ import java.util.Optional;
  * 채용 공고 데이터 접근 계층
  */
 @Repository
-public interface JobPostRepository extends JpaRepository<JobPost, Long>, JobPostRepositoryCustom {
+public interface JobPostRepository extends JpaRepository<JobPost, Long>, JobPostRepositoryCustom,
+        JobPostBatchRepository {
     
     // ===== 기본 조회 (무한 스크롤 대응 Slice) =====
     
@@ -73,6 +76,50 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long>, JobPost
         String originalSn
     );
     
+    /**
+     * 플랫폼 + 원본 일련번호 목록으로 일괄 조회 (수집 결과 prefetch)
+     */
+    List<JobPost> findBySourcePlatformAndOriginalSnIn(
+        SourcePlatform sourcePlatform,
+        Collection<String> originalSns
+    );
+
+    /**
+     * 플랫폼 + 원본 일련번호 목록의 공고 ID 조회 (배치 INSERT 후 ID 매핑)
+     */
+    @Query("SELECT new kr.itsdev.devjobcollector.repository.JobPostKey(j.id, j.originalSn) " +
+           "FROM JobPost j " +
+           "WHERE j.sourcePlatform = :platform " +
+           "AND j.originalSn IN :originalSns")
+    List<JobPostKey> findKeysBySourcePlatformAndOriginalSnIn(
+        @Param("platform") SourcePlatform platform,
+        @Param("originalSns") Collection<String> originalSns
+    );
+
+    // ===== 검색 색인 =====
+
+    /**
+     * 색인 재구축용 활성 공고 ID (id 기준 keyset 페이징)
+     */
+    @Query("SELECT j.id FROM JobPost j WHERE j.isActive = true AND j.id > :afterId ORDER BY j.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * 공고 + 기술스택 일괄 조회 (색인 문서 생성)
+     */
+    @EntityGraph(attributePaths = {"postTags", "postTags.techStack"})
+    List<JobPost> findWithTechStacksByIdIn(Collection<Long> ids);
+
+    /**
+     * 색인 대상(활성 공고) 필드 체크섬. 값이 같으면 기존 색인을 재사용한다.
+     */
+    @Query(value = "SELECT CONCAT(COUNT(*), ':', COALESCE(BIT_XOR(CRC32(CONCAT_WS('|', id, title, company_name, " +
+                   "location, experience, job_category, tech_stack_names, role_mask, experience_level, region_mask, " +
+                   "end_date, created_at))), 0)) " +
+                   "FROM job_posts WHERE is_active = true",
+           nativeQuery = true)
+    String computeSearchIndexChecksum();
+
     // ===== 날짜 필터링 =====
     
     /**
@@ -137,11 +184,14 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long>, JobPost
     long countTodayPosts(@Param("today") LocalDate today);
 
     /**
-     * 만료된 공고 비활성화
+     * 만료된 공고 비활성화 (chunk 단위, 잠금 범위를 limit 건으로 제한)
      */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE JobPost j SET j.isActive = false WHERE j.endDate < :today AND j.isActive = true")
-    int deactivateExpired(@Param("today") LocalDate today);
+    @Query(value = "UPDATE job_posts SET is_active = false " +
+                   "WHERE is_active = true AND end_date < :today " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int deactivateExpiredChunk(@Param("today") LocalDate today, @Param("limit") int limit);
 
     /**
      * 1년 이상 지난 비활성 공고 ID 조회 (백업용)
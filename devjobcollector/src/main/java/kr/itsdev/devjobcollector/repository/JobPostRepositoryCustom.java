@@ -1,26 +1,29 @@
 package kr.itsdev.devjobcollector.repository;
 
-import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.dto.TechStackDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Querydsl 기반 성능 최적화용 커스텀 리포지토리 인터페이스.
+ * 목록/검색은 엔티티 대신 {@link JobPostSummary} 프로젝션을 반환한다.
+ * 기술 스택 필터는 호출부가 표준 기술 스택(ID)으로 풀어서 넘긴다 (post_tags.tech_stack_id 동등 조건).
  */
 public interface JobPostRepositoryCustom {
 
     /**
      * 전체 필드 통합 검색 (COUNT 쿼리 최적화)
      */
-    Page<JobPost> searchByAllFieldsOptimized(
+    Page<JobPostSummary> searchByAllFieldsOptimized(
             String keyword,
             String location,
             String experience,
             String jobCategory,
-            String techStackName,
+            TechStackDto techStackFilter,
             LocalDate today,
             Pageable pageable
     );
@@ -28,5 +31,26 @@ public interface JobPostRepositoryCustom {
     /**
      * 기술 스택 다중 검색 (COUNT 최적화)
      */
-    Page<JobPost> findByTechStackNamesOptimized(List<String> stackNames, LocalDate today, Pageable pageable);
+    Page<JobPostSummary> findByTechStackIdsOptimized(List<Integer> techStackIds, LocalDate today, Pageable pageable);
+
+    /**
+     * 통합 검색 커서 조회 (OFFSET 없이 커서 다음 행부터 limit 건)
+     * 정렬은 sort의 첫 항목(createdAt 또는 endDate)만 사용한다.
+     */
+    List<JobPostSummary> scrollByAllFields(
+            String keyword,
+            String location,
+            String experience,
+            String jobCategory,
+            TechStackDto techStackFilter,
+            LocalDate today,
+            Sort sort,
+            JobPostCursor after,
+            int limit
+    );
+
+    /**
+     * 기술 스택 다중 검색 커서 조회 (최신 등록순)
+     */
+    List<JobPostSummary> scrollByTechStackIds(List<Integer> techStackIds, LocalDate today, JobPostCursor after, int limit);
 }
@@ -1,17 +1,46 @@
 package kr.itsdev.devjobcollector.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.config.JobPostSearchProperties;
+import kr.itsdev.devjobcollector.config.MySqlBitFunctionContributor;
+import kr.itsdev.devjobcollector.config.MySqlFullTextFunctionContributor;
+import kr.itsdev.devjobcollector.domain.ExperienceLevel;
+import kr.itsdev.devjobcollector.domain.JobRole;
+import kr.itsdev.devjobcollector.domain.QPostTag;
+import kr.itsdev.devjobcollector.domain.Region;
+import kr.itsdev.devjobcollector.dto.TechStackDto;
+import kr.itsdev.devjobcollector.search.JobPostSearchCriteria;
+import kr.itsdev.devjobcollector.search.JobPostSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static kr.itsdev.devjobcollector.domain.QJobPost.jobPost;
 import static kr.itsdev.devjobcollector.domain.QPostTag.postTag;
@@ -21,131 +50,307 @@ import static kr.itsdev.devjobcollector.domain.QTechStack.techStack;
 @RequiredArgsConstructor
 public class JobPostRepositoryCustomImpl implements JobPostRepositoryCustom {
 
+    /** innodb ngram_token_size 기본값. 이보다 짧은 키워드는 ngram 토큰이 없어 LIKE로 처리한다. */
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final QPostTag filterTag = new QPostTag("filterTag");
+
+    private static final ConstructorExpression<JobPostSummary> SUMMARY = Projections.constructor(
+            JobPostSummary.class,
+            jobPost.id,
+            jobPost.sourcePlatform,
+            jobPost.companyName,
+            jobPost.title,
+            jobPost.jobCategory,
+            jobPost.experience,
+            jobPost.location,
+            jobPost.hireType,
+            jobPost.startDate,
+            jobPost.endDate,
+            jobPost.originalUrl,
+            jobPost.isActive,
+            jobPost.createdAt);
+
     private final JPAQueryFactory queryFactory;
+    private final JobPostSearchProperties searchProperties;
+    private final ObjectProvider<JobPostSearchIndex> searchIndex;
 
+    /**
+     * 1) 조건/정렬/페이지를 적용해 ID와 요약 컬럼을 조회하고 2) 해당 ID의 기술 스택만 튜플로 조회해 조립한다.
+     * 엔티티를 로딩하지 않으므로 컬렉션 fetch join의 메모리 페이징과 영속성 컨텍스트 적재가 없다.
+     */
     @SuppressWarnings("null") // Stream/JPA nullness inference noise
     @Override
-    public Page<JobPost> searchByAllFieldsOptimized(
+    public Page<JobPostSummary> searchByAllFieldsOptimized(
             String keyword,
             String location,
             String experience,
             String jobCategory,
-            String techStackName,
+            TechStackDto techStackFilter,
             LocalDate today,
             Pageable pageable
     ) {
-        JPAQuery<JobPost> contentQuery = queryFactory
-                .selectFrom(jobPost)
-                .distinct()
-                .leftJoin(jobPost.postTags, postTag).fetchJoin()
-                .leftJoin(postTag.techStack, techStack).fetchJoin()
-                .where(
-                        jobPost.isActive.eq(true),
-                        jobPost.endDate.goe(today),
-                        keywordCondition(keyword),
-                        containsIgnoreCase(jobPost.location, location),
-                        experienceCondition(experience),
-                        jobRoleCondition(jobCategory),
-                        techStackCondition(techStackName)
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        boolean deadlineSort = pageable.getSort().stream()
-                .findFirst()
-                .map(order -> order.getProperty().equals("endDate"))
-                .orElse(false);
-        boolean ascending = pageable.getSort().stream()
-                .findFirst()
-                .map(order -> order.getDirection().isAscending())
-                .orElse(false);
-
-        if (deadlineSort) {
-            contentQuery.orderBy(
-                    ascending ? jobPost.endDate.asc() : jobPost.endDate.desc(),
-                    jobPost.createdAt.desc()
-            );
-        } else {
-            contentQuery.orderBy(ascending ? jobPost.createdAt.asc() : jobPost.createdAt.desc());
+        Optional<JobPostSearchIndex.IdPage> indexed = searchLuceneIndex(
+                new JobPostSearchCriteria(keyword, location, experience, jobCategory,
+                        techStackFilter == null ? null : techStackFilter.getStackName(), today), pageable);
+        if (indexed.isPresent()) {
+            return new PageImpl<>(
+                    findSummariesInOrder(indexed.get().jobPostIds()), pageable, indexed.get().total());
         }
 
-        List<JobPost> content = contentQuery.fetch();
+        NumberExpression<Double> relevance = relevance(keyword);
+        Predicate[] conditions = {
+                jobPost.isActive.eq(true),
+                jobPost.endDate.goe(today),
+                relevance != null ? relevance.gt(0.0) : keywordCondition(keyword),
+                locationCondition(location),
+                experienceCondition(experience),
+                jobRoleCondition(jobCategory),
+                techStackCondition(techStackFilter)
+        };
+
+        List<JobPostSummary> content = withTechStacks(queryFactory
+                .select(SUMMARY)
+                .from(jobPost)
+                .where(conditions)
+                .orderBy(searchOrder(pageable.getSort(), relevance))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
 
         JPAQuery<Long> countQuery = queryFactory
-                .select(jobPost.countDistinct())
+                .select(jobPost.count())
+                .from(jobPost)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @SuppressWarnings("null") // Stream/JPA nullness inference noise
+    @Override
+    public Page<JobPostSummary> findByTechStackIdsOptimized(List<Integer> techStackIds, LocalDate today, Pageable pageable) {
+        Predicate[] conditions = {
+                jobPost.isActive.eq(true),
+                jobPost.endDate.goe(today),
+                hasTechStack(filterTag.techStack.id.in(techStackIds))
+        };
+
+        List<JobPostSummary> content = withTechStacks(queryFactory
+                .select(SUMMARY)
+                .from(jobPost)
+                .where(conditions)
+                .orderBy(jobPost.createdAt.desc(), jobPost.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(jobPost.count())
+                .from(jobPost)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<JobPostSummary> scrollByAllFields(
+            String keyword,
+            String location,
+            String experience,
+            String jobCategory,
+            TechStackDto techStackFilter,
+            LocalDate today,
+            Sort sort,
+            JobPostCursor after,
+            int limit
+    ) {
+        NumberExpression<Double> relevance = relevance(keyword);
+        return withTechStacks(queryFactory
+                .select(SUMMARY)
                 .from(jobPost)
-                .leftJoin(jobPost.postTags, postTag)
-                .leftJoin(postTag.techStack, techStack)
                 .where(
                         jobPost.isActive.eq(true),
                         jobPost.endDate.goe(today),
-                        keywordConditionForCount(keyword),
-                        containsIgnoreCase(jobPost.location, location),
+                        relevance != null ? relevance.gt(0.0) : keywordCondition(keyword),
+                        locationCondition(location),
                         experienceCondition(experience),
                         jobRoleCondition(jobCategory),
-                        techStackCondition(techStackName)
-                );
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+                        techStackCondition(techStackFilter),
+                        seekCondition(sort, after)
+                )
+                .orderBy(searchOrder(sort, null))
+                .limit(limit)
+                .fetch());
     }
 
-    @SuppressWarnings("null") // Stream/JPA nullness inference noise
     @Override
-    public Page<JobPost> findByTechStackNamesOptimized(List<String> stackNames, LocalDate today, Pageable pageable) {
-        List<Long> jobPostIds = queryFactory
-                .select(jobPost.id)
-                .distinct()
+    public List<JobPostSummary> scrollByTechStackIds(List<Integer> techStackIds, LocalDate today, JobPostCursor after, int limit) {
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"));
+        return withTechStacks(queryFactory
+                .select(SUMMARY)
                 .from(jobPost)
-                .join(jobPost.postTags, postTag)
-                .join(postTag.techStack, techStack)
                 .where(
-                        techStack.stackName.in(stackNames),
                         jobPost.isActive.eq(true),
-                        jobPost.endDate.goe(today)
+                        jobPost.endDate.goe(today),
+                        hasTechStack(filterTag.techStack.id.in(techStackIds)),
+                        seekCondition(sort, after)
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(jobPost.createdAt.desc())
-                .fetch();
-
-        List<JobPost> content = jobPostIds.isEmpty() ?
-                List.of() :
-                queryFactory
-                        .selectFrom(jobPost)
-                        .leftJoin(jobPost.postTags, postTag).fetchJoin()
-                        .leftJoin(postTag.techStack, techStack).fetchJoin()
-                        .where(jobPost.id.in(jobPostIds))
-                        .orderBy(jobPost.createdAt.desc())
-                        .fetch();
+                .orderBy(searchOrder(sort, null))
+                .limit(limit)
+                .fetch());
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(jobPost.countDistinct())
+    /**
+     * Lucene 엔진이 준비되어 있으면 색인에서 ID 페이지를 찾는다. 색인 구축 전이거나
+     * 색인으로 표현할 수 없는 조건이면 empty를 반환해 DB 검색으로 처리한다.
+     */
+    private Optional<JobPostSearchIndex.IdPage> searchLuceneIndex(JobPostSearchCriteria criteria, Pageable pageable) {
+        if (searchProperties.engine() != JobPostSearchProperties.Engine.LUCENE) {
+            return Optional.empty();
+        }
+        JobPostSearchIndex index = searchIndex.getIfAvailable();
+        if (index == null || !index.isReady()) {
+            return Optional.empty();
+        }
+        return index.search(criteria, pageable);
+    }
+
+    /**
+     * Lucene이 정한 ID 순서대로 요약을 조회한다.
+     */
+    private List<JobPostSummary> findSummariesInOrder(List<Long> jobPostIds) {
+        if (jobPostIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobPostSummary> summariesById = withTechStacks(queryFactory
+                .select(SUMMARY)
                 .from(jobPost)
-                .join(jobPost.postTags, postTag)
+                .where(jobPost.id.in(jobPostIds))
+                .fetch())
+                .stream()
+                .collect(Collectors.toMap(JobPostSummary::id, Function.identity()));
+        return jobPostIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 페이지에 포함된 공고의 (jobPostId, stackId, stackName) 튜플만 한 번에 조회해 요약에 붙인다.
+     */
+    private List<JobPostSummary> withTechStacks(List<JobPostSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        List<Long> jobPostIds = summaries.stream().map(JobPostSummary::id).toList();
+        Map<Long, List<TechStackDto>> stacksByJobPostId = new HashMap<>();
+        for (Tuple row : queryFactory
+                .select(postTag.jobPost.id, techStack.id, techStack.stackName)
+                .from(postTag)
                 .join(postTag.techStack, techStack)
-                .where(
-                        techStack.stackName.in(stackNames),
-                        jobPost.isActive.eq(true),
-                        jobPost.endDate.goe(today)
-                );
+                .where(postTag.jobPost.id.in(jobPostIds))
+                .orderBy(postTag.id.asc())
+                .fetch()) {
+            stacksByJobPostId.computeIfAbsent(row.get(postTag.jobPost.id), ignored -> new ArrayList<>())
+                    .add(new TechStackDto(row.get(techStack.id), row.get(techStack.stackName)));
+        }
+        return summaries.stream()
+                .map(summary -> summary.withTechStacks(stacksByJobPostId.getOrDefault(summary.id(), List.of())))
+                .toList();
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    private OrderSpecifier<?>[] searchOrder(Sort sort, NumberExpression<Double> relevance) {
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+        String property = first == null ? "createdAt" : first.getProperty();
+        boolean ascending = first != null && first.isAscending();
+
+        if ("relevance".equals(property) && relevance != null) {
+            return new OrderSpecifier<?>[]{relevance.desc(), jobPost.createdAt.desc(), jobPost.id.desc()};
+        }
+        if ("endDate".equals(property)) {
+            return new OrderSpecifier<?>[]{
+                    ascending ? jobPost.endDate.asc() : jobPost.endDate.desc(),
+                    jobPost.createdAt.desc(),
+                    jobPost.id.desc()
+            };
+        }
+        return new OrderSpecifier<?>[]{
+                ascending ? jobPost.createdAt.asc() : jobPost.createdAt.desc(),
+                ascending ? jobPost.id.asc() : jobPost.id.desc()
+        };
     }
 
-    private BooleanExpression keywordCondition(String keyword) {
-        if (keyword == null || keyword.isEmpty()) {
+    /**
+     * searchOrder(sort, null) 정렬에서 커서 다음 행부터 읽는 조건.
+     * 마감일 정렬은 (end_date, created_at DESC, id DESC), 그 외는 (created_at, id) 기준으로 seek 한다.
+     */
+    private BooleanExpression seekCondition(Sort sort, JobPostCursor after) {
+        if (after == null) {
             return null;
         }
-        String likeKeyword = "%" + keyword.toLowerCase() + "%";
-        return jobPost.title.lower().like(likeKeyword)
-                .or(jobPost.companyName.lower().like(likeKeyword))
-                .or(jobPost.location.lower().like(likeKeyword))
-                .or(jobPost.experience.lower().like(likeKeyword))
-                .or(jobPost.jobCategory.lower().like(likeKeyword))
-                .or(techStack.stackName.lower().like(likeKeyword));
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+        boolean ascending = first != null && first.isAscending();
+
+        if (first != null && "endDate".equals(first.getProperty())) {
+            BooleanExpression sameEndDate = jobPost.endDate.eq(after.endDate()).and(createdAtIdAfter(after, false));
+            return (ascending ? jobPost.endDate.gt(after.endDate()) : jobPost.endDate.lt(after.endDate()))
+                    .or(sameEndDate);
+        }
+        return createdAtIdAfter(after, ascending);
+    }
+
+    private BooleanExpression createdAtIdAfter(JobPostCursor after, boolean ascending) {
+        BooleanExpression sameCreatedAt = jobPost.createdAt.eq(after.createdAt());
+        return ascending
+                ? jobPost.createdAt.gt(after.createdAt()).or(sameCreatedAt.and(jobPost.id.gt(after.id())))
+                : jobPost.createdAt.lt(after.createdAt()).or(sameCreatedAt.and(jobPost.id.lt(after.id())));
+    }
+
+    /**
+     * FULLTEXT 엔진일 때 MATCH ... AGAINST 점수식. 인덱스를 쓸 수 없는 키워드면 null (LIKE 폴백).
+     */
+    private NumberExpression<Double> relevance(String keyword) {
+        if (searchProperties.engine() != JobPostSearchProperties.Engine.FULLTEXT) {
+            return null;
+        }
+        String phrase = fullTextPhrase(keyword);
+        if (phrase == null) {
+            return null;
+        }
+        return Expressions.numberTemplate(Double.class,
+                "function('" + MySqlFullTextFunctionContributor.MATCH_AGAINST + "', {0}, {1}, {2}, {3}, {4}, {5}, {6})",
+                jobPost.title,
+                jobPost.companyName,
+                jobPost.location,
+                jobPost.experience,
+                jobPost.jobCategory,
+                jobPost.techStackNames,
+                phrase);
+    }
+
+    /**
+     * BOOLEAN MODE 연산자를 제거하고 구문 검색("...")으로 감싼다.
+     * ngram 토큰 크기보다 짧으면 null을 반환한다.
+     */
+    static String fullTextPhrase(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String terms = WHITESPACE.matcher(BOOLEAN_OPERATORS.matcher(keyword).replaceAll(" "))
+                .replaceAll(" ")
+                .strip();
+        if (terms.codePointCount(0, terms.length()) < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return "\"" + terms + "\"";
     }
 
-    private BooleanExpression keywordConditionForCount(String keyword) {
+    /**
+     * ngram보다 짧은 키워드용 LIKE 폴백. 기술 스택은 상관 서브쿼리 대신 비정규화된 tech_stack_names에서 찾는다.
+     */
+    private BooleanExpression keywordCondition(String keyword) {
         if (keyword == null || keyword.isEmpty()) {
             return null;
         }
@@ -155,7 +360,7 @@ public class JobPostRepositoryCustomImpl implements JobPostRepositoryCustom {
                 .or(jobPost.location.lower().like(likeKeyword))
                 .or(jobPost.experience.lower().like(likeKeyword))
                 .or(jobPost.jobCategory.lower().like(likeKeyword))
-                .or(techStack.stackName.lower().like(likeKeyword));
+                .or(jobPost.techStackNames.lower().like(likeKeyword));
     }
 
     private BooleanExpression containsIgnoreCase(
@@ -165,45 +370,57 @@ public class JobPostRepositoryCustomImpl implements JobPostRepositoryCustom {
         return value == null || value.isBlank() ? null : path.containsIgnoreCase(value.trim());
     }
 
-    private BooleanExpression techStackCondition(String techStackName) {
-        return techStackName == null || techStackName.isBlank()
-                ? null
-                : techStack.stackName.equalsIgnoreCase(techStackName.trim());
+    private BooleanExpression techStackCondition(TechStackDto techStackFilter) {
+        return techStackFilter == null ? null : hasTechStack(filterTag.techStack.id.eq(techStackFilter.getId()));
+    }
+
+    /**
+     * tech_stacks 조인 없이 post_tags의 (job_post_id, tech_stack_id) 유니크 인덱스만으로 판정한다.
+     */
+    private BooleanExpression hasTechStack(BooleanExpression stackCondition) {
+        return JPAExpressions
+                .selectOne()
+                .from(filterTag)
+                .where(filterTag.jobPost.eq(jobPost), stackCondition)
+                .exists();
+    }
+
+    /**
+     * 시·도 이름(또는 키워드)과 정확히 같은 입력은 region_mask 비트 검사, 그보다 좁은 입력("강남")은 원문 검색.
+     */
+    private BooleanExpression locationCondition(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return Region.fromParam(location)
+                .map(region -> hasBit(jobPost.regionMask, region.getBit()))
+                .orElseGet(() -> containsIgnoreCase(jobPost.location, location));
     }
 
     private BooleanExpression experienceCondition(String experience) {
         if (experience == null || experience.isBlank()) {
             return null;
         }
-
-        return switch (experience) {
-            case "신입" -> jobPost.experience.containsIgnoreCase("신입");
-            case "경력" -> jobPost.experience.containsIgnoreCase("경력")
-                    .and(jobPost.experience.containsIgnoreCase("신입").not())
-                    .and(jobPost.experience.containsIgnoreCase("무관").not());
-            case "경력무관" -> jobPost.experience.containsIgnoreCase("무관");
-            default -> jobPost.experience.containsIgnoreCase(experience.trim());
-        };
+        return ExperienceLevel.forFilter(experience)
+                .map(jobPost.experienceLevel::in)
+                .orElseGet(() -> jobPost.experience.containsIgnoreCase(experience.trim()));
     }
 
     private BooleanExpression jobRoleCondition(String role) {
         if (role == null || role.isBlank()) {
             return null;
         }
+        return JobRole.fromParam(role)
+                .map(jobRole -> hasBit(jobPost.roleMask, jobRole.getBit()))
+                .orElseGet(() -> containsAny(JobRoleKeywords.forRole(role)));
+    }
 
-        return switch (role.toLowerCase()) {
-            case "backend" -> containsAny("백엔드", "backend", "back-end", "server");
-            case "frontend" -> containsAny("프론트엔드", "frontend", "front-end", "web frontend");
-            case "fullstack" -> containsAny("풀스택", "fullstack", "full-stack", "full stack");
-            case "mobile" -> containsAny("모바일", "android", "ios", "flutter", "react native");
-            case "data-ai" -> containsAny("데이터", "data engineer", "machine learning", "머신러닝", "ai engineer", "인공지능");
-            case "devops-security" -> containsAny("devops", "sre", "platform engineer", "security engineer", "보안", "인프라");
-            default -> jobPost.title.containsIgnoreCase(role)
-                    .or(jobPost.jobCategory.containsIgnoreCase(role));
-        };
+    private static BooleanExpression hasBit(NumberPath<Integer> mask, int bit) {
+        return Expressions.numberTemplate(Integer.class,
+                "function('" + MySqlBitFunctionContributor.BIT_AND + "', {0}, {1})", mask, bit).ne(0);
     }
 
-    private BooleanExpression containsAny(String... values) {
+    private BooleanExpression containsAny(List<String> values) {
         BooleanExpression condition = null;
         for (String value : values) {
             BooleanExpression next = jobPost.title.containsIgnoreCase(value)
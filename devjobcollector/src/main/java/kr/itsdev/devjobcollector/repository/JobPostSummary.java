@@ -0,0 +1,57 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.SourcePlatform;
+import kr.itsdev.devjobcollector.dto.TechStackDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록/검색용 공고 요약 (Querydsl DTO 프로젝션).
+ * 엔티티를 로딩하지 않으므로 영속성 컨텍스트와 dirty checking 대상에 들어가지 않는다.
+ */
+public record JobPostSummary(
+        Long id,
+        SourcePlatform sourcePlatform,
+        String companyName,
+        String title,
+        String jobCategory,
+        String experience,
+        String location,
+        String hireType,
+        LocalDate startDate,
+        LocalDate endDate,
+        String originalUrl,
+        boolean active,
+        LocalDateTime createdAt,
+        List<TechStackDto> techStacks
+) {
+
+    /**
+     * 스칼라 컬럼 프로젝션용 생성자 (기술 스택은 별도 쿼리로 채운다)
+     */
+    public JobPostSummary(
+            Long id,
+            SourcePlatform sourcePlatform,
+            String companyName,
+            String title,
+            String jobCategory,
+            String experience,
+            String location,
+            String hireType,
+            LocalDate startDate,
+            LocalDate endDate,
+            String originalUrl,
+            boolean active,
+            LocalDateTime createdAt
+    ) {
+        this(id, sourcePlatform, companyName, title, jobCategory, experience, location, hireType,
+                startDate, endDate, originalUrl, active, createdAt, List.of());
+    }
+
+    JobPostSummary withTechStacks(List<TechStackDto> techStacks) {
+        return new JobPostSummary(id, sourcePlatform, companyName, title, jobCategory, experience, location,
+                hireType, startDate, endDate, originalUrl, active, createdAt, List.copyOf(techStacks));
+    }
+}
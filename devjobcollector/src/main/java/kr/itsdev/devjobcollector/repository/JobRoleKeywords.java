@@ -0,0 +1,25 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.JobRole;
+
+import java.util.List;
+
+/**
+ * 직무 필터(jobCategory 파라미터)별 제목/직무 분류 매칭 키워드.
+ * 알려진 직무는 DB·Lucene 모두 role_mask 비트로 거르고, 이 목록은 그 밖의 입력을 원문 검색할 때 쓴다.
+ * 키워드 원본은 JobRole(role_mask 분류)에 있다.
+ */
+public final class JobRoleKeywords {
+
+    private JobRoleKeywords() {
+    }
+
+    /**
+     * @return 알려진 직무면 키워드 목록, 아니면 입력값 하나만 담은 목록
+     */
+    public static List<String> forRole(String role) {
+        return JobRole.fromParam(role)
+                .map(JobRole::getKeywords)
+                .orElseGet(() -> List.of(role));
+    }
+}
@@ -0,0 +1,31 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.dto.TechStackDto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC 기반 기술 스택 일괄 조회/생성 리포지토리 인터페이스.
+ * 키는 {@link kr.itsdev.devjobcollector.domain.TechStack#normalizedKey(String)}이고,
+ * tech_stack_aliases의 별칭 키는 가리키는 표준 기술 스택으로 풀어서 돌려준다.
+ */
+public interface TechStackBatchRepository {
+
+    /**
+     * 전체 정규화 키·별칭 키 → 기술 스택 (사전 예열용)
+     */
+    Map<String, TechStackDto> findAllByNormalizedKey();
+
+    /**
+     * 정규화 키 또는 별칭 키 하나로 조회한다. 없으면 만들지 않는다.
+     */
+    Optional<TechStackDto> findByNormalizedKey(String normalizedKey);
+
+    /**
+     * 별칭이 아닌 이름만 INSERT IGNORE로 일괄 추가한 뒤, 요청한 이름들의 정규화 키 → 기술 스택을 IN 조회로 가져온다.
+     * 동시에 같은 이름을 넣어도 유니크 키 충돌은 무시되고 기존 행이 조회된다.
+     */
+    Map<String, TechStackDto> insertIgnoreAndFind(Collection<String> stackNames);
+}
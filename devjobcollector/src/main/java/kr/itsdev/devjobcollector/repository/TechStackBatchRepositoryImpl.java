@@ -0,0 +1,101 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.TechStack;
+import kr.itsdev.devjobcollector.dto.TechStackDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class TechStackBatchRepositoryImpl implements TechStackBatchRepository {
+
+    private static final int BATCH_SIZE = 200;
+    private static final String SELECT_ALL_SQL = "SELECT normalized_key, id, stack_name FROM tech_stacks";
+    private static final String SELECT_ALL_ALIASES_SQL = """
+            SELECT a.alias_key AS normalized_key, t.id, t.stack_name
+            FROM tech_stack_aliases a
+            JOIN tech_stacks t ON t.id = a.tech_stack_id
+            """;
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO tech_stacks (stack_name, normalized_key) VALUES (?, ?)";
+    private static final String SELECT_BY_KEYS_SQL = SELECT_ALL_SQL + " WHERE normalized_key IN (%s)";
+    private static final String SELECT_ALIASES_BY_KEYS_SQL = SELECT_ALL_ALIASES_SQL + " WHERE a.alias_key IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, TechStackDto> findAllByNormalizedKey() {
+        Map<String, TechStackDto> stacks = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_ALIASES_SQL, collectInto(stacks));
+        jdbcTemplate.query(SELECT_ALL_SQL, collectInto(stacks));
+        return stacks;
+    }
+
+    @Override
+    public Optional<TechStackDto> findByNormalizedKey(String normalizedKey) {
+        return Optional.ofNullable(findByKeys(List.of(normalizedKey)).get(normalizedKey));
+    }
+
+    @Override
+    public Map<String, TechStackDto> insertIgnoreAndFind(Collection<String> stackNames) {
+        Map<String, String> namesByKey = new LinkedHashMap<>();
+        for (String stackName : stackNames) {
+            namesByKey.putIfAbsent(TechStack.normalizedKey(stackName), stackName.strip());
+        }
+        if (namesByKey.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, TechStackDto> stacks = new HashMap<>();
+        List<String> keys = List.copyOf(namesByKey.keySet());
+        jdbcTemplate.query(SELECT_ALIASES_BY_KEYS_SQL.formatted(placeholders(keys.size())),
+                collectInto(stacks), keys.toArray());
+        List<Map.Entry<String, String>> missing = namesByKey.entrySet().stream()
+                .filter(entry -> !stacks.containsKey(entry.getKey()))
+                .toList();
+        if (missing.isEmpty()) {
+            return stacks;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, missing, BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, entry.getValue());
+            ps.setString(2, entry.getKey());
+        });
+        stacks.putAll(findByKeys(missing.stream().map(Map.Entry::getKey).toList()));
+        return stacks;
+    }
+
+    /**
+     * 키들을 표준 키로 먼저 찾고, 없는 키만 별칭으로 찾는다.
+     */
+    private Map<String, TechStackDto> findByKeys(List<String> keys) {
+        Map<String, TechStackDto> stacks = new HashMap<>();
+        jdbcTemplate.query(SELECT_BY_KEYS_SQL.formatted(placeholders(keys.size())),
+                collectInto(stacks), keys.toArray());
+        List<String> aliasKeys = keys.stream().filter(key -> !stacks.containsKey(key)).toList();
+        if (!aliasKeys.isEmpty()) {
+            jdbcTemplate.query(SELECT_ALIASES_BY_KEYS_SQL.formatted(placeholders(aliasKeys.size())),
+                    collectInto(stacks), aliasKeys.toArray());
+        }
+        return stacks;
+    }
+
+    private static RowCallbackHandler collectInto(Map<String, TechStackDto> stacks) {
+        return rs -> stacks.put(rs.getString("normalized_key"),
+                new TechStackDto(rs.getInt("id"), rs.getString("stack_name")));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
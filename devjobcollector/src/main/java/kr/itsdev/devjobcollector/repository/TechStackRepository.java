@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface TechStackRepository extends JpaRepository<TechStack, Integer> {
+public interface TechStackRepository extends JpaRepository<TechStack, Integer>, TechStackBatchRepository {
     
     Optional<TechStack> findByStackName(String StackName);
     
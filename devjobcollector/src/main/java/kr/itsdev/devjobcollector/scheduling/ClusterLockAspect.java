@@ -0,0 +1,74 @@
+package kr.itsdev.devjobcollector.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * {@link ClusterLocked} 메서드를 DB 잠금으로 감싼다.
+ * 트랜잭션 바깥에서 잠금을 잡아야 잠금 행이 작업 트랜잭션과 별도로 바로 커밋되므로 가장 먼저 실행되게 둔다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ClusterLockAspect {
+
+    private final ScheduledJobLockRepository lockRepository;
+    private final String instanceId;
+
+    public ClusterLockAspect(ScheduledJobLockRepository lockRepository) {
+        this.lockRepository = lockRepository;
+        this.instanceId = ManagementFactory.getRuntimeMXBean().getName()
+                + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Around("@annotation(clusterLocked)")
+    public Object runExclusively(ProceedingJoinPoint joinPoint, ClusterLocked clusterLocked) throws Throwable {
+        String name = clusterLocked.name();
+        Duration lockAtMostFor = DurationStyle.detectAndParse(clusterLocked.lockAtMostFor());
+        Duration lockAtLeastFor = DurationStyle.detectAndParse(clusterLocked.lockAtLeastFor());
+        Instant startedAt = Instant.now();
+        if (!lockRepository.tryAcquire(name, instanceId, startedAt, startedAt.plus(lockAtMostFor))) {
+            log.debug("스케줄 작업 건너뜀 (다른 인스턴스가 실행 중): {}", name);
+            return null;
+        }
+
+        boolean succeeded = false;
+        String errorMessage = null;
+        try {
+            Object result = joinPoint.proceed();
+            succeeded = true;
+            return result;
+        } catch (Throwable e) {
+            errorMessage = e.getClass().getSimpleName() + ": " + e.getMessage();
+            throw e;
+        } finally {
+            finish(name, startedAt, lockAtLeastFor, succeeded, errorMessage);
+        }
+    }
+
+    private void finish(String name, Instant startedAt, Duration lockAtLeastFor,
+                        boolean succeeded, String errorMessage) {
+        Instant finishedAt = Instant.now();
+        Instant earliestUnlock = startedAt.plus(lockAtLeastFor);
+        try {
+            lockRepository.release(name, instanceId,
+                    earliestUnlock.isAfter(finishedAt) ? earliestUnlock : finishedAt);
+            lockRepository.recordRun(name, instanceId, startedAt, finishedAt, succeeded, errorMessage);
+        } catch (RuntimeException e) {
+            // 해제에 실패해도 lockAtMostFor가 지나면 잠금이 풀린다.
+            log.warn("스케줄 작업 잠금 해제/이력 기록 실패: {}", name, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package kr.itsdev.devjobcollector.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 인스턴스가 같은 스케줄을 실행해도 DB 잠금을 잡은 한 인스턴스만 메서드를 실행한다.
+ * 잠금을 못 잡은 인스턴스는 실행을 건너뛴다.
+ * 기간은 "30m", "PT30M"처럼 Spring Boot Duration 형식으로 적는다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterLocked {
+
+    /**
+     * 잠금 이름. 작업마다 고유해야 한다.
+     */
+    String name();
+
+    /**
+     * 실행 인스턴스가 죽어도 이 시간이 지나면 잠금이 풀린다. 작업의 최대 실행 시간보다 길게 잡는다.
+     */
+    String lockAtMostFor();
+
+    /**
+     * 작업이 빨리 끝나도 이 시간 동안은 잠금을 유지한다. 인스턴스 간 시계 차이로 인한 중복 실행을 막는다.
+     */
+    String lockAtLeastFor() default "0s";
+}
@@ -0,0 +1,11 @@
+package kr.itsdev.devjobcollector.scheduling;
+
+import java.time.Instant;
+
+public record ScheduledJobLock(
+        String name,
+        Instant lockedAt,
+        Instant lockUntil,
+        String lockedBy
+) {
+}
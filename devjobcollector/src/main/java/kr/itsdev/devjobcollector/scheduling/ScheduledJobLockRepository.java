@@ -0,0 +1,151 @@
+package kr.itsdev.devjobcollector.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 스케줄 작업 잠금/실행 이력 저장소.
+ * 잠금은 만료된 행을 조건부 UPDATE로 가져가고, 행이 없으면 INSERT IGNORE로 만든다. 둘 다 영향 행이 1이면 획득이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduledJobLockRepository {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final Duration RUN_RETENTION = Duration.ofDays(30);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String TAKE_EXPIRED_SQL = """
+            UPDATE scheduled_job_lock
+            SET lock_until = ?, locked_at = ?, locked_by = ?
+            WHERE name = ? AND lock_until <= ?
+            """;
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO scheduled_job_lock (name, lock_until, locked_at, locked_by)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String RELEASE_SQL = """
+            UPDATE scheduled_job_lock
+            SET lock_until = ?
+            WHERE name = ? AND locked_by = ?
+            """;
+    private static final String INSERT_RUN_SQL = """
+            INSERT INTO scheduled_job_run (job_name, instance_id, started_at, finished_at, status, error_message)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String PRUNE_RUNS_SQL = """
+            DELETE FROM scheduled_job_run
+            WHERE job_name = ? AND started_at < ?
+            """;
+    private static final String SELECT_LOCKS_SQL = """
+            SELECT name, locked_at, lock_until, locked_by
+            FROM scheduled_job_lock
+            ORDER BY name
+            """;
+    private static final String SELECT_RUNS_SQL = """
+            SELECT id, job_name, instance_id, started_at, finished_at, status, error_message
+            FROM scheduled_job_run
+            %s
+            ORDER BY started_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    private static final RowMapper<ScheduledJobLock> LOCK_MAPPER = (rs, rowNum) -> new ScheduledJobLock(
+            rs.getString("name"),
+            instant(rs, "locked_at"),
+            instant(rs, "lock_until"),
+            rs.getString("locked_by"));
+    private static final RowMapper<ScheduledJobRun> RUN_MAPPER = (rs, rowNum) -> new ScheduledJobRun(
+            rs.getLong("id"),
+            rs.getString("job_name"),
+            rs.getString("instance_id"),
+            instant(rs, "started_at"),
+            instant(rs, "finished_at"),
+            rs.getString("status"),
+            rs.getString("error_message"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean tryAcquire(String name, String owner, Instant now, Instant lockUntil) {
+        int taken = jdbcTemplate.update(TAKE_EXPIRED_SQL, ps -> {
+            setInstant(ps, 1, lockUntil);
+            setInstant(ps, 2, now);
+            ps.setString(3, owner);
+            ps.setString(4, name);
+            setInstant(ps, 5, now);
+        });
+        if (taken > 0) {
+            return true;
+        }
+        return jdbcTemplate.update(INSERT_SQL, ps -> {
+            ps.setString(1, name);
+            setInstant(ps, 2, lockUntil);
+            setInstant(ps, 3, now);
+            ps.setString(4, owner);
+        }) > 0;
+    }
+
+    public void release(String name, String owner, Instant lockUntil) {
+        jdbcTemplate.update(RELEASE_SQL, ps -> {
+            setInstant(ps, 1, lockUntil);
+            ps.setString(2, name);
+            ps.setString(3, owner);
+        });
+    }
+
+    public void recordRun(String name, String owner, Instant startedAt, Instant finishedAt,
+                          boolean succeeded, String errorMessage) {
+        jdbcTemplate.update(INSERT_RUN_SQL, ps -> {
+            ps.setString(1, name);
+            ps.setString(2, owner);
+            setInstant(ps, 3, startedAt);
+            setInstant(ps, 4, finishedAt);
+            ps.setString(5, succeeded ? "SUCCESS" : "FAILED");
+            ps.setString(6, truncate(errorMessage));
+        });
+        jdbcTemplate.update(PRUNE_RUNS_SQL, ps -> {
+            ps.setString(1, name);
+            setInstant(ps, 2, finishedAt.minus(RUN_RETENTION));
+        });
+    }
+
+    public List<ScheduledJobLock> findLocks() {
+        return jdbcTemplate.query(SELECT_LOCKS_SQL, LOCK_MAPPER);
+    }
+
+    public List<ScheduledJobRun> findRecentRuns(int limit) {
+        return jdbcTemplate.query(SELECT_RUNS_SQL.formatted(""), RUN_MAPPER, limit);
+    }
+
+    public List<ScheduledJobRun> findRecentRuns(String name, int limit) {
+        return jdbcTemplate.query(SELECT_RUNS_SQL.formatted("WHERE job_name = ?"), RUN_MAPPER, name, limit);
+    }
+
+    /**
+     * DATETIME 컬럼은 UTC 기준으로 저장한다. (수집 테이블의 SqlTimestamps와 같은 규칙)
+     */
+    private static void setInstant(PreparedStatement ps, int index, Instant value) throws SQLException {
+        ps.setTimestamp(index, Timestamp.from(value), Calendar.getInstance(UTC));
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column, Calendar.getInstance(UTC));
+        return value == null ? null : value.toInstant();
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,14 @@
+package kr.itsdev.devjobcollector.scheduling;
+
+import java.time.Instant;
+
+public record ScheduledJobRun(
+        Long id,
+        String jobName,
+        String instanceId,
+        Instant startedAt,
+        Instant finishedAt,
+        String status,
+        String errorMessage
+) {
+}
@@ -0,0 +1,39 @@
+package kr.itsdev.devjobcollector.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/scheduledjobs: 현재 잠금 상태와 최근 실행 이력
+ * /actuator/scheduledjobs/{name}: 작업별 최근 실행 이력
+ */
+@Component
+@Endpoint(id = "scheduledjobs")
+@RequiredArgsConstructor
+public class ScheduledJobsEndpoint {
+
+    private static final int RECENT_RUNS = 50;
+
+    private final ScheduledJobLockRepository lockRepository;
+
+    @ReadOperation
+    public ScheduledJobsReport scheduledJobs() {
+        return new ScheduledJobsReport(lockRepository.findLocks(), lockRepository.findRecentRuns(RECENT_RUNS));
+    }
+
+    @ReadOperation
+    public List<ScheduledJobRun> runs(@Selector String name) {
+        return lockRepository.findRecentRuns(name, RECENT_RUNS);
+    }
+
+    public record ScheduledJobsReport(
+            List<ScheduledJobLock> locks,
+            List<ScheduledJobRun> recentRuns
+    ) {
+    }
+}
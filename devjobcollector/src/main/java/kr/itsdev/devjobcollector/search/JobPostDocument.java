@@ -0,0 +1,44 @@
+package kr.itsdev.devjobcollector.search;
+
+import kr.itsdev.devjobcollector.domain.ExperienceLevel;
+import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.TechStack;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lucene 색인에 들어가는 공고 필드. 영속성 컨텍스트 밖에서 색인할 수 있도록 트랜잭션 안에서 만든다.
+ * 분류값(roleMask, experienceLevel, regionMask)은 DB 필터와 같은 결과가 나오도록 job_posts에 저장된 값을 그대로 쓴다.
+ */
+public record JobPostDocument(
+        long id,
+        String title,
+        String companyName,
+        String location,
+        String experience,
+        String jobCategory,
+        List<String> techStacks,
+        int roleMask,
+        ExperienceLevel experienceLevel,
+        int regionMask,
+        LocalDate endDate,
+        LocalDateTime createdAt
+) {
+    public static JobPostDocument from(JobPost jobPost) {
+        return new JobPostDocument(
+                jobPost.getId(),
+                jobPost.getTitle(),
+                jobPost.getCompanyName(),
+                jobPost.getLocation(),
+                jobPost.getExperience(),
+                jobPost.getJobCategory(),
+                jobPost.getTechStacks().stream().map(TechStack::getStackName).distinct().toList(),
+                jobPost.getRoleMask(),
+                jobPost.getExperienceLevel(),
+                jobPost.getRegionMask(),
+                jobPost.getEndDate(),
+                jobPost.getCreatedAt());
+    }
+}
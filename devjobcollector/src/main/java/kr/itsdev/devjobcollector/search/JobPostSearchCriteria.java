@@ -0,0 +1,16 @@
+package kr.itsdev.devjobcollector.search;
+
+import java.time.LocalDate;
+
+public record JobPostSearchCriteria(
+        String keyword,
+        String location,
+        String experience,
+        String jobCategory,
+        String techStackName,
+        LocalDate today
+) {
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+}
@@ -0,0 +1,406 @@
+package kr.itsdev.devjobcollector.search;
+
+import jakarta.annotation.PreDestroy;
+import kr.itsdev.devjobcollector.config.JobPostSearchProperties;
+import kr.itsdev.devjobcollector.domain.ExperienceLevel;
+import kr.itsdev.devjobcollector.domain.JobRole;
+import kr.itsdev.devjobcollector.domain.Region;
+import kr.itsdev.devjobcollector.repository.JobRoleKeywords;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 활성 공고 전체를 담는 내장 Lucene 색인 (로컬 디스크, MMapDirectory).
+ * 검색은 ID 페이지만 돌려주고 엔티티 조회는 DB에서 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "job-post.search", name = "engine", havingValue = "lucene")
+public class JobPostSearchIndex {
+
+    /** 문서 필드 구성이 바뀌면 올려서 체크섬이 같아도 재구축되게 한다. */
+    static final String LAYOUT_VERSION = "2";
+
+    private static final String COMMIT_CHECKSUM = "dbChecksum";
+    private static final String COMMIT_LAYOUT = "layoutVersion";
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String COMPANY_NAME = "companyName";
+    private static final String LOCATION = "location";
+    private static final String EXPERIENCE = "experience";
+    private static final String JOB_CATEGORY = "jobCategory";
+    private static final String TECH_STACKS = "techStacks";
+    private static final String TECH_STACK = "techStack";
+    // 분류값: DB의 role_mask/region_mask 비트와 experience_level을 상수 이름 term으로 색인한다.
+    private static final String ROLE = "role";
+    private static final String EXPERIENCE_LEVEL = "experienceLevel";
+    private static final String REGION = "region";
+    private static final String END_DATE = "endDate";
+    private static final String CREATED_AT = "createdAt";
+
+    private static final List<String> KEYWORD_FIELDS =
+            List.of(TITLE, COMPANY_NAME, LOCATION, EXPERIENCE, JOB_CATEGORY, TECH_STACKS);
+    private static final float TITLE_BOOST = 2.0f;
+
+    // CJKAnalyzer: 한글은 bigram, 영문은 소문자 단어 단위로 토큰화 (불용어 제거 없음)
+    private final Analyzer analyzer = new CJKAnalyzer(CharArraySet.EMPTY_SET);
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile String committedChecksum;
+    private volatile boolean ready;
+
+    public JobPostSearchIndex(JobPostSearchProperties properties) {
+        Path indexPath = Path.of(properties.lucene().indexPath());
+        try {
+            Files.createDirectories(indexPath);
+            this.directory = new MMapDirectory(indexPath);
+            this.committedChecksum = readCommittedChecksum(directory);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열 수 없습니다: " + indexPath.toAbsolutePath(), e);
+        }
+        log.info("Lucene 검색 색인 열기: path={}, committedChecksum={}", indexPath.toAbsolutePath(), committedChecksum);
+    }
+
+    public String committedChecksum() {
+        return committedChecksum;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void upsert(Collection<JobPostDocument> documents) {
+        try {
+            for (JobPostDocument document : documents) {
+                writer.updateDocument(new Term(ID, String.valueOf(document.id())), toDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Collection<Long> jobPostIds) {
+        if (jobPostIds.isEmpty()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(jobPostIds.stream()
+                    .map(id -> new Term(ID, String.valueOf(id)))
+                    .toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 커밋 없이 새 searcher를 연다 (near-real-time).
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 색인 내용을 디스크에 확정하고 현재 DB 체크섬을 함께 기록한다.
+     */
+    public void commit(String checksum) {
+        try {
+            writer.setLiveCommitData(Map.of(COMMIT_CHECKSUM, checksum, COMMIT_LAYOUT, LAYOUT_VERSION).entrySet());
+            writer.commit();
+            this.committedChecksum = checksum;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return 조건을 색인으로 표현할 수 없으면 empty (호출 측에서 DB 검색으로 처리)
+     */
+    public Optional<IdPage> search(JobPostSearchCriteria criteria, Pageable pageable) {
+        Optional<Query> query = buildQuery(criteria);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+        IndexSearcher searcher = acquire();
+        try {
+            int total = searcher.count(query.get());
+            long offset = pageable.getOffset();
+            if (offset >= total) {
+                return Optional.of(new IdPage(List.of(), total));
+            }
+            int end = (int) Math.min(offset + pageable.getPageSize(), total);
+            boolean relevance = criteria.hasKeyword() && isRelevanceSort(pageable);
+            TopFieldDocs topDocs = searcher.search(query.get(), end, sort(pageable, relevance), relevance);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> ids = new ArrayList<>(end - (int) offset);
+            for (int i = (int) offset; i < topDocs.scoreDocs.length; i++) {
+                ids.add(Long.parseLong(storedFields.document(topDocs.scoreDocs[i].doc, Set.of(ID)).get(ID)));
+            }
+            return Optional.of(new IdPage(ids, total));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    private Optional<Query> buildQuery(JobPostSearchCriteria criteria) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(LongPoint.newRangeQuery(END_DATE, criteria.today().toEpochDay(), Long.MAX_VALUE),
+                        BooleanClause.Occur.FILTER);
+
+        if (criteria.hasKeyword()) {
+            BooleanQuery.Builder keyword = new BooleanQuery.Builder();
+            for (String field : KEYWORD_FIELDS) {
+                Query phrase = phrase(field, criteria.keyword());
+                if (phrase != null) {
+                    keyword.add(TITLE.equals(field) ? new BoostQuery(phrase, TITLE_BOOST) : phrase,
+                            BooleanClause.Occur.SHOULD);
+                }
+            }
+            BooleanQuery keywordQuery = keyword.build();
+            if (keywordQuery.clauses().isEmpty()) {
+                return Optional.empty();
+            }
+            builder.add(keywordQuery, BooleanClause.Occur.MUST);
+        }
+        if (hasText(criteria.location())) {
+            Query location = Region.fromParam(criteria.location())
+                    .<Query>map(region -> new TermQuery(new Term(REGION, region.name())))
+                    .orElseGet(() -> phrase(LOCATION, criteria.location()));
+            if (location == null) {
+                return Optional.empty();
+            }
+            builder.add(location, BooleanClause.Occur.FILTER);
+        }
+        if (hasText(criteria.experience()) && !addExperience(builder, criteria.experience().trim())) {
+            return Optional.empty();
+        }
+        Optional<JobRole> jobRole = JobRole.fromParam(criteria.jobCategory());
+        if (jobRole.isPresent()) {
+            builder.add(new TermQuery(new Term(ROLE, jobRole.get().name())), BooleanClause.Occur.FILTER);
+        } else if (hasText(criteria.jobCategory())) {
+            BooleanQuery.Builder role = new BooleanQuery.Builder();
+            for (String value : JobRoleKeywords.forRole(criteria.jobCategory())) {
+                addIfPresent(role, phrase(TITLE, value), BooleanClause.Occur.SHOULD);
+                addIfPresent(role, phrase(JOB_CATEGORY, value), BooleanClause.Occur.SHOULD);
+            }
+            BooleanQuery roleQuery = role.build();
+            if (roleQuery.clauses().isEmpty()) {
+                return Optional.empty();
+            }
+            builder.add(roleQuery, BooleanClause.Occur.FILTER);
+        }
+        if (hasText(criteria.techStackName())) {
+            builder.add(new TermQuery(new Term(TECH_STACK, normalize(criteria.techStackName()))),
+                    BooleanClause.Occur.FILTER);
+        }
+        return Optional.of(builder.build());
+    }
+
+    /**
+     * 신입/경력/경력무관은 DB와 같은 ExperienceLevel.forFilter 집합으로, 그 밖의 입력은 원문 구문 검색으로 거른다.
+     */
+    private boolean addExperience(BooleanQuery.Builder builder, String experience) {
+        Optional<Set<ExperienceLevel>> levels = ExperienceLevel.forFilter(experience);
+        if (levels.isPresent()) {
+            BooleanQuery.Builder anyLevel = new BooleanQuery.Builder();
+            levels.get().forEach(level -> anyLevel.add(
+                    new TermQuery(new Term(EXPERIENCE_LEVEL, level.name())), BooleanClause.Occur.SHOULD));
+            builder.add(anyLevel.build(), BooleanClause.Occur.FILTER);
+            return true;
+        }
+        Query other = phrase(EXPERIENCE, experience);
+        if (other == null) {
+            return false;
+        }
+        builder.add(other, BooleanClause.Occur.FILTER);
+        return true;
+    }
+
+    private Query phrase(String field, String text) {
+        return queryBuilder.createPhraseQuery(field, text.trim());
+    }
+
+    private static void addIfPresent(BooleanQuery.Builder builder, Query query, BooleanClause.Occur occur) {
+        if (query != null) {
+            builder.add(query, occur);
+        }
+    }
+
+    private static boolean isRelevanceSort(Pageable pageable) {
+        return pageable.getSort().stream()
+                .findFirst()
+                .map(order -> order.getProperty().equals("relevance"))
+                .orElse(false);
+    }
+
+    private static Sort sort(Pageable pageable, boolean relevance) {
+        org.springframework.data.domain.Sort.Order first = pageable.getSort().stream().findFirst().orElse(null);
+        String property = first == null ? CREATED_AT : first.getProperty();
+        boolean descending = first == null || first.isDescending();
+
+        if (relevance) {
+            return new Sort(SortField.FIELD_SCORE,
+                    new SortField(CREATED_AT, SortField.Type.LONG, true),
+                    new SortField(ID, SortField.Type.LONG, true));
+        }
+        if (END_DATE.equals(property)) {
+            return new Sort(new SortField(END_DATE, SortField.Type.LONG, descending),
+                    new SortField(CREATED_AT, SortField.Type.LONG, true),
+                    new SortField(ID, SortField.Type.LONG, true));
+        }
+        return new Sort(new SortField(CREATED_AT, SortField.Type.LONG, descending),
+                new SortField(ID, SortField.Type.LONG, descending));
+    }
+
+    private static Document toDocument(JobPostDocument post) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(post.id()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID, post.id()));
+        addText(document, TITLE, post.title());
+        addText(document, COMPANY_NAME, post.companyName());
+        addText(document, LOCATION, post.location());
+        addText(document, EXPERIENCE, post.experience());
+        addText(document, JOB_CATEGORY, post.jobCategory());
+        addText(document, TECH_STACKS, String.join(" ", post.techStacks()));
+        for (String stackName : post.techStacks()) {
+            document.add(new StringField(TECH_STACK, normalize(stackName), Field.Store.NO));
+        }
+        for (JobRole role : JobRole.values()) {
+            if ((post.roleMask() & role.getBit()) != 0) {
+                document.add(new StringField(ROLE, role.name(), Field.Store.NO));
+            }
+        }
+        for (Region region : Region.values()) {
+            if ((post.regionMask() & region.getBit()) != 0) {
+                document.add(new StringField(REGION, region.name(), Field.Store.NO));
+            }
+        }
+        document.add(new StringField(EXPERIENCE_LEVEL, post.experienceLevel().name(), Field.Store.NO));
+        long endDate = post.endDate().toEpochDay();
+        document.add(new LongPoint(END_DATE, endDate));
+        document.add(new NumericDocValuesField(END_DATE, endDate));
+        document.add(new NumericDocValuesField(CREATED_AT, epochMillis(post.createdAt())));
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String readCommittedChecksum(Directory directory) throws IOException {
+        if (!DirectoryReader.indexExists(directory)) {
+            return null;
+        }
+        Map<String, String> userData = SegmentInfos.readLatestCommit(directory).getUserData();
+        return LAYOUT_VERSION.equals(userData.get(COMMIT_LAYOUT)) ? userData.get(COMMIT_CHECKSUM) : null;
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색 searcher 반환 실패", e);
+        }
+    }
+
+    public record IdPage(List<Long> jobPostIds, long total) {
+    }
+}
@@ -0,0 +1,124 @@
+package kr.itsdev.devjobcollector.search;
+
+import jakarta.annotation.PreDestroy;
+import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.service.JobPostsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lucene 검색 색인 동기화.
+ * 기동 시 DB 체크섬이 커밋된 색인과 다르면 전체 재구축하고, 이후에는 공고 변경 커밋마다 해당 문서만 갱신한다.
+ * 색인에 기록하는 체크섬은 항상 그 색인을 만든(또는 확인한) 시점의 값이므로, 실행 중 DB가 바뀌었으면 다음 기동에서 재구축된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "job-post.search", name = "engine", havingValue = "lucene")
+public class JobPostSearchIndexer {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JobPostSearchIndex searchIndex;
+    private final JobPostRepository jobPostRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    // 증분 반영에 실패하면 종료 시 커밋하지 않는다 (검증 시점 체크섬과 다른 DB 상태이므로 어차피 재구축된다).
+    private volatile boolean stale;
+
+    public JobPostSearchIndexer(JobPostSearchIndex searchIndex,
+                                JobPostRepository jobPostRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.jobPostRepository = jobPostRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfStale() {
+        String checksum = jobPostRepository.computeSearchIndexChecksum();
+        if (checksum.equals(searchIndex.committedChecksum())) {
+            searchIndex.markReady();
+            log.info("검색 색인 체크섬 일치, 재구축 생략: {}", checksum);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        searchIndex.deleteAll();
+        long afterId = 0L;
+        int indexed = 0;
+        while (true) {
+            List<Long> ids = jobPostRepository.findActiveIdsAfter(afterId, Limit.of(CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            indexed += reindex(ids);
+            afterId = ids.get(ids.size() - 1);
+        }
+        searchIndex.commit(checksum);
+        searchIndex.refresh();
+        searchIndex.markReady();
+        log.info("검색 색인 재구축 완료: {}건, {}ms, checksum={}",
+                indexed, System.currentTimeMillis() - startedAt, checksum);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobPostsChanged(JobPostsChangedEvent event) {
+        try {
+            List<Long> ids = new ArrayList<>(event.jobPostIds());
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                reindex(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+            }
+            searchIndex.refresh();
+            log.debug("검색 색인 갱신: source={}, changed={}", event.source(), event.changedCount());
+        } catch (RuntimeException e) {
+            stale = true;
+            log.error("검색 색인 갱신 실패: source={}, ids={}", event.source(), event.jobPostIds(), e);
+        }
+    }
+
+    /**
+     * 증분 반영분을 디스크에 남기되, 체크섬은 색인을 검증(일치 확인 또는 재구축)한 시점의 값을 그대로 쓴다.
+     * 다른 인스턴스·만료 sweep·백필처럼 이벤트 없이 바뀐 행은 이 노드 색인에 없으므로
+     * 종료 시점의 DB 체크섬을 새로 찍으면 다음 기동에서 재구축이 생략돼 오래된 결과를 돌려준다.
+     */
+    @PreDestroy
+    public void commitOnShutdown() {
+        String verifiedChecksum = searchIndex.committedChecksum();
+        if (!searchIndex.isReady() || stale || verifiedChecksum == null) {
+            return;
+        }
+        searchIndex.commit(verifiedChecksum);
+    }
+
+    /**
+     * 활성 공고는 문서를 교체하고, 비활성/삭제된 공고는 색인에서 제거한다.
+     */
+    private int reindex(List<Long> ids) {
+        List<JobPostDocument> documents = readOnlyTransaction.execute(status ->
+                jobPostRepository.findWithTechStacksByIdIn(ids).stream()
+                        .filter(JobPost::isActive)
+                        .map(JobPostDocument::from)
+                        .toList());
+        Set<Long> removed = new HashSet<>(ids);
+        documents.forEach(document -> removed.remove(document.id()));
+        searchIndex.upsert(documents);
+        searchIndex.delete(removed);
+        return documents.size();
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
@@ -14,10 +15,11 @@ import org.springframework.http.HttpStatus;
 public class TurnstileVerifier {
     private static final String SITEVERIFY_URL = "https://challenges.cloudflare.com/turnstile/v0/siteverify";
     private final AuthSignupProperties properties;
-    private final RestClient restClient = RestClient.create();
+    private final RestClient restClient;
 
-    public TurnstileVerifier(AuthSignupProperties properties) {
+    public TurnstileVerifier(AuthSignupProperties properties, RestTemplate restTemplate) {
         this.properties = properties;
+        this.restClient = RestClient.create(restTemplate);
     }
 
     public void verify(String token, String remoteIp) {
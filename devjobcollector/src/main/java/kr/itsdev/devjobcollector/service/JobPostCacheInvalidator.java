@@ -0,0 +1,45 @@
+package kr.itsdev.devjobcollector.service;
+
+import kr.itsdev.devjobcollector.config.CacheConfig;
+import kr.itsdev.devjobcollector.config.ReplicaDataSourceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * 공고 변경 커밋 이후 검색 결과 캐시 무효화
+ * 복제본 라우팅이 켜져 있으면 커밋 직후 요청이 아직 변경을 받지 못한 복제본에서 이전 결과를 읽어
+ * TTL 동안 다시 캐시할 수 있으므로, 복제 지연 상한(cacheEvictionDelay) 뒤에 한 번 더 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobPostCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+    private final ReplicaDataSourceProperties replicaProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobPostsChanged(JobPostsChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.JOB_POST_SEARCH);
+        if (cache == null) {
+            return;
+        }
+        cache.invalidate();
+        log.info("공고 검색 캐시 무효화: source={}, changed={}", event.source(), event.changedCount());
+        if (replicaProperties.enabled()) {
+            taskScheduler.schedule(() -> {
+                cache.invalidate();
+                log.debug("공고 검색 캐시 지연 무효화: source={}", event.source());
+            }, Instant.now().plus(replicaProperties.cacheEvictionDelay()));
+        }
+    }
+}
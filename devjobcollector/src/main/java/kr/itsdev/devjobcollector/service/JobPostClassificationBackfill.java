@@ -0,0 +1,93 @@
+package kr.itsdev.devjobcollector.service;
+
+import kr.itsdev.devjobcollector.domain.JobPostClassification;
+import kr.itsdev.devjobcollector.repository.JobPostClassificationSource;
+import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.scheduling.ClusterLocked;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분류 컬럼(role_mask, experience_level, region_mask) 백필 스케줄러
+ * - 새로 저장되는 공고는 저장 시, 기존 공고는 V16 마이그레이션이 배포 시점에 분류한다.
+ *   이 스케줄러는 분류 규칙 버전(JobPostClassification.VERSION)이 올라간 뒤 이전 버전으로 남은 행을 다시 계산한다.
+ * - 버전이 낮은 행도 이전 규칙의 분류값은 갖고 있으므로 재계산 전까지 필터에서 빠지지는 않는다.
+ * - id 순 chunk 단위의 짧은 트랜잭션으로 나눠 한 번에 잡는 행 잠금 범위를 제한한다.
+ * - chunk마다 JobPostsChangedEvent를 발행해 커밋 후 검색 색인의 분류 term과 조회 캐시도 갱신되게 한다.
+ */
+@Slf4j
+@Component
+public class JobPostClassificationBackfill {
+
+    private final JobPostRepository jobPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public JobPostClassificationBackfill(
+            JobPostRepository jobPostRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${job-post.classification.backfill.chunk-size:500}") int chunkSize,
+            @Value("${job-post.classification.backfill.max-chunks-per-run:100}") int maxChunksPerRun
+    ) {
+        this.jobPostRepository = jobPostRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxChunksPerRun = Math.max(maxChunksPerRun, 1);
+    }
+
+    /**
+     * 기동 1분 후부터 10분 간격으로 남은 행을 채운다. 대상이 없으면 인덱스 조회 한 번으로 끝난다.
+     */
+    @Scheduled(
+            initialDelayString = "${job-post.classification.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${job-post.classification.backfill.delay-ms:600000}")
+    @ClusterLocked(name = "job-post-classification-backfill", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void backfill() {
+        long afterId = 0;
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            long from = afterId;
+            List<JobPostClassificationSource> rows = transactionTemplate.execute(status -> classifyChunk(from));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            total += rows.size();
+            afterId = rows.get(rows.size() - 1).id();
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("공고 분류 백필 {}건 완료 (분류 버전: {}, 마지막 ID: {})",
+                    total, JobPostClassification.VERSION, afterId);
+        }
+    }
+
+    private List<JobPostClassificationSource> classifyChunk(long afterId) {
+        List<JobPostClassificationSource> rows =
+                jobPostRepository.findStaleClassifications(JobPostClassification.VERSION, afterId, chunkSize);
+        Map<Long, JobPostClassification> classifications = new LinkedHashMap<>();
+        for (JobPostClassificationSource row : rows) {
+            classifications.put(row.id(), row.classify());
+        }
+        jobPostRepository.updateClassifications(classifications, JobPostClassification.VERSION);
+        if (!classifications.isEmpty()) {
+            eventPublisher.publishEvent(new JobPostsChangedEvent("CLASSIFICATION_BACKFILL", classifications.keySet()));
+        }
+        return rows;
+    }
+}
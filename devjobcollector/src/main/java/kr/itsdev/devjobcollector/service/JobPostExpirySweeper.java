@@ -0,0 +1,57 @@
+package kr.itsdev.devjobcollector.service;
+
+import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.scheduling.ClusterLocked;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 마감일이 지난 공고 비활성화 스케줄러
+ * - 조회 API는 endDate >= today 조건으로 만료 공고를 이미 제외하므로 요청 경로에서 UPDATE하지 않는다.
+ * - chunk 단위의 짧은 트랜잭션으로 나눠 한 번에 잡는 행 잠금 범위를 제한한다.
+ */
+@Slf4j
+@Component
+public class JobPostExpirySweeper {
+
+    private final JobPostRepository jobPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public JobPostExpirySweeper(
+            JobPostRepository jobPostRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${job-post.expiry.chunk-size:500}") int chunkSize
+    ) {
+        this.jobPostRepository = jobPostRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    /**
+     * 매시 5분 만료 공고 비활성화 (자정 직후 누락분도 다음 실행에서 처리)
+     */
+    @Scheduled(cron = "${job-post.expiry.cron:0 5 * * * *}")
+    @ClusterLocked(name = "job-post-expiry-sweep", lockAtMostFor = "50m", lockAtLeastFor = "1m")
+    public void sweepExpiredPosts() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int updated;
+        do {
+            Integer chunk = transactionTemplate.execute(
+                    status -> jobPostRepository.deactivateExpiredChunk(today, chunkSize));
+            updated = chunk == null ? 0 : chunk;
+            total += updated;
+        } while (updated == chunkSize);
+
+        if (total > 0) {
+            log.info("만료된 공고 {}건 비활성화 완료 (기준일: {})", total, today);
+        }
+    }
+}
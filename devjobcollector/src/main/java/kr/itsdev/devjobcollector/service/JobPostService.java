@@ -1,23 +1,33 @@
 package kr.itsdev.devjobcollector.service;
 
+import kr.itsdev.devjobcollector.config.CacheConfig;
 import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.JobPostDetail;
+import kr.itsdev.devjobcollector.dto.JobPostCursorPage;
 import kr.itsdev.devjobcollector.dto.JobPostDto;
 import kr.itsdev.devjobcollector.dto.TechStackDto;
 import kr.itsdev.devjobcollector.dto.JobPostDetailDto;
 import kr.itsdev.devjobcollector.dto.JobFileDto;
+import kr.itsdev.devjobcollector.repository.JobPostCursor;
+import kr.itsdev.devjobcollector.repository.JobPostDetailRepository;
 import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.repository.JobPostSummary;
+import kr.itsdev.devjobcollector.scheduling.ClusterLocked;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,34 +36,29 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class JobPostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"));
+
     private final JobPostRepository jobPostRepository;
+    private final JobPostDetailRepository jobPostDetailRepository;
+    private final TechStackDictionary techStackDictionary;
 
     /**
      * 채용 공고 목록 조회 (페이징)
      */
-    @Transactional(readOnly = false)
-    @SuppressWarnings("null") // Stream.toList nullness noise from JDT
+    @Cacheable(cacheNames = CacheConfig.JOB_POST_SEARCH, keyGenerator = "jobPostSearchKeyGenerator")
     public Page<JobPostDto> getJobPosts(Pageable pageable) {
         log.info("채용 공고 목록 조회: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
 
-        deactivateExpiredPosts();
-
-        LocalDate today = LocalDate.now();
-        Slice<JobPost> slice = jobPostRepository.findActiveAndNotExpiredSlice(today, pageable);
-        long total = jobPostRepository.countActiveAndValid(today);
-        List<JobPostDto> content = slice.getContent().stream()
-                .map(this::convertToDto)
-                .toList();
-        return new PageImpl<>(content, pageable, total);
+        return findActiveSummaries(pageable);
     }
 
     /**
      * 통합 검색 (모든 텍스트 필드 + 기술스택)
      * - keyword 없으면 활성 공고 전체 반환
-     * - 마감일 지난 공고 제외
+     * - 마감일 지난 공고 제외 (endDate >= today 조건, 비활성화는 JobPostExpirySweeper 담당)
      */
-    @Transactional(readOnly = false)
-    @SuppressWarnings("null") // Stream.toList nullness noise from JDT
+    @Cacheable(cacheNames = CacheConfig.JOB_POST_SEARCH, keyGenerator = "jobPostSearchKeyGenerator")
     public Page<JobPostDto> searchJobPosts(
             String keyword,
             String location,
@@ -66,75 +71,178 @@ public class JobPostService {
                 keyword, location, experience, jobCategory, techStackName,
                 pageable.getPageNumber(), pageable.getPageSize());
 
+        TechStackDto techStack = null;
+        if (hasText(techStackName)) {
+            techStack = findTechStack(techStackName).orElse(null);
+            if (techStack == null) {
+                return Page.empty(pageable);
+            }
+        }
         LocalDate today = LocalDate.now();
-        deactivateExpiredPosts();
         return jobPostRepository.searchByAllFieldsOptimized(
-                        keyword, location, experience, jobCategory, techStackName, today, pageable)
+                        keyword == null ? null : keyword.strip(), location, experience, jobCategory, techStack, today, pageable)
                 .map(this::convertToDto);
     }
 
     /**
      * 활성 공고 조회
      */
-    @SuppressWarnings("null") // Stream.toList nullness noise from JDT
     public Page<JobPostDto> getActiveJobPosts(Pageable pageable) {
         log.info("활성 채용 공고 조회: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
-        LocalDate today = LocalDate.now();
-        Slice<JobPost> slice = jobPostRepository.findActiveAndNotExpiredSlice(today, pageable);
-        long total = jobPostRepository.countActiveAndValid(today);
-        List<JobPostDto> content = slice.getContent().stream()
-                .map(this::convertToDto)
-                .toList();
-        return new PageImpl<>(content, pageable, total);
+        return findActiveSummaries(pageable);
     }
 
     /**
      * 기술 스택 기준 조회
      */
+    @Cacheable(cacheNames = CacheConfig.JOB_POST_SEARCH, keyGenerator = "jobPostSearchKeyGenerator")
     public Page<JobPostDto> getJobPostsByTechStack(String stackName, Pageable pageable) {
         log.info("기술 스택 기준 조회: stackName={}, page={}, size={}", stackName, pageable.getPageNumber(), pageable.getPageSize());
-        LocalDate today = LocalDate.now();
-        return jobPostRepository.findByTechStackNamesOptimized(List.of(stackName), today, pageable)
-                .map(this::convertToDto);
+        return findTechStack(stackName)
+                .map(techStack -> jobPostRepository.findByTechStackIdsOptimized(
+                        List.of(techStack.getId()), LocalDate.now(), pageable).map(this::convertToDto))
+                .orElseGet(() -> Page.empty(pageable));
+    }
+
+    /**
+     * 활성 공고 커서 조회 (최신 등록순). 첫 페이지만 캐시한다.
+     */
+    @Cacheable(cacheNames = CacheConfig.JOB_POST_SEARCH, keyGenerator = "jobPostSearchKeyGenerator",
+            condition = "#cursor == null || #cursor.isBlank()")
+    public JobPostCursorPage scrollJobPosts(String cursor, int size) {
+        return scrollSearchJobPosts(null, null, null, null, null, LATEST_FIRST, cursor, size);
     }
 
     /**
-     * 채용 공고 상세 조회
+     * 통합 검색 커서 조회. 정렬은 createdAt 또는 endDate (relevance는 점수로 seek 할 수 없어 최신순으로 처리)
+     */
+    @Cacheable(cacheNames = CacheConfig.JOB_POST_SEARCH, keyGenerator = "jobPostSearchKeyGenerator",
+            condition = "#cursor == null || #cursor.isBlank()")
+    public JobPostCursorPage scrollSearchJobPosts(
+            String keyword,
+            String location,
+            String experience,
+            String jobCategory,
+            String techStackName,
+            Sort sort,
+            String cursor,
+            int size
+    ) {
+        int limit = cursorPageSize(size);
+        TechStackDto techStack = null;
+        if (hasText(techStackName)) {
+            techStack = findTechStack(techStackName).orElse(null);
+            if (techStack == null) {
+                return toCursorPage(List.of(), limit);
+            }
+        }
+        List<JobPostSummary> rows = jobPostRepository.scrollByAllFields(
+                keyword == null ? null : keyword.strip(), location, experience, jobCategory, techStack,
+                LocalDate.now(), sort, decodeCursor(cursor), limit + 1);
+        return toCursorPage(rows, limit);
+    }
+
+    /**
+     * 기술 스택 기준 커서 조회 (최신 등록순)
+     */
+    @Cacheable(cacheNames = CacheConfig.JOB_POST_SEARCH, keyGenerator = "jobPostSearchKeyGenerator",
+            condition = "#cursor == null || #cursor.isBlank()")
+    public JobPostCursorPage scrollJobPostsByTechStack(String stackName, String cursor, int size) {
+        int limit = cursorPageSize(size);
+        List<JobPostSummary> rows = findTechStack(stackName)
+                .map(techStack -> jobPostRepository.scrollByTechStackIds(
+                        List.of(techStack.getId()), LocalDate.now(), decodeCursor(cursor), limit + 1))
+                .orElse(List.of());
+        return toCursorPage(rows, limit);
+    }
+
+    /**
+     * 채용 공고 상세 조회 (LONGTEXT 본문은 job_post_detail에서 PK로 별도 조회)
      */
     @SuppressWarnings("null") 
     public JobPostDetailDto getJobPostDetail(Long id) {
         log.info("채용 공고 상세 조회: id={}", id);
         JobPost jobPost = jobPostRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("채용 공고를 찾을 수 없습니다. ID: " + id));
-        
-        return convertToDetailDto(jobPost);
+        JobPostDetail detail = jobPostDetailRepository.findById(id).orElse(null);
+
+        return convertToDetailDto(jobPost, detail);
     }
 
     /**
-     * Entity → DTO 변환 (목록용)
+     * 활성 + 마감 전 공고를 요약 프로젝션으로 조회 (검색 조건 없는 통합 검색과 같은 쿼리)
      */
-    private JobPostDto convertToDto(JobPost jobPost) {
+    private Page<JobPostDto> findActiveSummaries(Pageable pageable) {
+        return jobPostRepository.searchByAllFieldsOptimized(null, null, null, null, null, LocalDate.now(), pageable)
+                .map(this::convertToDto);
+    }
+
+    /**
+     * 기술 스택 필터 이름을 표준 기술 스택(ID)으로 한 번만 푼다. 별칭·대소문자·공백 차이는 같은 ID가 되고,
+     * 모르는 이름이면 empty를 반환해 쿼리 없이 빈 결과를 돌려준다.
+     */
+    private Optional<TechStackDto> findTechStack(String stackName) {
+        return techStackDictionary.find(stackName)
+                .map(stack -> new TechStackDto(stack.id(), stack.stackName()));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static int cursorPageSize(int size) {
+        return Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    private static JobPostCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return JobPostCursor.decode(cursor.strip());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * limit + 1건을 조회해 다음 페이지 존재 여부를 판단하고, 마지막 행으로 다음 커서를 만든다.
+     */
+    private JobPostCursorPage toCursorPage(List<JobPostSummary> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<JobPostSummary> page = hasNext ? rows.subList(0, limit) : rows;
+        return JobPostCursorPage.builder()
+            .content(page.stream().map(this::convertToDto).toList())
+            .nextCursor(hasNext ? JobPostCursor.after(page.get(page.size() - 1)).encode() : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    /**
+     * 요약 프로젝션 → DTO 변환 (목록용)
+     */
+    private JobPostDto convertToDto(JobPostSummary summary) {
         return JobPostDto.builder()
-            .id(jobPost.getId())
-            .sourcePlatform(jobPost.getSourcePlatform().name())
-            .companyName(jobPost.getCompanyName())
-            .title(jobPost.getTitle())
-            .jobCategory(jobPost.getJobCategory())
-            .experience(jobPost.getExperience())
-            .location(jobPost.getLocation())
-            .hireType(jobPost.getHireType())
-            .startDate(jobPost.getStartDate())
-            .endDate(jobPost.getEndDate())
-            .originalUrl(jobPost.getOriginalUrl())
-            .isActive(jobPost.isActive())
-            .techStacks(convertTechStacks(jobPost))
+            .id(summary.id())
+            .sourcePlatform(summary.sourcePlatform().name())
+            .companyName(summary.companyName())
+            .title(summary.title())
+            .jobCategory(summary.jobCategory())
+            .experience(summary.experience())
+            .location(summary.location())
+            .hireType(summary.hireType())
+            .startDate(summary.startDate())
+            .endDate(summary.endDate())
+            .originalUrl(summary.originalUrl())
+            .isActive(summary.active())
+            .techStacks(summary.techStacks())
             .build();
     }
 
     /**
      * Entity → DetailDTO 변환 (상세용)
      */
-    private JobPostDetailDto convertToDetailDto(JobPost jobPost) {
+    private JobPostDetailDto convertToDetailDto(JobPost jobPost, JobPostDetail detail) {
         return JobPostDetailDto.builder()
             .id(jobPost.getId())
             .sourcePlatform(jobPost.getSourcePlatform().name())
@@ -148,8 +256,8 @@ public class JobPostService {
             .endDate(jobPost.getEndDate())
             .createdAt(jobPost.getCreatedAt())
             .originalUrl(jobPost.getOriginalUrl())
-            .applyQual(jobPost.getApplyQual())
-            .processInfo(jobPost.getProcessInfo())
+            .applyQual(detail == null ? null : detail.getApplyQual())
+            .processInfo(detail == null ? null : detail.getProcessInfo())
             .isActive(jobPost.isActive())
             .techStacks(convertTechStacks(jobPost))
             .files(extractFiles(jobPost))
@@ -190,31 +298,11 @@ public class JobPostService {
             .collect(Collectors.toList());
     }
 
-    /**
-     * 만료된 공고를 비활성화
-     */
-    @Transactional(readOnly = false)
-    public void deactivateExpiredPosts() {
-        LocalDate today = LocalDate.now();
-        int updated = jobPostRepository.deactivateExpired(today);
-        if (updated > 0) {
-            log.info("만료된 공고 {}건 비활성화 완료 (기준일: {})", updated, today);
-        }
-    }
-
-    /**
-     * 매일 00:05 만료 공고 비활성화
-     */
-    @Scheduled(cron = "0 5 0 * * *")
-    @Transactional(readOnly = false)
-    public void scheduledDeactivateExpiredPosts() {
-        deactivateExpiredPosts();
-    }
-
     /**
      * 매일 00:30 1년 이상된 비활성 공고 백업 로그 후 물리 삭제
      */
     @Scheduled(cron = "0 30 0 * * *")
+    @ClusterLocked(name = "job-post-purge-inactive", lockAtMostFor = "1h", lockAtLeastFor = "5m")
     @Transactional(readOnly = false)
     public void purgeInactiveOlderThanOneYear() {
         LocalDate threshold = LocalDate.now().minusYears(1);
@@ -0,0 +1,17 @@
+package kr.itsdev.devjobcollector.service;
+
+import java.util.Set;
+
+/**
+ * 공고가 신규 저장/변경/비활성화되었음을 알리는 이벤트 (커밋 후 조회 캐시 무효화, 검색 색인 갱신용)
+ */
+public record JobPostsChangedEvent(String source, Set<Long> jobPostIds) {
+
+    public JobPostsChangedEvent {
+        jobPostIds = Set.copyOf(jobPostIds);
+    }
+
+    public int changedCount() {
+        return jobPostIds.size();
+    }
+}
@@ -35,13 +35,18 @@ public class PublicDataApiClient {
          * 특정 공고의 상세 정보를 호출한다. [/detail]
          */
         public PublicDataDetailResponse fetchJobDetail(String sn) {
-            URI uri = UriComponentsBuilder.fromUriString(properties.getBaseUrl() + "/detail")
+            return restTemplate.getForObject(detailUri(sn), PublicDataDetailResponse.class);
+        }
+
+        /**
+         * 상세 API URI. 호출 전 호스트 단위 속도 제한에도 쓴다.
+         */
+        public URI detailUri(String sn) {
+            return UriComponentsBuilder.fromUriString(properties.getBaseUrl() + "/detail")
                     .queryParam("serviceKey", properties.getServiceKey())
                     .queryParam("sn", sn)
                     .queryParam("resultType", "json")
                     .build(true)
                     .toUri();
-
-            return restTemplate.getForObject(uri, PublicDataDetailResponse.class);
-        }    
+        }
 }
@@ -1,30 +1,44 @@
 package kr.itsdev.devjobcollector.service;
 
+import kr.itsdev.devjobcollector.collection.support.HostRateLimiter;
+import kr.itsdev.devjobcollector.config.PublicDataCollectionProperties;
 import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.JobPostDetail;
 import kr.itsdev.devjobcollector.domain.SourcePlatform;
-import kr.itsdev.devjobcollector.domain.TechStack;
 import kr.itsdev.devjobcollector.dto.PublicDataDetailResponse;
 import kr.itsdev.devjobcollector.dto.PublicDataListResponse;
 import kr.itsdev.devjobcollector.dto.PublicJobDto;
+import kr.itsdev.devjobcollector.repository.JobPostDetailRepository;
 import kr.itsdev.devjobcollector.repository.JobPostRepository;
-import kr.itsdev.devjobcollector.repository.TechStackRepository;
+import kr.itsdev.devjobcollector.scheduling.ClusterLocked;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 공공데이터 포털 채용 공고 수집 서비스
@@ -34,9 +48,18 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class PublicDataCollectorService {
 
+    // 상세 조회 단계가 모두 끝났음을 저장 단계에 알리는 큐 종료 표식
+    private static final PublicJobDto END_OF_DETAILS = new PublicJobDto();
+    // 큐가 이 시간 동안 비어 있으면 채우지 못한 배치라도 저장한다.
+    private static final long PERSIST_LINGER_MS = 500;
+
     private final JobPostRepository jobPostRepository;
-    private final TechStackRepository techStackRepository;
+    private final JobPostDetailRepository jobPostDetailRepository;
+    private final TechStackDictionary techStackDictionary;
     private final PublicDataApiClient apiClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PublicDataCollectionProperties collectionProperties;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${public-data.collection.enabled:true}")
     private boolean collectionEnabled;
@@ -46,6 +69,7 @@ public class PublicDataCollectorService {
      * cron = "초 분 시 일 월 요일"
      */
     @Scheduled(cron = "0 0 10,16 * * *", zone = "Asia/Seoul")
+    @ClusterLocked(name = "public-data-collect", lockAtMostFor = "2h", lockAtLeastFor = "5m")
     public void scheduleCollect() {
         if (!collectionEnabled) {
             log.info("Public data collection is disabled; skipping scheduled collection");
@@ -59,276 +83,326 @@ public class PublicDataCollectorService {
     }
 
     /**
-     * 공공데이터 전체 수집 프로세스
-     * @param size 조회할 공고 개수
+     * 공공데이터 전체 수집 프로세스.
+     * 목록(totalCount 전체 페이지) → 상세 동시 조회(속도 제한) → 제한 큐 → 짧은 배치 트랜잭션 저장 순으로 흐르며,
+     * 네트워크 호출 중에는 트랜잭션과 DB 커넥션을 잡지 않는다.
+     * @param pageSize 목록 API 페이지당 조회 개수
      */
-    @Transactional
-    public void collectAll(int size) {
-        log.info("=== 공공데이터 수집 시작 (요청 개수: {}) ===", size);
-        
-        long startTime = System.currentTimeMillis();
-        int newCount = 0;
-        int skipCount = 0;
-        int errorCount = 0;
+    public void collectAll(int pageSize) {
+        log.info("=== 공공데이터 수집 시작 (페이지 크기: {}) ===", pageSize);
 
-        try {
-            // 1. 목록 조회
-            PublicDataListResponse listResponse = apiClient.fetchJobList(0, size);
+        long startTime = System.currentTimeMillis();
+        CollectionTally tally = new CollectionTally();
+        List<Long> savedIds = new ArrayList<>();
+        BlockingQueue<PublicJobDto> details = new ArrayBlockingQueue<>(collectionProperties.queueCapacity());
 
-            // 응답 검증
-            if (listResponse == null || !listResponse.isSuccess()) {
-                log.error("❌ API 응답이 실패");
-                return;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> producer = executor.submit(() -> fetchAllDetails(pageSize, details, tally));
+            try {
+                persistUntilDrained(details, tally, savedIds);
+            } finally {
+                // 저장 단계가 비정상 종료하면 큐가 비지 않아 막힌 상세 조회를 끊는다.
+                producer.cancel(true);
             }
-
-            if (listResponse.getResult() == null || listResponse.getResult().isEmpty()) {
-                log.warn("조회된 공고가 없습니다.");
-                return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("❌ 스레드 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("❌ 수집 프로세스 중 치명적 오류 발생", e);
+        } finally {
+            long duration = System.currentTimeMillis() - startTime;
+            printSummary(tally.listed.get(), tally.saved.get(), tally.skipped.get(), tally.failed.get(), duration);
+            if (!savedIds.isEmpty()) {
+                eventPublisher.publishEvent(new JobPostsChangedEvent(SourcePlatform.PUBLIC_ALIO.name(), Set.copyOf(savedIds)));
             }
+        }
+    }
 
-            log.info("API 응답 수신 성공: {} 건", listResponse.getResult().size());
-            
-            // 상세 로그
-            log.info("📊 API 응답 상태:");
-            log.info("  - resultCode: {}", listResponse.getResultCode());
-            log.info("  - resultMsg: {}", listResponse.getResultMsg());
-            log.info("  - totalCount: {}", listResponse.getTotalCount());
-            log.info("  - result size: {}", 
-                listResponse.getResult() != null ? listResponse.getResult().size() : "null");
-            log.info("  - isSuccess(): {}", listResponse.isSuccess());
-            
-            // 2. 원본 일련번호 일괄 중복 체크 (쿼리 1회)
-            List<String> originalSnList = listResponse.getResult().stream()
-                    .map(PublicJobDto::getRecrutPblntSn)
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            Set<String> existingSnSet = new HashSet<>(
-                    jobPostRepository.findExistingOriginalSns(SourcePlatform.PUBLIC_ALIO, originalSnList)
-            );
-            log.debug("✅ 중복 체크 완료: {} / {}건 기존 존재", existingSnSet.size(), originalSnList.size());
-
-            // 3. 각 공고 처리
-            for (PublicJobDto item : listResponse.getResult()) {
-                String originalSn = null;
-                try {
-                    originalSn = item.getRecrutPblntSn();
-                    
-                    log.debug("🔍 처리 중: {} - {}", item.getInstNm(), item.getRecrutPbancTtl());
-                    
-                    // 필수 필드 검증
-                    if (!isValidDto(item)) {
-                        log.warn("⚠️ 필수 필드 누락: {}", originalSn);
-                        errorCount++;
-                        continue;
-                    }
-
-                    // 중복 체크 (일괄 조회 결과 사용)
-                    if (existingSnSet.contains(originalSn)) {
-                        log.debug("⏭️ 중복 스킵: {}", originalSn);
-                        skipCount++;
-                        continue;
-                    }
-
-                    // 3. 상세 정보 조회 및 저장
-                    if (fetchDetailAndSave(originalSn)) {
-                        newCount++;
-                        log.info("✅ 저장 완료 [{}/{}]: {} - {}", 
-                            newCount, 
-                            listResponse.getResult().size(),
-                            item.getInstNm(), 
-                            item.getRecrutPbancTtl());
-                    } else {
-                        errorCount++;
-                    }
-
-                    // API Rate Limiting 방지
-                    TimeUnit.MILLISECONDS.sleep(100);
-
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.error("❌ 스레드 인터럽트 발생", e);
-                    break;
-                } catch (Exception e) {
-                    log.error("❌ 개별 처리 실패: {}", item.getRecrutPblntSn(), e);
-                    errorCount++;
+    /**
+     * 목록을 totalCount까지 페이지 단위로 받아, 신규 공고의 상세 조회를 가상 스레드로 동시에 실행한다.
+     * 모든 상세 조회가 큐에 들어간 뒤 종료 표식을 넣는다.
+     */
+    private void fetchAllDetails(int pageSize, BlockingQueue<PublicJobDto> details, CollectionTally tally) {
+        Semaphore inFlight = new Semaphore(collectionProperties.detailMaxInFlight());
+        HostRateLimiter rateLimiter = new HostRateLimiter(collectionProperties.detailPermitsPerSecond());
+        try (ExecutorService detailExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Set<String> requestedSns = new HashSet<>();
+            Integer totalCount = null;
+            for (int page = 0; page < collectionProperties.maxPages(); page++) {
+                PublicDataListResponse listResponse = apiClient.fetchJobList(page, pageSize);
+                if (listResponse == null || !listResponse.isSuccess()) {
+                    log.error("❌ 목록 API 응답 실패: page={}", page + 1);
+                    return;
                 }
+                if (totalCount == null) {
+                    totalCount = listResponse.getTotalCount();
+                    log.info("📊 목록 API 응답: resultCode={}, totalCount={}",
+                        listResponse.getResultCode(), totalCount);
+                }
+                List<PublicJobDto> items = listResponse.getResult();
+                if (items == null || items.isEmpty()) {
+                    return;
+                }
+                int listed = tally.listed.addAndGet(items.size());
 
-                // 신규 저장 시 중복 집합에 추가해 동일 배치 내 중복 방지
-                if (originalSn != null) {
-                    existingSnSet.add(originalSn);
+                for (String originalSn : newOriginalSns(items, requestedSns, tally)) {
+                    detailExecutor.submit(() -> fetchDetailInto(originalSn, details, inFlight, rateLimiter, tally));
+                }
+                if (totalCount == null || listed >= totalCount) {
+                    return;
                 }
             }
-
-        } catch (Exception e) {
-            log.error("❌ 수집 프로세스 중 치명적 오류 발생", e);
+            log.warn("⚠️ 목록 페이지 상한 도달: maxPages={}, totalCount={}", collectionProperties.maxPages(), totalCount);
+        } catch (RuntimeException e) {
+            // 이미 시작한 상세 조회는 마저 끝내고 받은 만큼 저장한다.
+            log.error("❌ 목록 조회 중 오류 발생", e);
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            printSummary(size, newCount, skipCount, errorCount, duration);
+            try {
+                details.put(END_OF_DETAILS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
     /**
-     * 상세 정보 조회 및 저장
+     * 필수 필드 검증과 원본 일련번호 일괄 중복 체크(페이지당 쿼리 1회)를 거쳐 상세 조회할 일련번호만 남긴다.
      */
-    private boolean fetchDetailAndSave(String originalSn) {
+    private List<String> newOriginalSns(List<PublicJobDto> items, Set<String> requestedSns, CollectionTally tally) {
+        List<String> candidates = new ArrayList<>();
+        for (PublicJobDto item : items) {
+            if (!isValidDto(item)) {
+                log.warn("⚠️ 필수 필드 누락: {}", item.getRecrutPblntSn());
+                tally.failed.incrementAndGet();
+            } else if (!requestedSns.add(item.getRecrutPblntSn())) {
+                tally.skipped.incrementAndGet();
+            } else {
+                candidates.add(item.getRecrutPblntSn());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> existingSnSet = new HashSet<>(
+                jobPostRepository.findExistingOriginalSns(SourcePlatform.PUBLIC_ALIO, candidates)
+        );
+        log.debug("✅ 중복 체크 완료: {} / {}건 기존 존재", existingSnSet.size(), candidates.size());
+        tally.skipped.addAndGet(existingSnSet.size());
+        return candidates.stream()
+                .filter(originalSn -> !existingSnSet.contains(originalSn))
+                .toList();
+    }
+
+    private void fetchDetailInto(String originalSn, BlockingQueue<PublicJobDto> details,
+                                 Semaphore inFlight, HostRateLimiter rateLimiter, CollectionTally tally) {
+        try {
+            PublicJobDto detail;
+            inFlight.acquire();
+            try {
+                rateLimiter.acquire(apiClient.detailUri(originalSn));
+                detail = fetchDetail(originalSn);
+            } finally {
+                inFlight.release();
+            }
+            if (detail == null) {
+                tally.failed.incrementAndGet();
+                return;
+            }
+            // 저장 단계가 밀리면 큐가 차서 여기서 기다린다.
+            details.put(detail);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 상세 정보 조회
+     */
+    private PublicJobDto fetchDetail(String originalSn) {
         try {
             PublicDataDetailResponse detailResponse = apiClient.fetchJobDetail(originalSn);
             
             if (detailResponse == null) {
                 log.warn("⚠️ 상세 응답이 null: {}", originalSn);
-                return false;
+                return null;
             }
             
             if (!detailResponse.isSuccess()) {
                 log.warn("⚠️ 상세 조회 실패: {} - {}", 
                     detailResponse.getResultCode(), 
                     detailResponse.getResultMsg());
-                return false;
+                return null;
             }
             
             if (detailResponse.getResult() == null) {
                 log.warn("⚠️ 상세 데이터 없음: {}", originalSn);
-                return false;
+                return null;
             }
 
-            return saveJobPost(detailResponse.getResult());
+            PublicJobDto detail = detailResponse.getResult();
+            if (detail.getRecrutPblntSn() == null) {
+                detail.setRecrutPblntSn(originalSn);
+            }
+            return detail;
 
         } catch (Exception e) {
             log.error("❌ 상세 조회 중 오류: {}", originalSn, e);
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * 큐에서 상세를 꺼내 배치가 차거나 잠시 비면 저장한다. 종료 표식을 받으면 남은 배치를 저장하고 끝낸다.
+     */
+    private void persistUntilDrained(BlockingQueue<PublicJobDto> details, CollectionTally tally,
+                                     List<Long> savedIds) throws InterruptedException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<PublicJobDto> batch = new ArrayList<>(collectionProperties.persistBatchSize());
+        while (true) {
+            PublicJobDto detail = details.poll(PERSIST_LINGER_MS, TimeUnit.MILLISECONDS);
+            boolean finished = detail == END_OF_DETAILS;
+            if (detail != null && !finished) {
+                batch.add(detail);
+            }
+            if (!batch.isEmpty()
+                    && (finished || detail == null || batch.size() >= collectionProperties.persistBatchSize())) {
+                savedIds.addAll(persistBatch(transaction, batch, tally));
+                batch.clear();
+            }
+            if (finished) {
+                return;
+            }
         }
     }
 
     /**
-     * JobPost 저장
+     * 배치 하나를 트랜잭션 하나로 저장한다.
+     * 배치가 실패하면 건별 트랜잭션으로 다시 저장해 한 건의 오류가 배치 전체를 버리지 않게 한다.
+     * 기술 스택은 트랜잭션을 열기 전에 배치 단위로 한 번에 해석한다.
      */
-    @Transactional
-    public boolean saveJobPost(PublicJobDto dto) {
+    private List<Long> persistBatch(TransactionTemplate transaction, List<PublicJobDto> batch,
+                                    CollectionTally tally) {
+        Map<String, TechStackDictionary.Entry> stacks = resolveTechStacks(batch);
         try {
-            // 재차 중복 체크 (동시성 이슈 대비)
-            if (isDuplicate(dto.getRecrutPblntSn())) {
+            return tally.record(transaction.execute(status -> saveJobPosts(batch, stacks)));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 배치 저장 실패, 건별 재시도: {}건", batch.size(), e);
+        }
+        List<Long> savedIds = new ArrayList<>();
+        for (PublicJobDto dto : batch) {
+            try {
+                savedIds.addAll(tally.record(transaction.execute(status -> saveJobPosts(List.of(dto), stacks))));
+            } catch (RuntimeException e) {
+                log.error("❌ 저장 중 오류: {}", dto.getRecrutPblntSn(), e);
+                tally.failed.incrementAndGet();
+            }
+        }
+        return savedIds;
+    }
+
+    /**
+     * JobPost 일괄 저장 (호출부 트랜잭션 안에서 실행)
+     */
+    private BatchOutcome saveJobPosts(List<PublicJobDto> batch, Map<String, TechStackDictionary.Entry> stacks) {
+        // 재차 중복 체크 (다른 인스턴스의 수동 수집 대비)
+        List<String> originalSns = batch.stream().map(PublicJobDto::getRecrutPblntSn).toList();
+        Set<String> existingSnSet = new HashSet<>(
+                jobPostRepository.findExistingOriginalSns(SourcePlatform.PUBLIC_ALIO, originalSns));
+
+        List<JobPost> jobPosts = new ArrayList<>();
+        List<PublicJobDto> sources = new ArrayList<>();
+        List<Set<Integer>> tagIds = new ArrayList<>();
+        int duplicates = 0;
+        int invalid = 0;
+        for (PublicJobDto dto : batch) {
+            if (!existingSnSet.add(dto.getRecrutPblntSn())) {
                 log.debug("⏭️ 중복 감지 (재확인): {}", dto.getRecrutPblntSn());
-                return false;
+                duplicates++;
+                continue;
             }
 
             // DTO → Entity 변환
             JobPost jobPost = convertToEntity(dto);
-            
             if (jobPost == null) {
                 log.error("❌ 엔티티 변환 실패: {}", dto.getRecrutPblntSn());
-                return false;
+                invalid++;
+                continue;
             }
 
-            if (dto.getNcsCdNmLst() != null && !dto.getNcsCdNmLst().isEmpty()) {
-                log.debug("🔧 기술스택 문자열: '{}'", dto.getNcsCdNmLst());
-
-                List<TechStack> techStacks = parseTechStacks(dto.getNcsCdNmLst());
-                log.debug("📋 파싱된 기술스택: {}개", techStacks.size());
-
-                for (TechStack techStack : techStacks) {
-                    if (techStack != null) {
-                        jobPost.addTechStack(techStack);
-                        log.debug("추가: {} (ID: {})", techStack.getStackName(), techStack.getId());
-                    }
+            Map<Integer, String> tags = new LinkedHashMap<>();
+            for (String stackName : parseTechStackNames(dto.getNcsCdNmLst())) {
+                TechStackDictionary.Entry stack = stacks.get(stackName);
+                if (stack != null) {
+                    tags.putIfAbsent(stack.id(), stack.stackName());
                 }
-
-                log.debug("기술 스택 {}개 추가: {}",
-                    techStacks.size(),
-                    techStacks.stream()
-                        .map(TechStack::getStackName)
-                        .collect(java.util.stream.Collectors.joining(", ")));
             }
+            jobPost.applyTechStackNames(tags.values());
+            tagIds.add(tags.keySet());
+            jobPosts.add(jobPost);
+            sources.add(dto);
+        }
+        if (jobPosts.isEmpty()) {
+            return new BatchOutcome(List.of(), duplicates, invalid);
+        }
 
-            // DB 저장
-            log.debug("💾 저장 시작...");
-            JobPost savedJobPost = jobPostRepository.save(jobPost);
-            jobPostRepository.flush();
-
-            if (savedJobPost.getId() == null) {
-                log.error("❌ 저장 실패: ID가 생성되지 않음");
-                return false;
+        // DB 저장
+        List<JobPost> saved = jobPostRepository.saveAll(jobPosts);
+        jobPostRepository.flush();
+
+        List<Long> savedIds = new ArrayList<>(saved.size());
+        List<JobPostDetail> jobPostDetails = new ArrayList<>(saved.size());
+        Map<Long, Set<Integer>> postTags = new LinkedHashMap<>();
+        for (int i = 0; i < saved.size(); i++) {
+            Long id = saved.get(i).getId();
+            PublicJobDto source = sources.get(i);
+            savedIds.add(id);
+            jobPostDetails.add(new JobPostDetail(id, source.getAplyQlfcCn(), source.getScrnprcdrMthdExpln()));
+            if (!tagIds.get(i).isEmpty()) {
+                postTags.put(id, tagIds.get(i));
             }
-
-            log.debug("💾 DB 저장 완료: {}", dto.getRecrutPblntSn());
-            return true;
-
-        } catch (Exception e) {
-            log.error("❌ 저장 중 오류: {}", dto.getRecrutPblntSn(), e);
-            return false;
         }
+        jobPostDetailRepository.upsertAll(jobPostDetails);
+        jobPostRepository.insertPostTags(postTags);
+        log.info("✅ 저장 완료: {}건 (중복 {}건, 변환 실패 {}건)", savedIds.size(), duplicates, invalid);
+        return new BatchOutcome(savedIds, duplicates, invalid);
     }
 
     /**
-     * 기술 스택 문자열 파싱
+     * 배치에 나오는 기술 스택 이름을 모아 사전에서 한 번에 해석한다.
      */
-    private List<TechStack> parseTechStacks(String techStackString) {
-        List<TechStack> techStacks = new ArrayList<>();
-        
-        if(techStackString == null || techStackString.trim().isEmpty()) {
-            return techStacks;
+    private Map<String, TechStackDictionary.Entry> resolveTechStacks(List<PublicJobDto> batch) {
+        Set<String> stackNames = new LinkedHashSet<>();
+        for (PublicJobDto dto : batch) {
+            stackNames.addAll(parseTechStackNames(dto.getNcsCdNmLst()));
         }
+        if (stackNames.isEmpty()) {
+            return Map.of();
+        }
+        return techStackDictionary.resolveAll(stackNames);
+    }
 
-        log.debug("기술스택 파싱 시작: '{}'", techStackString);
+    /**
+     * 기술 스택 문자열 파싱
+     */
+    private List<String> parseTechStackNames(String techStackString) {
+        List<String> stackNames = new ArrayList<>();
 
-        String[] stackNames = techStackString.split("[,./·\\s]+");
+        if (techStackString == null || techStackString.trim().isEmpty()) {
+            return stackNames;
+        }
 
-        for (String stackName : stackNames) {
+        for (String stackName : techStackString.split("[,./·\\s]+")) {
             String trimmedName = stackName.trim();
-            
+
             // 유효성 검사
-            if (!isValidStackName(trimmedName)) {
-                continue;
-            }
-            
-            try {
-                // ✅ 동기화된 방식으로 조회/생성
-                TechStack techStack = getOrCreateTechStack(trimmedName);
-
-                if (techStack != null) {
-                    techStacks.add(techStack);
-                } else {
-                    log.warn("기술스택이 null로 반환됨: {}", trimmedName);
-                }                
-            } catch (Exception e) {
-                log.error("❌ 기술스택 처리 실패: {}", trimmedName, e);
+            if (isValidStackName(trimmedName)) {
+                stackNames.add(trimmedName);
             }
         }
-        
-        log.debug("파싱 완료: {} → {}개", techStackString, techStacks.size());
 
-        return techStacks;
-    }
-
-    /**
-     * ✅ 기술스택 조회 또는 생성 (동시성 문제 해결)
-     */
-    @Transactional
-    private TechStack getOrCreateTechStack(String stackName) {
-        Objects.requireNonNull(stackName, "stackName cannot be null");
-        // 1. 먼저 조회 시도
-        return techStackRepository.findByStackName(stackName)
-                .orElseGet(() -> {
-                    try {
-                        // 2. 없으면 생성
-                        TechStack newStack = TechStack.builder()
-                                .stackName(stackName)
-                                .build();
-                        
-                        @SuppressWarnings("null")
-                        TechStack saved = techStackRepository.save(newStack);
-                        techStackRepository.flush(); // ✅ 즉시 DB 반영
-                        
-                        log.debug("  ✅ 새 기술스택 생성: {} (id={})", stackName, saved.getId());
-                        return saved;
-                        
-                    } catch (Exception e) {
-                        // 3. 동시성으로 인한 중복 생성 시도 시 재조회
-                        log.warn("⚠️ 중복 생성 시도 감지, 재조회: {}", stackName);
-                        return techStackRepository.findByStackName(stackName)
-                                .orElseThrow(() -> new RuntimeException("기술스택 조회/생성 실패: " + stackName));
-                    }
-                });
+        log.debug("파싱 완료: {} → {}개", techStackString, stackNames.size());
+        return stackNames;
     }
 
         /**
@@ -394,8 +468,6 @@ public class PublicDataCollectorService {
                 .startDate(startDate)
                 .endDate(endDate)
                 .originalUrl(dto.getSrcUrl())
-                .applyQual(dto.getAplyQlfcCn())
-                .processInfo(dto.getScrnprcdrMthdExpln())
                 .build();
 
         } catch (Exception e) {
@@ -424,16 +496,6 @@ public class PublicDataCollectorService {
         return valid;
     }
 
-    /**
-     * 중복 체크
-     */
-    private boolean isDuplicate(String originalSn) {
-        return jobPostRepository.existsBySourcePlatformAndOriginalSn(
-            SourcePlatform.PUBLIC_ALIO, 
-            originalSn
-        );
-    }
-
     /**
      * 수집 결과 요약 출력
      */
@@ -452,10 +514,12 @@ public class PublicDataCollectorService {
     }
     
     /**
-     * 애플리케이션 시작 시 즉시 수집 (테스트용)
-     * 프로덕션 환경에서는 주석 처리 권장
+     * 애플리케이션 시작 시 즉시 수집.
+     * 정기 수집과 같은 잠금 이름을 써서 여러 인스턴스가 함께 기동해도 한 곳에서만 전체 수집한다.
+     * 이벤트 리스너는 컨텍스트의 프록시 빈으로 호출되므로 @ClusterLocked가 적용된다 (자기 호출 아님).
      */
     @EventListener(ApplicationReadyEvent.class)
+    @ClusterLocked(name = "public-data-collect", lockAtMostFor = "2h", lockAtLeastFor = "5m")
     public void initCollect() {
         if (!collectionEnabled) {
             log.info("Public data collection is disabled; skipping startup collection");
@@ -467,4 +531,27 @@ public class PublicDataCollectorService {
         log.info("└─────────────────────────────────────────────┘");
         this.collectAll(50);
     }
+
+    /**
+     * 배치 트랜잭션 하나의 저장 결과
+     */
+    private record BatchOutcome(List<Long> savedIds, int duplicates, int invalid) {
+    }
+
+    /**
+     * 단계별 스레드가 함께 올리는 수집 집계
+     */
+    private static final class CollectionTally {
+        private final AtomicInteger listed = new AtomicInteger();
+        private final AtomicInteger saved = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private List<Long> record(BatchOutcome outcome) {
+            saved.addAndGet(outcome.savedIds().size());
+            skipped.addAndGet(outcome.duplicates());
+            failed.addAndGet(outcome.invalid());
+            return outcome.savedIds();
+        }
+    }
 }
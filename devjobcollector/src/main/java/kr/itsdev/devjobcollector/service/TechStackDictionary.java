@@ -0,0 +1,126 @@
+package kr.itsdev.devjobcollector.service;
+
+import kr.itsdev.devjobcollector.domain.TechStack;
+import kr.itsdev.devjobcollector.dto.TechStackDto;
+import kr.itsdev.devjobcollector.repository.TechStackRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * tech_stacks 이름→ID 프로세스 전역 사전.
+ * 기동 시 전체를 읽어 두고, 모르는 이름은 호출 단위로 모아 INSERT IGNORE 후 IN 조회 한 번으로 채운다.
+ * 키는 tech_stacks.normalized_key이며, 별칭 키("자바", "springframework")는 표준 기술 스택을 가리킨다.
+ */
+@Slf4j
+@Component
+public class TechStackDictionary {
+
+    private final TechStackRepository techStackRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Map<String, Entry> entriesByKey = new ConcurrentHashMap<>();
+
+    public TechStackDictionary(TechStackRepository techStackRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.techStackRepository = techStackRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        techStackRepository.findAllByNormalizedKey().forEach(this::remember);
+        log.info("기술 스택 사전 적재: {}건", entriesByKey.size());
+    }
+
+    /**
+     * 이름들을 기술 스택으로 해석한다. 반환 맵의 키는 요청한 이름, 값은 DB에 저장된 ID·이름이다.
+     * 새 이름은 별도 트랜잭션으로 커밋한 뒤 사전에 넣으므로, 호출부 트랜잭션이 롤백돼도 사전의 ID는 유효하다.
+     */
+    public Map<String, Entry> resolveAll(Collection<String> stackNames) {
+        Map<String, Entry> resolved = new LinkedHashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String stackName : stackNames) {
+            Entry entry = entriesByKey.get(key(stackName));
+            if (entry != null) {
+                resolved.put(stackName, entry);
+            } else {
+                missing.add(stackName);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, TechStackDto> found = requiresNewTransaction.execute(
+                status -> techStackRepository.insertIgnoreAndFind(missing));
+        if (found != null) {
+            found.forEach(this::remember);
+        }
+        for (String stackName : missing) {
+            Entry entry = entriesByKey.get(key(stackName));
+            if (entry == null) {
+                log.warn("기술 스택 생성/조회 실패: {}", stackName);
+                continue;
+            }
+            resolved.put(stackName, entry);
+        }
+        log.debug("기술 스택 사전 갱신: 요청 {}건 중 신규 조회 {}건", stackNames.size(), missing.size());
+        return resolved;
+    }
+
+    /**
+     * 검색 필터용 조회. 사전에 없으면 DB에서 한 번 더 찾고(다른 인스턴스가 만든 경우), 그래도 없으면 만들지 않는다.
+     */
+    public Optional<Entry> find(String stackName) {
+        if (stackName == null || stackName.isBlank()) {
+            return Optional.empty();
+        }
+        String key = key(stackName);
+        Entry entry = entriesByKey.get(key);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        return techStackRepository.findByNormalizedKey(key).map(stack -> remember(key, stack));
+    }
+
+    /**
+     * 사전에 올라 있는 표준 기술 스택 이름 (DB 표기). 사전은 늘어나기만 하므로 size()로 변경 여부를 알 수 있다.
+     */
+    public List<String> stackNames() {
+        return entriesByKey.values().stream().map(Entry::stackName).distinct().toList();
+    }
+
+    public int size() {
+        return entriesByKey.size();
+    }
+
+    private Entry remember(String key, TechStackDto stack) {
+        Entry entry = new Entry(stack.getId(), stack.getStackName());
+        entriesByKey.put(key, entry);
+        return entry;
+    }
+
+    private static String key(String stackName) {
+        return TechStack.normalizedKey(stackName);
+    }
+
+    /**
+     * @param stackName DB에 저장된 표준 표기 (요청한 이름과 대소문자·공백이 다르거나 별칭일 수 있다)
+     */
+    public record Entry(Integer id, String stackName) {
+    }
+}
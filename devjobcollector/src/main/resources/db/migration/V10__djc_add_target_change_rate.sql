@@ -0,0 +1,6 @@
+-- 적응형 수집 주기: 성공한 수집마다 공고 변경 여부를 기록하고 대상별 변경률 EWMA를 유지한다.
+ALTER TABLE crawl_run
+    ADD COLUMN content_changed BOOLEAN DEFAULT NULL;
+
+ALTER TABLE company_source_target
+    ADD COLUMN change_rate DOUBLE DEFAULT NULL;
@@ -0,0 +1,5 @@
+-- 다중 인스턴스 수집 분배: 인스턴스가 SKIP LOCKED로 대상을 선점하고 만료 시각까지 임대한다.
+ALTER TABLE company_source_target
+    ADD COLUMN lease_owner VARCHAR(100) DEFAULT NULL,
+    ADD COLUMN lease_expires_at DATETIME(6) DEFAULT NULL,
+    ADD KEY idx_company_source_target_due (status, next_collect_at);
@@ -0,0 +1,20 @@
+-- 클러스터 단일 실행 스케줄 작업: 작업 이름별 잠금과 실행 이력.
+CREATE TABLE scheduled_job_lock (
+    name VARCHAR(64) NOT NULL,
+    lock_until DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(100) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE scheduled_job_run (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    job_name VARCHAR(64) NOT NULL,
+    instance_id VARCHAR(100) NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    finished_at DATETIME(6) NOT NULL,
+    status ENUM('FAILED', 'SUCCESS') NOT NULL,
+    error_message VARCHAR(500) DEFAULT NULL,
+    PRIMARY KEY (id),
+    KEY idx_scheduled_job_run_name_started (job_name, started_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
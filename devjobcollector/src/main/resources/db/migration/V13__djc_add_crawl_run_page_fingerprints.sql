@@ -0,0 +1,3 @@
+-- 목록 페이지별 SHA-256을 쉼표로 이어 기록한다. sort=ud 소스는 첫 페이지 지문이 직전 정상 수집과 같으면 수집을 바로 끝낸다.
+ALTER TABLE crawl_run
+    ADD COLUMN page_fingerprints TEXT DEFAULT NULL;
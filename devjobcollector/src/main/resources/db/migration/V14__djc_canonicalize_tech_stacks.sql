@@ -0,0 +1,207 @@
+-- 기술 스택 필터를 함수 없는 인덱스 동등 조건(post_tags.tech_stack_id = ?)으로 처리하도록 표기를 정규화한다.
+-- normalized_key: 앞뒤·중간 공백을 지우고 소문자로 바꾼 키 (TechStack.normalizedKey와 같은 규칙, 이진 비교)
+ALTER TABLE tech_stacks
+    ADD COLUMN normalized_key VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin DEFAULT NULL AFTER stack_name;
+
+UPDATE tech_stacks SET normalized_key = LOWER(REPLACE(TRIM(stack_name), ' ', ''));
+
+-- 별칭 키 → 표준 기술 스택. 별칭 키는 tech_stacks.normalized_key와 겹치지 않는다.
+CREATE TABLE tech_stack_aliases (
+    alias_key VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    alias_name VARCHAR(50) NOT NULL,
+    tech_stack_id INT NOT NULL,
+    PRIMARY KEY (alias_key),
+    KEY idx_tech_stack_aliases_tech_stack_id (tech_stack_id),
+    CONSTRAINT fk_tech_stack_aliases_tech_stack_id
+        FOREIGN KEY (tech_stack_id) REFERENCES tech_stacks (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- tech-stack-synonyms.txt 기준 동의어 (별칭 키, 별칭 표기, 표준 이름)
+CREATE TEMPORARY TABLE tmp_tech_stack_synonyms (
+    alias_key VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    alias_name VARCHAR(50) NOT NULL,
+    canonical_name VARCHAR(50) NOT NULL,
+    PRIMARY KEY (alias_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO tmp_tech_stack_synonyms (alias_key, alias_name, canonical_name) VALUES
+    ('자바', '자바', 'Java'),
+    ('코틀린', '코틀린', 'Kotlin'),
+    ('스프링', '스프링', 'Spring'),
+    ('springframework', 'Spring Framework', 'Spring'),
+    ('스프링프레임워크', '스프링 프레임워크', 'Spring'),
+    ('스프링부트', '스프링부트', 'Spring Boot'),
+    ('springdatajpa', 'Spring Data JPA', 'JPA'),
+    ('하이버네이트', '하이버네이트', 'Hibernate'),
+    ('자바스크립트', '자바스크립트', 'JavaScript'),
+    ('js', 'JS', 'JavaScript'),
+    ('ecmascript', 'ECMAScript', 'JavaScript'),
+    ('타입스크립트', '타입스크립트', 'TypeScript'),
+    ('ts', 'TS', 'TypeScript'),
+    ('nodejs', 'NodeJS', 'Node.js'),
+    ('노드js', '노드JS', 'Node.js'),
+    ('리액트', '리액트', 'React'),
+    ('react.js', 'React.js', 'React'),
+    ('reactjs', 'ReactJS', 'React'),
+    ('리액트네이티브', '리액트 네이티브', 'React Native'),
+    ('vue', 'Vue', 'Vue.js'),
+    ('뷰js', '뷰JS', 'Vue.js'),
+    ('vuejs', 'VueJS', 'Vue.js'),
+    ('nextjs', 'NextJS', 'Next.js'),
+    ('앵귤러', '앵귤러', 'Angular'),
+    ('스벨트', '스벨트', 'Svelte'),
+    ('파이썬', '파이썬', 'Python'),
+    ('장고', '장고', 'Django'),
+    ('플라스크', '플라스크', 'Flask'),
+    ('golang', 'Golang', 'Go'),
+    ('고랭', '고랭', 'Go'),
+    ('러스트', '러스트', 'Rust'),
+    ('cpp', 'Cpp', 'C++'),
+    ('csharp', 'CSharp', 'C#'),
+    ('닷넷', '닷넷', '.NET'),
+    ('asp.net', 'ASP.NET', '.NET'),
+    ('피에이치피', '피에이치피', 'PHP'),
+    ('라라벨', '라라벨', 'Laravel'),
+    ('루비', '루비', 'Ruby'),
+    ('rails', 'Rails', 'Ruby on Rails'),
+    ('ror', 'RoR', 'Ruby on Rails'),
+    ('스위프트', '스위프트', 'Swift'),
+    ('objc', 'ObjC', 'Objective-C'),
+    ('플러터', '플러터', 'Flutter'),
+    ('다트', '다트', 'Dart'),
+    ('안드로이드', '안드로이드', 'Android'),
+    ('아이오에스', '아이오에스', 'iOS'),
+    ('스칼라', '스칼라', 'Scala'),
+    ('엘릭서', '엘릭서', 'Elixir'),
+    ('마이에스큐엘', '마이에스큐엘', 'MySQL'),
+    ('마리아db', '마리아DB', 'MariaDB'),
+    ('postgres', 'Postgres', 'PostgreSQL'),
+    ('포스트그레스', '포스트그레스', 'PostgreSQL'),
+    ('오라클', '오라클', 'Oracle'),
+    ('oracledb', 'Oracle DB', 'Oracle'),
+    ('몽고db', '몽고DB', 'MongoDB'),
+    ('mongo', 'Mongo', 'MongoDB'),
+    ('레디스', '레디스', 'Redis'),
+    ('엘라스틱서치', '엘라스틱서치', 'Elasticsearch'),
+    ('opensearch', 'OpenSearch', 'Elasticsearch'),
+    ('카프카', '카프카', 'Kafka'),
+    ('apachekafka', 'Apache Kafka', 'Kafka'),
+    ('래빗mq', '래빗MQ', 'RabbitMQ'),
+    ('스파크', '스파크', 'Spark'),
+    ('apachespark', 'Apache Spark', 'Spark'),
+    ('하둡', '하둡', 'Hadoop'),
+    ('에어플로우', '에어플로우', 'Airflow'),
+    ('apacheairflow', 'Apache Airflow', 'Airflow'),
+    ('도커', '도커', 'Docker'),
+    ('쿠버네티스', '쿠버네티스', 'Kubernetes'),
+    ('k8s', 'K8s', 'Kubernetes'),
+    ('테라폼', '테라폼', 'Terraform'),
+    ('젠킨스', '젠킨스', 'Jenkins'),
+    ('아마존웹서비스', '아마존 웹 서비스', 'AWS'),
+    ('amazonwebservices', 'Amazon Web Services', 'AWS'),
+    ('googlecloud', 'Google Cloud', 'GCP'),
+    ('구글클라우드', '구글 클라우드', 'GCP'),
+    ('애저', '애저', 'Azure'),
+    ('microsoftazure', 'Microsoft Azure', 'Azure'),
+    ('리눅스', '리눅스', 'Linux'),
+    ('엔진엑스', '엔진엑스', 'Nginx'),
+    ('그래프ql', '그래프QL', 'GraphQL'),
+    ('텐서플로우', '텐서플로우', 'TensorFlow'),
+    ('텐서플로', '텐서플로', 'TensorFlow'),
+    ('파이토치', '파이토치', 'PyTorch'),
+    ('유니티', '유니티', 'Unity'),
+    ('언리얼', '언리얼', 'Unreal Engine'),
+    ('언리얼엔진', '언리얼 엔진', 'Unreal Engine'),
+    ('unreal', 'Unreal', 'Unreal Engine');
+
+INSERT IGNORE INTO tech_stacks (stack_name, normalized_key)
+SELECT DISTINCT canonical_name, LOWER(REPLACE(TRIM(canonical_name), ' ', ''))
+FROM tmp_tech_stack_synonyms;
+
+-- 합칠 행 → 남길 행. 동의어 표기는 표준 이름 행으로, 나머지 같은 키의 중복은 가장 작은 ID로 모은다.
+-- 표준 이름 키는 별칭 키와 겹치지 않으므로 남길 행이 다시 합쳐지는 일은 없다.
+CREATE TEMPORARY TABLE tmp_tech_stack_merge (
+    old_id INT NOT NULL,
+    new_id INT NOT NULL,
+    PRIMARY KEY (old_id)
+) ENGINE=InnoDB;
+
+INSERT INTO tmp_tech_stack_merge (old_id, new_id)
+SELECT ts.id, canonical.id
+FROM tech_stacks ts
+JOIN tmp_tech_stack_synonyms syn ON syn.alias_key = ts.normalized_key
+JOIN (
+    SELECT normalized_key, MIN(id) AS id
+    FROM tech_stacks
+    GROUP BY normalized_key
+) canonical ON canonical.normalized_key = LOWER(REPLACE(TRIM(syn.canonical_name), ' ', ''))
+WHERE ts.id <> canonical.id;
+
+INSERT IGNORE INTO tmp_tech_stack_merge (old_id, new_id)
+SELECT ts.id, keep.id
+FROM tech_stacks ts
+JOIN (
+    SELECT normalized_key, MIN(id) AS id
+    FROM tech_stacks
+    GROUP BY normalized_key
+) keep ON keep.normalized_key = ts.normalized_key
+WHERE ts.id <> keep.id;
+
+-- 합쳐진 표기도 별칭으로 남겨 이전 이름으로 필터해도 같은 ID로 풀리게 한다.
+INSERT IGNORE INTO tech_stack_aliases (alias_key, alias_name, tech_stack_id)
+SELECT ts.normalized_key, ts.stack_name, m.new_id
+FROM tmp_tech_stack_merge m
+JOIN tech_stacks ts ON ts.id = m.old_id
+JOIN tech_stacks keep ON keep.id = m.new_id
+WHERE ts.normalized_key <> keep.normalized_key;
+
+INSERT IGNORE INTO tech_stack_aliases (alias_key, alias_name, tech_stack_id)
+SELECT syn.alias_key, syn.alias_name, canonical.id
+FROM tmp_tech_stack_synonyms syn
+JOIN tech_stacks canonical
+    ON canonical.normalized_key = LOWER(REPLACE(TRIM(syn.canonical_name), ' ', ''))
+LEFT JOIN tmp_tech_stack_merge merged ON merged.old_id = canonical.id
+WHERE merged.old_id IS NULL;
+
+-- post_tags를 남길 행으로 옮긴다. 이미 같은 공고에 표준 행이 붙어 있으면 무시하고 이전 행만 지운다.
+CREATE TEMPORARY TABLE tmp_tech_stack_merged_posts (
+    job_post_id BIGINT NOT NULL,
+    PRIMARY KEY (job_post_id)
+) ENGINE=InnoDB;
+
+INSERT IGNORE INTO tmp_tech_stack_merged_posts (job_post_id)
+SELECT pt.job_post_id
+FROM post_tags pt
+JOIN tmp_tech_stack_merge m ON m.old_id = pt.tech_stack_id;
+
+INSERT IGNORE INTO post_tags (job_post_id, tech_stack_id)
+SELECT pt.job_post_id, m.new_id
+FROM post_tags pt
+JOIN tmp_tech_stack_merge m ON m.old_id = pt.tech_stack_id;
+
+DELETE pt
+FROM post_tags pt
+JOIN tmp_tech_stack_merge m ON m.old_id = pt.tech_stack_id;
+
+DELETE ts
+FROM tech_stacks ts
+JOIN tmp_tech_stack_merge m ON m.old_id = ts.id;
+
+-- 임시 테이블은 한 문장에서 두 번 열 수 없어 집계는 전체 post_tags에서 하고 바깥 조인으로 좁힌다.
+UPDATE job_posts jp
+JOIN tmp_tech_stack_merged_posts merged ON merged.job_post_id = jp.id
+JOIN (
+    SELECT pt.job_post_id, GROUP_CONCAT(DISTINCT ts.stack_name ORDER BY ts.stack_name SEPARATOR ' ') AS names
+    FROM post_tags pt
+    JOIN tech_stacks ts ON ts.id = pt.tech_stack_id
+    GROUP BY pt.job_post_id
+) tags ON tags.job_post_id = jp.id
+SET jp.tech_stack_names = tags.names;
+
+DROP TEMPORARY TABLE tmp_tech_stack_merged_posts;
+DROP TEMPORARY TABLE tmp_tech_stack_merge;
+DROP TEMPORARY TABLE tmp_tech_stack_synonyms;
+
+ALTER TABLE tech_stacks
+    MODIFY COLUMN normalized_key VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    ADD UNIQUE KEY uk_tech_stacks_normalized_key (normalized_key);
@@ -0,0 +1,21 @@
+-- 직무/경력/지역 필터를 LIKE 대신 작은 정수 컬럼의 동등 비교·비트 검사로 처리하기 위한 분류 컬럼.
+-- 값은 애플리케이션(JobPostClassification)이 저장 시 계산한다. 기존 행은 classification_version = 0으로 두고
+-- JobPostClassificationBackfill이 chunk 단위로 채운다.
+ALTER TABLE job_posts
+    ADD COLUMN role_mask SMALLINT UNSIGNED NOT NULL DEFAULT 0 AFTER tech_stack_names,
+    ADD COLUMN experience_level VARCHAR(30) NOT NULL DEFAULT 'UNKNOWN' AFTER role_mask,
+    ADD COLUMN region_mask INT UNSIGNED NOT NULL DEFAULT 0 AFTER experience_level,
+    ADD COLUMN classification_version SMALLINT UNSIGNED NOT NULL DEFAULT 0 AFTER region_mask;
+
+-- 최신순 keyset 인덱스에 분류 컬럼을 덧붙여 비트 검사(role_mask & ?)를 행을 읽지 않고 인덱스 안에서 거른다.
+-- 기존 (is_active, created_at, id, end_date)는 새 인덱스의 접두어이므로 지운다.
+CREATE INDEX idx_job_posts_active_created_class
+    ON job_posts (is_active, created_at, id, end_date, experience_level, role_mask, region_mask);
+DROP INDEX idx_job_posts_active_created ON job_posts;
+
+-- 경력 필터는 동등/IN 조건이므로 선두 컬럼으로 범위를 좁힌다.
+CREATE INDEX idx_job_posts_experience_active_created
+    ON job_posts (experience_level, is_active, created_at, id);
+
+-- 백필 대상(낮은 분류 버전) 조회용
+CREATE INDEX idx_job_posts_classification_version ON job_posts (classification_version, id);
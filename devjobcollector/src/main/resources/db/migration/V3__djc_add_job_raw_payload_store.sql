@@ -0,0 +1,18 @@
+-- 동일한 원본 payload는 SHA-256 기준으로 한 번만 압축 저장하고 스냅샷은 해시로 참조한다.
+CREATE TABLE job_raw_payload (
+    payload_hash VARCHAR(64) NOT NULL,
+    encoding VARCHAR(20) NOT NULL,
+    original_length INT NOT NULL,
+    compressed_payload LONGBLOB NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (payload_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- raw_payload의 NOT NULL은 그대로 둔다. 널 허용으로 바꾸면 큰 job_raw_snapshot 전체를 다시 쓰기 때문이다.
+-- 기존 raw_payload는 RawPayloadCompactor가 chunk 단위로 payload store로 옮긴 뒤 빈 문자열로 비우고,
+-- 비운 공간은 이관이 끝난 뒤 docs/runbooks/raw-payload-compaction.md의 온라인 재구성으로 회수한다.
+ALTER TABLE job_raw_snapshot
+    ADD COLUMN payload_hash VARCHAR(64) DEFAULT NULL,
+    ALGORITHM=INSTANT;
+
+CREATE INDEX idx_job_raw_snapshot_payload_hash ON job_raw_snapshot (payload_hash) ALGORITHM=INPLACE LOCK=NONE;
@@ -0,0 +1,2 @@
+-- 만료 공고 비활성화 sweep과 활성 공고 조회(is_active = true AND end_date >= today)에 사용한다.
+CREATE INDEX idx_job_posts_active_end_date ON job_posts (is_active, end_date);
@@ -0,0 +1,17 @@
+-- 키워드 검색을 선행 와일드카드 LIKE 스캔 대신 FULLTEXT(ngram) 역색인으로 처리한다.
+-- 기술 스택명은 post_tags 조인 없이 같은 인덱스에서 찾도록 job_posts에 비정규화한다.
+ALTER TABLE job_posts ADD COLUMN tech_stack_names TEXT DEFAULT NULL;
+
+UPDATE job_posts jp
+JOIN (
+    SELECT pt.job_post_id, GROUP_CONCAT(DISTINCT ts.stack_name ORDER BY ts.stack_name SEPARATOR ' ') AS names
+    FROM post_tags pt
+    JOIN tech_stacks ts ON ts.id = pt.tech_stack_id
+    GROUP BY pt.job_post_id
+) tags ON tags.job_post_id = jp.id
+SET jp.tech_stack_names = tags.names;
+
+-- ngram_token_size 기본값(2) 기준: 한글 두 글자 단위로 토큰화된다.
+ALTER TABLE job_posts
+    ADD FULLTEXT INDEX ftx_job_posts_keyword (title, company_name, location, experience, job_category, tech_stack_names)
+    WITH PARSER ngram;
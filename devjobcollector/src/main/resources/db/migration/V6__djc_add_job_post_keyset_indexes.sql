@@ -0,0 +1,9 @@
+-- 커서(keyset) 페이지네이션용 복합 인덱스.
+-- 최신순: (is_active, created_at, id) 역방향 스캔 + end_date 조건은 인덱스 안에서 필터링
+CREATE INDEX idx_job_posts_active_created ON job_posts (is_active, created_at, id, end_date);
+
+-- 마감일순: end_date 오름차순 + 같은 마감일 내 최신 등록순
+CREATE INDEX idx_job_posts_active_end_created ON job_posts (is_active, end_date, created_at DESC, id DESC);
+
+-- (is_active, end_date) 접두어가 위 인덱스에 포함되므로 만료 sweep도 새 인덱스를 사용한다.
+DROP INDEX idx_job_posts_active_end_date ON job_posts;
@@ -0,0 +1,18 @@
+-- 목록/검색 조회가 LONGTEXT 본문(지원 자격, 전형 절차)을 읽지 않도록 상세 본문을 별도 테이블로 분리한다.
+CREATE TABLE job_post_detail (
+    job_post_id BIGINT NOT NULL,
+    apply_qual LONGTEXT DEFAULT NULL,
+    process_info LONGTEXT DEFAULT NULL,
+    PRIMARY KEY (job_post_id),
+    CONSTRAINT fk_job_post_detail_job_post
+        FOREIGN KEY (job_post_id) REFERENCES job_posts (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO job_post_detail (job_post_id, apply_qual, process_info)
+SELECT id, apply_qual, process_info
+FROM job_posts
+WHERE apply_qual IS NOT NULL OR process_info IS NOT NULL;
+
+ALTER TABLE job_posts
+    DROP COLUMN apply_qual,
+    DROP COLUMN process_info;
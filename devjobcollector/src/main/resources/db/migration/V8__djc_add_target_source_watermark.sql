@@ -0,0 +1,4 @@
+-- 증분 수집 워터마크: 소스가 보고한 최신 수정 시각과 마지막 전체 수집(마감 판정 가능) 시각.
+ALTER TABLE company_source_target
+    ADD COLUMN source_watermark_at DATETIME(6) DEFAULT NULL,
+    ADD COLUMN last_full_sweep_at DATETIME(6) DEFAULT NULL;
@@ -0,0 +1,20 @@
+-- 조건부 요청(If-None-Match / If-Modified-Since)용 HTTP 검증자. 대상 목록 URL과 상세 URL별로 저장한다.
+CREATE TABLE source_http_validator (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    target_id BIGINT NOT NULL,
+    url_hash CHAR(64) NOT NULL,
+    request_url VARCHAR(1000) NOT NULL,
+    etag VARCHAR(255) DEFAULT NULL,
+    last_modified VARCHAR(64) DEFAULT NULL,
+    cached_body MEDIUMTEXT DEFAULT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_source_http_validator_target_url (target_id, url_hash),
+    CONSTRAINT fk_source_http_validator_target_id
+        FOREIGN KEY (target_id) REFERENCES company_source_target (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 304 응답은 변경 없는 성공으로 기록한다.
+ALTER TABLE crawl_run
+    MODIFY COLUMN status ENUM('EMPTY_SUCCESS', 'FAILED', 'NOT_MODIFIED', 'PARTIAL_SUCCESS', 'RATE_LIMITED',
+        'SCHEMA_CHANGED', 'SUCCESS') NOT NULL;
@@ -0,0 +1,39 @@
+package db.migration;
+
+import kr.itsdev.devjobcollector.domain.JobPostClassification;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class V16BackfillJobPostClassificationTest {
+
+    /**
+     * 분류 버전이 V16에 고정한 버전과 같은 동안에는 두 규칙의 결과가 같아야 한다.
+     * 규칙을 바꾸고 VERSION을 올리지 않으면 여기서 실패한다. VERSION을 올린 뒤에는 건너뛴다.
+     */
+    @Test
+    void frozenRulesMatchApplicationRulesOfSameVersion() {
+        assumeTrue(JobPostClassification.VERSION == V16__djc_backfill_job_post_classification.FROZEN_VERSION);
+        List<String[]> samples = List.of(
+                new String[]{"Backend Engineer (Server)", "IT개발·데이터", "신입·경력", "서울 강남구, 경기 성남시"},
+                new String[]{"프론트엔드 개발자", null, "경력무관", "경기 광주시"},
+                new String[]{"iOS/Android 모바일", "Full-Stack", "신입/경력 무관", "광주광역시"},
+                new String[]{"ML Engineer", "머신러닝·인공지능", "경력 3년 이상", "세종특별자치시 / Remote"},
+                new String[]{"Platform Engineer", "DevOps·보안", "신입", "Overseas, 제주"},
+                new String[]{"디자이너", "", "", ""},
+                new String[]{null, null, null, null});
+
+        for (String[] sample : samples) {
+            JobPostClassification expected = JobPostClassification.classify(sample[0], sample[1], sample[2], sample[3]);
+            V16__djc_backfill_job_post_classification.Classification frozen =
+                    V16__djc_backfill_job_post_classification.classify(sample[0], sample[1], sample[2], sample[3]);
+
+            assertThat(frozen.roleMask()).isEqualTo(expected.roleMask());
+            assertThat(frozen.experienceLevel()).isEqualTo(expected.experienceLevel().name());
+            assertThat(frozen.regionMask()).isEqualTo(expected.regionMask());
+        }
+    }
+}
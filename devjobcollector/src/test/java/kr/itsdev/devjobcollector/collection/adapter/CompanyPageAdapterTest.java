@@ -75,7 +75,7 @@ class CompanyPageAdapterTest {
 
     private static CompanyPageAdapter adapter(RestTemplate restTemplate) {
         CompanyPageCollectionProperties properties =
-                new CompanyPageCollectionProperties("DevJobCollector-Test/1.0", 20_000);
+                new CompanyPageCollectionProperties("DevJobCollector-Test/1.0", 20_000, 50, 4);
         JsonLdJobPostingParser parser = new JsonLdJobPostingParser(new ObjectMapper(), properties);
         return new CompanyPageAdapter(restTemplate, parser, properties);
     }
@@ -7,13 +7,21 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Instant;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 class GreenhouseAdapterTest {
@@ -51,4 +59,28 @@ class GreenhouseAdapterTest {
         assertThat(result.responseHash()).hasSize(64);
         server.verify();
     }
+
+    @Test
+    void returnsNotModifiedWhenStoredEtagStillMatches() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        GreenhouseAdapter adapter = new GreenhouseAdapter(restTemplate, new ObjectMapper());
+        CompanySourceTarget target = new CompanySourceTarget(
+                null, SourceType.GREENHOUSE, "gitlab", "https://about.gitlab.com/jobs", CollectionTier.A);
+        String url = "https://boards-api.greenhouse.io/v1/boards/gitlab/jobs?content=true";
+        HttpValidator validator = new HttpValidator(url, "\"etag-1\"", null, null);
+
+        server.expect(requestTo(url))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"etag-1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        CollectionResult result = adapter.fetchJobs(
+                target, new CollectionContext(Instant.now(), Map.of(url, validator)));
+
+        assertThat(result.status()).isEqualTo(CollectionStatus.NOT_MODIFIED);
+        assertThat(result.jobs()).isEmpty();
+        assertThat(result.closureEvaluationAllowed()).isFalse();
+        assertThat(result.validators()).containsExactly(validator);
+        server.verify();
+    }
 }
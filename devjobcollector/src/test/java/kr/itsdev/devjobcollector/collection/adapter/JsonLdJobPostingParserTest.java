@@ -17,7 +17,7 @@ class JsonLdJobPostingParserTest {
     @Test
     void parsesSchemaOrgJobPostingFromGraph() throws IOException {
         JsonLdJobPostingParser parser = new JsonLdJobPostingParser(
-                new ObjectMapper(), new CompanyPageCollectionProperties(null, 20_000));
+                new ObjectMapper(), new CompanyPageCollectionProperties(null, 20_000, 50, 4));
 
         JsonLdJobPostingParser.ParseResult result = parser.parse(
                 fixture(), URI.create("https://careers.example.com/jobs"), "기본회사");
@@ -30,7 +30,7 @@ class JsonLdJobPostingParserTest {
     @Test
     void reportsMalformedJsonLdWithoutThrowing() {
         JsonLdJobPostingParser parser = new JsonLdJobPostingParser(
-                new ObjectMapper(), new CompanyPageCollectionProperties(null, 20_000));
+                new ObjectMapper(), new CompanyPageCollectionProperties(null, 20_000, 50, 4));
 
         JsonLdJobPostingParser.ParseResult result = parser.parse(
                 "<script type='application/ld+json'>{broken}</script>",
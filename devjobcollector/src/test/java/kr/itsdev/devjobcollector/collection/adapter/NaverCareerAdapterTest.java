@@ -28,7 +28,10 @@ class NaverCareerAdapterTest {
     @Test
     void collectsAllAffiliatesAcrossPagesAndMapsDetailFields() {
         RestTemplate restTemplate = new RestTemplate();
-        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        // 상세 페이지는 동시에 요청하므로 도착 순서가 정해져 있지 않다.
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate)
+                .ignoreExpectOrder(true)
+                .build();
         NaverCareerAdapter adapter = adapter(restTemplate);
 
         server.expect(requestTo(NaverCareerAdapter.LIST_URL + "?firstIndex=0"))
@@ -148,7 +151,7 @@ class NaverCareerAdapterTest {
 
     private static NaverCareerAdapter adapter(RestTemplate restTemplate) {
         return new NaverCareerAdapter(restTemplate, new ObjectMapper(),
-                new CompanyPageCollectionProperties("DevJobCollector-Test/1.0", 20_000));
+                new CompanyPageCollectionProperties("DevJobCollector-Test/1.0", 20_000, 50, 4));
     }
 
     private static CompanySourceTarget target() {
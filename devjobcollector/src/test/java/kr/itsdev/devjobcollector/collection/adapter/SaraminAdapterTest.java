@@ -1,5 +1,6 @@
 package kr.itsdev.devjobcollector.collection.adapter;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.itsdev.devjobcollector.collection.config.SaraminCollectionProperties;
 import kr.itsdev.devjobcollector.collection.domain.CollectionStatus;
@@ -8,12 +9,24 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
 import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.support.ContentHash;
+import kr.itsdev.devjobcollector.collection.support.RunningContentHash;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -85,9 +98,159 @@ class SaraminAdapterTest {
         server.verify();
     }
 
+    @Test
+    void stopsDeltaCollectionAtPageAtOrBelowWatermark() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        SaraminAdapter adapter = adapter(restTemplate, 1, 10);
+        Instant requestedAt = Instant.ofEpochSecond(1_754_100_000L);
+        CompanySourceTarget target = target();
+        target.advanceSourceWatermark(Instant.ofEpochSecond(1_754_092_800L));
+        target.recordFullSweep(requestedAt.minusSeconds(3_600));
+        server.expect(requestTo(containsString("start=0")))
+                .andRespond(withSuccess(jobResponse(1, 50, "1"), MediaType.APPLICATION_JSON));
+
+        CollectionResult result = adapter.fetchJobs(target, new CollectionContext(requestedAt));
+
+        assertThat(result.status()).isEqualTo(CollectionStatus.SUCCESS);
+        assertThat(result.closureEvaluationAllowed()).isFalse();
+        assertThat(result.jobs()).hasSize(1);
+        server.verify();
+    }
+
+    @Test
+    void runsFullSweepWhenSweepIntervalHasElapsed() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        SaraminAdapter adapter = adapter(restTemplate, 1, 2);
+        Instant requestedAt = Instant.ofEpochSecond(1_754_100_000L);
+        CompanySourceTarget target = target();
+        target.advanceSourceWatermark(Instant.ofEpochSecond(1_754_092_800L));
+        target.recordFullSweep(requestedAt.minusSeconds(25 * 3_600));
+        server.expect(requestTo(containsString("start=0")))
+                .andRespond(withSuccess(jobResponse(1, 2, "1"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("start=1")))
+                .andRespond(withSuccess(jobResponse(1, 2, "1"), MediaType.APPLICATION_JSON));
+
+        CollectionResult result = adapter.fetchJobs(target, new CollectionContext(requestedAt));
+
+        assertThat(result.status()).isEqualTo(CollectionStatus.SUCCESS);
+        assertThat(result.closureEvaluationAllowed()).isTrue();
+        server.verify();
+    }
+
+    @Test
+    void hashesConcatenatedPagesWhileStreamingJobs() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        SaraminAdapter adapter = adapter(restTemplate, 1, 2);
+        String firstPage = jobResponse(1, 2, "1");
+        String secondPage = jobResponse(1, 2, "2");
+        server.expect(requestTo(containsString("start=0")))
+                .andRespond(withSuccess(firstPage, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("start=1")))
+                .andRespond(withSuccess(secondPage, MediaType.APPLICATION_JSON));
+
+        CollectionResult result = adapter.fetchJobs(target(), CollectionContext.now());
+
+        assertThat(result.jobs()).hasSize(2);
+        assertThat(result.responseHash()).isEqualTo(ContentHash.sha256(firstPage + secondPage));
+        assertThat(result.pageFingerprints())
+                .containsExactly(ContentHash.sha256(firstPage), ContentHash.sha256(secondPage));
+        server.verify();
+    }
+
+    @Test
+    void streamingReadMatchesBufferedDeserializationOfSamePayload() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SaraminAdapter adapter = adapter(new RestTemplate(), 100, 1);
+        byte[] page = new ClassPathResource("fixtures/saramin-job-search-page.json").getContentAsByteArray();
+        String body = new String(page, StandardCharsets.UTF_8);
+        RunningContentHash responseHash = new RunningContentHash();
+        List<SaraminJobResponse.Job> streamed = new ArrayList<>();
+
+        try (InputStream stream = responseHash.wrap(new ByteArrayInputStream(page));
+             JsonParser parser = objectMapper.createParser(stream)) {
+            adapter.readPage(parser, null, streamed::add);
+            stream.transferTo(OutputStream.nullOutputStream());
+        }
+
+        assertThat(streamed)
+                .isNotEmpty()
+                .containsExactlyElementsOf(objectMapper.readValue(body, SaraminJobResponse.class).jobs().job());
+        assertThat(responseHash.finish()).isEqualTo(ContentHash.sha256(body));
+    }
+
+    @Test
+    void stopsAfterFirstPageWhenItMatchesPreviousRunFingerprint() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        SaraminAdapter adapter = adapter(restTemplate, 1, 10);
+        Instant requestedAt = Instant.ofEpochSecond(1_754_100_000L);
+        CompanySourceTarget target = target();
+        ReflectionTestUtils.setField(target, "schemaVersion", "saramin-job-search-v1-2026-08");
+        target.advanceSourceWatermark(Instant.ofEpochSecond(1_754_092_800L));
+        target.recordFullSweep(requestedAt.minusSeconds(3_600));
+        String firstPage = jobResponse(1, 50, "1");
+        server.expect(requestTo(containsString("start=0")))
+                .andRespond(withSuccess(firstPage, MediaType.APPLICATION_JSON));
+
+        CollectionResult result = adapter.fetchJobs(target, new CollectionContext(
+                requestedAt, Map.of(), List.of(ContentHash.sha256(firstPage), "b".repeat(64))));
+
+        assertThat(result.status()).isEqualTo(CollectionStatus.NOT_MODIFIED);
+        assertThat(result.jobs()).isEmpty();
+        assertThat(result.closureEvaluationAllowed()).isFalse();
+        assertThat(result.pageFingerprints()).containsExactly(ContentHash.sha256(firstPage));
+        server.verify();
+    }
+
+    @Test
+    void fetchesEveryPageWhenFullSweepIsDueEvenIfFirstPageIsUnchanged() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        SaraminAdapter adapter = adapter(restTemplate, 1, 2);
+        Instant requestedAt = Instant.ofEpochSecond(1_754_100_000L);
+        CompanySourceTarget target = target();
+        ReflectionTestUtils.setField(target, "schemaVersion", "saramin-job-search-v1-2026-08");
+        target.advanceSourceWatermark(Instant.ofEpochSecond(1_754_092_800L));
+        target.recordFullSweep(requestedAt.minusSeconds(25 * 3_600));
+        String firstPage = jobResponse(1, 2, "1");
+        server.expect(requestTo(containsString("start=0")))
+                .andRespond(withSuccess(firstPage, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("start=1")))
+                .andRespond(withSuccess(jobResponse(1, 2, "1"), MediaType.APPLICATION_JSON));
+
+        CollectionResult result = adapter.fetchJobs(target, new CollectionContext(
+                requestedAt, Map.of(), List.of(ContentHash.sha256(firstPage))));
+
+        assertThat(result.status()).isEqualTo(CollectionStatus.SUCCESS);
+        assertThat(result.closureEvaluationAllowed()).isTrue();
+        server.verify();
+    }
+
+    @Test
+    void acceptsSingleJobObjectInsteadOfArray() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        SaraminAdapter adapter = adapter(restTemplate, 110, 10);
+        String singleObject = jobResponse(1, 1, "1")
+                .replace("\"job\":[{", "\"job\":{")
+                .replace("}]}}", "}}}");
+        server.expect(requestTo(containsString("job-search")))
+                .andRespond(withSuccess(singleObject, MediaType.APPLICATION_JSON));
+
+        CollectionResult result = adapter.fetchJobs(target(), CollectionContext.now());
+
+        assertThat(result.status()).isEqualTo(CollectionStatus.SUCCESS);
+        assertThat(result.jobs()).singleElement()
+                .satisfies(job -> assertThat(job.sourceJobId()).isEqualTo("12345"));
+        server.verify();
+    }
+
     private static SaraminAdapter adapter(RestTemplate restTemplate, int pageSize, int maxPages) {
         return new SaraminAdapter(restTemplate, new ObjectMapper(),
-                new SaraminCollectionProperties(true, "test-key", pageSize, maxPages));
+                new SaraminCollectionProperties(true, "test-key", pageSize, maxPages, null));
     }
 
     private static CompanySourceTarget target() {
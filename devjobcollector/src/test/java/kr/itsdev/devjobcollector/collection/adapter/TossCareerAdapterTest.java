@@ -74,7 +74,7 @@ class TossCareerAdapterTest {
 
     private static TossCareerAdapter adapter(RestTemplate restTemplate) {
         return new TossCareerAdapter(restTemplate, new ObjectMapper(),
-                new CompanyPageCollectionProperties("DevJobCollector-Test/1.0", 20_000));
+                new CompanyPageCollectionProperties("DevJobCollector-Test/1.0", 20_000, 50, 4));
     }
 
     private static CompanySourceTarget target() {
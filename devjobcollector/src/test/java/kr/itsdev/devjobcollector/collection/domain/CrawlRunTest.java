@@ -3,6 +3,7 @@ package kr.itsdev.devjobcollector.collection.domain;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,4 +38,16 @@ class CrawlRunTest {
 
         assertThat(run.isClosureEvaluationAllowed()).isFalse();
     }
+
+    @Test
+    void storesPageFingerprintsInRequestOrder() {
+        CrawlRun run = CrawlRun.start(target, null, Instant.now());
+
+        run.recordPageFingerprints(List.of("a".repeat(64), "b".repeat(64)));
+
+        assertThat(run.pageFingerprintList()).containsExactly("a".repeat(64), "b".repeat(64));
+        run.recordPageFingerprints(List.of());
+        assertThat(run.getPageFingerprints()).isNull();
+        assertThat(run.pageFingerprintList()).isEmpty();
+    }
 }
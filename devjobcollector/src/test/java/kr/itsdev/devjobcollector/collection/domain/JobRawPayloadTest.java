@@ -0,0 +1,30 @@
+package kr.itsdev.devjobcollector.collection.domain;
+
+import kr.itsdev.devjobcollector.collection.support.ContentHash;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobRawPayloadTest {
+
+    @Test
+    void storesPayloadUnderContentHashAndRestoresIt() {
+        String rawPayload = "{\"title\":\"백엔드 개발자\",\"description\":\"" + "Spring Boot ".repeat(200) + "\"}";
+
+        JobRawPayload payload = JobRawPayload.of(rawPayload, Instant.now());
+
+        assertThat(payload.getPayloadHash()).isEqualTo(ContentHash.sha256(rawPayload));
+        assertThat(payload.getCompressedPayload().length).isLessThan(payload.getOriginalLength() / 4);
+        assertThat(payload.decode()).isEqualTo(rawPayload);
+    }
+
+    @Test
+    void restoresEmptyPayload() {
+        JobRawPayload payload = JobRawPayload.of("", Instant.now());
+
+        assertThat(payload.getOriginalLength()).isZero();
+        assertThat(payload.decode()).isEmpty();
+    }
+}
@@ -0,0 +1,146 @@
+package kr.itsdev.devjobcollector.collection.service;
+
+import kr.itsdev.devjobcollector.collection.config.AtsCollectionProperties;
+import kr.itsdev.devjobcollector.collection.config.CollectionScheduleProperties;
+import kr.itsdev.devjobcollector.collection.domain.CollectionStatus;
+import kr.itsdev.devjobcollector.collection.domain.CollectionTier;
+import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
+import kr.itsdev.devjobcollector.collection.domain.SourceType;
+import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.repository.CompanySourceTargetRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AtsCollectionSchedulerTest {
+
+    private static final CollectionSchedulePolicy SCHEDULE_POLICY =
+            new CollectionSchedulePolicy(new CollectionScheduleProperties(0, Duration.ofMinutes(30), null));
+
+    @Test
+    void collectsDueTargetsConcurrentlyWithinGlobalAndSourceLimits() {
+        List<CompanySourceTarget> targets = List.of(
+                target(1L, SourceType.NAVER_CAREERS, "naver-a"),
+                target(2L, SourceType.NAVER_CAREERS, "naver-b"),
+                target(3L, SourceType.GREENHOUSE, "gitlab"),
+                target(4L, SourceType.LEVER, "integrate"),
+                target(5L, SourceType.TOSS_CAREERS, "toss"));
+        Map<Long, SourceType> providers = Map.of(
+                1L, SourceType.NAVER_CAREERS,
+                2L, SourceType.NAVER_CAREERS,
+                3L, SourceType.GREENHOUSE,
+                4L, SourceType.LEVER,
+                5L, SourceType.TOSS_CAREERS);
+        CompanySourceTargetRepository repository = mock(CompanySourceTargetRepository.class);
+        CollectionOrchestrator orchestrator = mock(CollectionOrchestrator.class);
+        when(repository.claimDueTargets(any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(repository.findAllById(any())).thenReturn(targets);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger maxPerSource = new AtomicInteger();
+        Map<SourceType, AtomicInteger> sourceInFlight = new ConcurrentHashMap<>();
+        when(orchestrator.collectTarget(anyLong())).thenAnswer(invocation -> {
+            AtomicInteger source = sourceInFlight.computeIfAbsent(
+                    providers.get(invocation.<Long>getArgument(0)), ignored -> new AtomicInteger());
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            maxPerSource.accumulateAndGet(source.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            source.decrementAndGet();
+            inFlight.decrementAndGet();
+            return new CollectionResult(CollectionStatus.EMPTY_SUCCESS, List.of(), 0, "test", false, null);
+        });
+        AtsCollectionScheduler scheduler = new AtsCollectionScheduler(
+                new AtsCollectionProperties(true, 2,
+                        new AtsCollectionProperties.Concurrency(true, 3, 1, null),
+                        new AtsCollectionProperties.Lease("node-a", null, null, 0), List.of()),
+                repository, orchestrator, SCHEDULE_POLICY);
+
+        scheduler.collectDueTargets();
+
+        verify(orchestrator, times(5)).collectTarget(anyLong());
+        assertThat(inFlight).hasValue(0);
+        assertThat(maxInFlight.get()).isBetween(2, 3);
+        assertThat(maxPerSource).hasValue(1);
+        verify(repository, times(5)).releaseLease(anyLong(), eq("node-a"));
+    }
+
+    @Test
+    void claimsAnotherBatchOnlyWhileBatchesComeBackFull() {
+        CompanySourceTargetRepository repository = mock(CompanySourceTargetRepository.class);
+        CollectionOrchestrator orchestrator = mock(CollectionOrchestrator.class);
+        when(repository.claimDueTargets(any(), any(), eq("node-a"), any(), eq(2)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+                target(2L, SourceType.GREENHOUSE, "gitlab"), target(1L, SourceType.LEVER, "integrate")));
+        when(repository.findAllById(List.of(3L))).thenReturn(List.of(target(3L, SourceType.TOSS_CAREERS, "toss")));
+        when(orchestrator.collectTarget(anyLong())).thenThrow(new IllegalStateException("boom"));
+        AtsCollectionScheduler scheduler = new AtsCollectionScheduler(
+                new AtsCollectionProperties(true, 2, null,
+                        new AtsCollectionProperties.Lease("node-a", null, null, 2), List.of()),
+                repository, orchestrator, SCHEDULE_POLICY);
+
+        scheduler.collectDueTargets();
+
+        verify(repository, times(2)).claimDueTargets(any(), any(), eq("node-a"), any(), eq(2));
+        verify(orchestrator, times(3)).collectTarget(anyLong());
+        verify(repository).releaseLease(1L, "node-a");
+        verify(repository).releaseLease(2L, "node-a");
+        verify(repository).releaseLease(3L, "node-a");
+    }
+
+    @Test
+    void defersNextCollectionBeforeReleasingLeaseWhenCollectionCrashes() {
+        CompanySourceTargetRepository repository = mock(CompanySourceTargetRepository.class);
+        CollectionOrchestrator orchestrator = mock(CollectionOrchestrator.class);
+        when(repository.claimDueTargets(any(), any(), eq("node-a"), any(), eq(2)))
+                .thenReturn(List.of(1L, 2L), List.of());
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+                target(1L, SourceType.GREENHOUSE, "gitlab"), target(2L, SourceType.LEVER, "integrate")));
+        when(orchestrator.collectTarget(anyLong())).thenThrow(new IllegalStateException("finishRun failed"));
+        doThrow(new IllegalStateException("db down")).when(repository).deferCollection(eq(2L), any(), any());
+        AtsCollectionScheduler scheduler = new AtsCollectionScheduler(
+                new AtsCollectionProperties(true, 2, null,
+                        new AtsCollectionProperties.Lease("node-a", null, null, 2), List.of()),
+                repository, orchestrator, SCHEDULE_POLICY);
+        Instant before = Instant.now();
+
+        scheduler.collectDueTargets();
+
+        ArgumentCaptor<Instant> notBefore = ArgumentCaptor.forClass(Instant.class);
+        InOrder order = inOrder(repository);
+        order.verify(repository).deferCollection(eq(1L), eq("node-a"), notBefore.capture());
+        order.verify(repository).releaseLease(1L, "node-a");
+        assertThat(notBefore.getValue()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(30)));
+        verify(repository, never()).releaseLease(eq(2L), any());
+    }
+
+    private static CompanySourceTarget target(Long id, SourceType provider, String identifier) {
+        CompanySourceTarget target = new CompanySourceTarget(
+                null, identifier, provider, identifier, "https://example.com/careers", CollectionTier.B);
+        ReflectionTestUtils.setField(target, "id", id);
+        return target;
+    }
+}
@@ -0,0 +1,227 @@
+package kr.itsdev.devjobcollector.collection.service;
+
+import kr.itsdev.devjobcollector.collection.adapter.JobSourceAdapter;
+import kr.itsdev.devjobcollector.collection.config.AtsCollectionProperties;
+import kr.itsdev.devjobcollector.collection.config.CollectionScheduleProperties;
+import kr.itsdev.devjobcollector.collection.domain.CollectionStatus;
+import kr.itsdev.devjobcollector.collection.domain.CollectionTier;
+import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
+import kr.itsdev.devjobcollector.collection.domain.CrawlRun;
+import kr.itsdev.devjobcollector.collection.domain.JobRawSnapshot;
+import kr.itsdev.devjobcollector.collection.domain.JobSourceOccurrence;
+import kr.itsdev.devjobcollector.collection.domain.SourceHttpValidator;
+import kr.itsdev.devjobcollector.collection.domain.SourceType;
+import kr.itsdev.devjobcollector.collection.dto.CollectionContext;
+import kr.itsdev.devjobcollector.collection.dto.CollectionResult;
+import kr.itsdev.devjobcollector.collection.dto.HttpValidator;
+import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
+import kr.itsdev.devjobcollector.collection.repository.CompanySourceTargetRepository;
+import kr.itsdev.devjobcollector.collection.repository.CrawlRunRepository;
+import kr.itsdev.devjobcollector.collection.repository.JobRawPayloadRepository;
+import kr.itsdev.devjobcollector.collection.repository.JobRawSnapshotRepository;
+import kr.itsdev.devjobcollector.collection.repository.JobSourceOccurrenceRepository;
+import kr.itsdev.devjobcollector.collection.repository.SourceHttpValidatorRepository;
+import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.service.JobPostsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CollectionOrchestratorTest {
+
+    private static final String UNCHANGED_HASH = "a".repeat(64);
+
+    private CompanySourceTarget target;
+    private CrawlRunRepository crawlRunRepository;
+    private JobSourceAdapter adapter;
+    private JobRawSnapshotRepository snapshotRepository;
+    private JobSourceOccurrenceRepository occurrenceRepository;
+    private SourceHttpValidatorRepository validatorRepository;
+    private JobPostProjectionService projectionService;
+    private ApplicationEventPublisher eventPublisher;
+    private CollectionOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        target = new CompanySourceTarget(
+                null, "GitLab", SourceType.GREENHOUSE, "gitlab", "https://example.com/careers", CollectionTier.A);
+        ReflectionTestUtils.setField(target, "id", 1L);
+        CompanySourceTargetRepository targetRepository = mock(CompanySourceTargetRepository.class);
+        crawlRunRepository = mock(CrawlRunRepository.class);
+        snapshotRepository = mock(JobRawSnapshotRepository.class);
+        occurrenceRepository = mock(JobSourceOccurrenceRepository.class);
+        validatorRepository = mock(SourceHttpValidatorRepository.class);
+        projectionService = mock(JobPostProjectionService.class);
+        adapter = mock(JobSourceAdapter.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        CrawlRun run = CrawlRun.start(target, null, Instant.parse("2026-08-01T00:00:00Z"));
+        ReflectionTestUtils.setField(run, "id", 10L);
+
+        when(targetRepository.findById(1L)).thenReturn(Optional.of(target));
+        when(crawlRunRepository.findTopByTargetIdAndStatusAndClosureEvaluationAllowedTrueOrderByStartedAtDesc(
+                1L, CollectionStatus.SUCCESS))
+                .thenReturn(Optional.empty());
+        when(crawlRunRepository.save(any(CrawlRun.class))).thenReturn(run);
+        when(crawlRunRepository.findById(10L)).thenReturn(Optional.of(run));
+        when(adapter.sourceType()).thenReturn(SourceType.GREENHOUSE);
+
+        orchestrator = new CollectionOrchestrator(
+                targetRepository, crawlRunRepository, snapshotRepository,
+                mock(JobRawPayloadRepository.class), occurrenceRepository, validatorRepository,
+                mock(JobPostRepository.class), projectionService,
+                new AtsCollectionProperties(true, 2, null, null, List.of()),
+                new CollectionSchedulePolicy(new CollectionScheduleProperties(0, null, null)),
+                List.of(adapter), mock(PlatformTransactionManager.class), eventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void skipsSnapshotAndProjectionForUnchangedOccurrences() {
+        JobSourceOccurrence unchanged = new JobSourceOccurrence(
+                target, SourceType.GREENHOUSE, "100", "https://example.com/jobs/100", null,
+                "Backend Engineer", "Remote", null, null, UNCHANGED_HASH, Instant.parse("2026-07-31T00:00:00Z"));
+        unchanged.linkJobPosting(7L);
+        ReflectionTestUtils.setField(unchanged, "id", 70L);
+        when(occurrenceRepository.findByProviderAndTargetIdAndSourceJobIdIn(
+                eq(SourceType.GREENHOUSE), eq(1L), anyCollection())).thenReturn(List.of(unchanged));
+        when(projectionService.upsertAll(eq(target), anyCollection())).thenReturn(Map.of("200", 8L));
+        when(adapter.fetchJobs(eq(target), any())).thenReturn(new CollectionResult(
+                CollectionStatus.SUCCESS,
+                List.of(rawJob("100", UNCHANGED_HASH), rawJob("200", "b".repeat(64))),
+                2, "v1", false, "c".repeat(64)));
+
+        orchestrator.collectTarget(1L);
+
+        verify(occurrenceRepository).markSeenUnchanged(eq(List.of(70L)), any(Instant.class));
+        ArgumentCaptor<List<JobRawSnapshot>> snapshots = ArgumentCaptor.forClass(List.class);
+        verify(snapshotRepository).insertAll(snapshots.capture());
+        assertThat(snapshots.getValue()).extracting(JobRawSnapshot::getSourceJobId).containsExactly("200");
+        ArgumentCaptor<Collection<JobRawDto>> projected = ArgumentCaptor.forClass(Collection.class);
+        verify(projectionService).upsertAll(eq(target), projected.capture());
+        assertThat(projected.getValue()).extracting(JobRawDto::sourceJobId).containsExactly("200");
+        ArgumentCaptor<List<JobSourceOccurrence>> created = ArgumentCaptor.forClass(List.class);
+        verify(occurrenceRepository).insertAll(created.capture());
+        assertThat(created.getValue()).singleElement()
+                .satisfies(occurrence -> assertThat(occurrence.getJobPostingId()).isEqualTo(8L));
+        verify(eventPublisher).publishEvent(new JobPostsChangedEvent("GREENHOUSE", Set.of(8L)));
+        assertThat(target.getChangeRate()).isGreaterThan(0.5);
+    }
+
+    @Test
+    void touchesOnlyLastSeenWhenEveryOccurrenceIsUnchanged() {
+        JobSourceOccurrence unchanged = new JobSourceOccurrence(
+                target, SourceType.GREENHOUSE, "100", "https://example.com/jobs/100", null,
+                "Backend Engineer", "Remote", null, null, UNCHANGED_HASH, Instant.parse("2026-07-31T00:00:00Z"));
+        unchanged.linkJobPosting(7L);
+        ReflectionTestUtils.setField(unchanged, "id", 70L);
+        when(occurrenceRepository.findByProviderAndTargetIdAndSourceJobIdIn(
+                eq(SourceType.GREENHOUSE), eq(1L), anyCollection())).thenReturn(List.of(unchanged));
+        when(adapter.fetchJobs(eq(target), any())).thenReturn(new CollectionResult(
+                CollectionStatus.SUCCESS, List.of(rawJob("100", UNCHANGED_HASH)),
+                1, "v1", false, "c".repeat(64)));
+
+        orchestrator.collectTarget(1L);
+
+        verify(occurrenceRepository).markSeenUnchanged(eq(List.of(70L)), any(Instant.class));
+        verify(snapshotRepository, never()).insertAll(anyList());
+        verify(projectionService, never()).upsertAll(any(), anyCollection());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void refreshesLastSeenWithoutProjectionWhenSourceIsNotModified() {
+        String url = "https://boards-api.greenhouse.io/v1/boards/gitlab/jobs?content=true";
+        HttpValidator validator = new HttpValidator(url, "\"etag-1\"", null, null);
+        ReflectionTestUtils.setField(target, "schemaVersion", "v1");
+        when(validatorRepository.findByTargetId(1L)).thenReturn(List.of(
+                new SourceHttpValidator(1L, validator, Instant.parse("2026-07-31T00:00:00Z"))));
+        when(adapter.fetchJobs(eq(target), any())).thenReturn(CollectionResult.notModified("v1", validator));
+
+        orchestrator.collectTarget(1L);
+
+        ArgumentCaptor<CollectionContext> context = ArgumentCaptor.forClass(CollectionContext.class);
+        verify(adapter).fetchJobs(eq(target), context.capture());
+        assertThat(context.getValue().validatorFor(url)).isEqualTo(validator);
+        verify(occurrenceRepository).markActiveSeen(eq(1L), any(Instant.class));
+        verify(snapshotRepository, never()).insertAll(anyList());
+        verify(projectionService, never()).upsertAll(any(), anyCollection());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(target.getLastHttpStatus()).isEqualTo(304);
+        assertThat(target.getChangeRate()).isLessThan(0.5);
+    }
+
+    @Test
+    void refusesClosureWhenTruncatedFullSweepFollowsDeltaRun() {
+        List<CrawlRun> runs = new ArrayList<>();
+        CrawlRun fullSweep = CrawlRun.start(target, null, Instant.parse("2026-07-30T00:00:00Z"));
+        fullSweep.complete(CollectionStatus.SUCCESS, 200, 100, null, true, Instant.parse("2026-07-30T00:01:00Z"));
+        ReflectionTestUtils.setField(fullSweep, "id", 1L);
+        runs.add(fullSweep);
+        when(crawlRunRepository.save(any(CrawlRun.class))).thenAnswer(invocation -> {
+            CrawlRun run = invocation.getArgument(0);
+            ReflectionTestUtils.setField(run, "id", (long) runs.size() + 1);
+            runs.add(run);
+            return run;
+        });
+        when(crawlRunRepository.findById(any())).thenAnswer(invocation ->
+                Optional.of(runs.get((int) (long) invocation.<Long>getArgument(0) - 1)));
+        when(crawlRunRepository.findTopByTargetIdAndStatusAndClosureEvaluationAllowedTrueOrderByStartedAtDesc(
+                1L, CollectionStatus.SUCCESS)).thenAnswer(invocation -> runs.reversed().stream()
+                .filter(run -> run.getStatus() == CollectionStatus.SUCCESS && run.isClosureEvaluationAllowed())
+                .findFirst());
+        when(adapter.fetchJobs(eq(target), any())).thenReturn(
+                new CollectionResult(CollectionStatus.SUCCESS,
+                        List.of(rawJob("100", "b".repeat(64)), rawJob("200", "c".repeat(64))),
+                        2, "v1", false, "d".repeat(64)),
+                new CollectionResult(CollectionStatus.SUCCESS,
+                        List.of(rawJob("100", "b".repeat(64)), rawJob("200", "c".repeat(64)),
+                                rawJob("300", "e".repeat(64))),
+                        3, "v1", true, "f".repeat(64)));
+
+        orchestrator.collectTarget(1L);
+        orchestrator.collectTarget(1L);
+
+        assertThat(runs).hasSize(3);
+        assertThat(runs.get(2).getPreviousItemCount()).isEqualTo(100);
+        assertThat(runs.get(2).isClosureEvaluationAllowed()).isFalse();
+        verify(occurrenceRepository, never()).findByTargetIdAndSourceStatus(any(), any());
+    }
+
+    private static JobRawDto rawJob(String sourceJobId, String contentHash) {
+        return new JobRawDto(
+                SourceType.GREENHOUSE,
+                sourceJobId,
+                "Backend Engineer",
+                "Remote",
+                "Full Time",
+                "Engineering",
+                "https://example.com/jobs/" + sourceJobId,
+                null,
+                "Build reliable products",
+                Instant.parse("2026-07-31T15:00:00Z"),
+                null,
+                contentHash,
+                "{}");
+    }
+}
@@ -0,0 +1,47 @@
+package kr.itsdev.devjobcollector.collection.service;
+
+import kr.itsdev.devjobcollector.collection.config.CollectionScheduleProperties;
+import kr.itsdev.devjobcollector.collection.domain.CollectionTier;
+import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
+import kr.itsdev.devjobcollector.collection.domain.SourceType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CollectionSchedulePolicyTest {
+
+    private final CollectionSchedulePolicy policy =
+            new CollectionSchedulePolicy(new CollectionScheduleProperties(0.3, null, null));
+
+    @Test
+    void movesChangeRateTowardLatestObservation() {
+        assertThat(policy.updatedChangeRate(null, true)).isCloseTo(0.65, within(1e-9));
+        assertThat(policy.updatedChangeRate(0.65, false)).isCloseTo(0.455, within(1e-9));
+    }
+
+    @Test
+    void pollsVolatileTargetsAtTierMinimumAndStaticTargetsAtTierMaximum() {
+        CompanySourceTarget target = target(CollectionTier.A);
+        Instant finishedAt = Instant.parse("2026-08-01T00:00:00Z");
+
+        target.recordChangeRate(1.0);
+        assertThat(policy.nextCollectAt(target, finishedAt)).isEqualTo(finishedAt.plus(Duration.ofMinutes(30)));
+
+        target.recordChangeRate(0.0);
+        assertThat(policy.nextCollectAt(target, finishedAt)).isEqualTo(finishedAt.plus(Duration.ofHours(2)));
+    }
+
+    @Test
+    void startsUnobservedTargetsAtGeometricMeanOfTierBounds() {
+        assertThat(policy.intervalFor(target(CollectionTier.D))).isEqualTo(Duration.ofHours(12));
+    }
+
+    private static CompanySourceTarget target(CollectionTier tier) {
+        return new CompanySourceTarget(
+                null, "Example", SourceType.GREENHOUSE, "example", "https://example.com/careers", tier);
+    }
+}
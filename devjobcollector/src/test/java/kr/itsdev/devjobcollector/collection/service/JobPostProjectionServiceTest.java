@@ -5,31 +5,56 @@ import kr.itsdev.devjobcollector.collection.domain.CompanySourceTarget;
 import kr.itsdev.devjobcollector.collection.domain.SourceType;
 import kr.itsdev.devjobcollector.collection.dto.JobRawDto;
 import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.JobPostDetail;
 import kr.itsdev.devjobcollector.domain.SourcePlatform;
+import kr.itsdev.devjobcollector.repository.JobPostDetailRepository;
+import kr.itsdev.devjobcollector.repository.JobPostKey;
 import kr.itsdev.devjobcollector.repository.JobPostRepository;
+import kr.itsdev.devjobcollector.service.TechStackDictionary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JobPostProjectionServiceTest {
 
     private JobPostRepository repository;
+    private JobPostDetailRepository detailRepository;
+    private TechStackDictionary techStackDictionary;
     private JobPostProjectionService service;
 
     @BeforeEach
     void setUp() {
         repository = mock(JobPostRepository.class);
-        service = new JobPostProjectionService(repository);
-        when(repository.save(any(JobPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        detailRepository = mock(JobPostDetailRepository.class);
+        techStackDictionary = mock(TechStackDictionary.class);
+        TechTermExtractor extractor = new TechTermExtractor(techStackDictionary, Map.of(
+                "Java", "Java", "Kotlin", "Kotlin", "코틀린", "Kotlin", "Spring Boot", "Spring Boot"));
+        service = new JobPostProjectionService(repository, detailRepository, extractor, techStackDictionary);
+        when(repository.save(any(JobPost.class))).thenAnswer(invocation -> {
+            JobPost jobPost = invocation.getArgument(0);
+            ReflectionTestUtils.setField(jobPost, "id", 1L);
+            return jobPost;
+        });
     }
 
     @Test
@@ -145,6 +170,87 @@ class JobPostProjectionServiceTest {
         assertThat(result.getOriginalSn()).isEqualTo("naver-careers:30005214");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertsBatchWithOnePrefetchAndBulkInsertOfNewPosts() {
+        CompanySourceTarget target = target("GitLab", SourceType.GREENHOUSE, "gitlab");
+        JobPost existing = JobPost.builder()
+                .sourcePlatform(SourcePlatform.GREENHOUSE)
+                .originalSn("gitlab:100")
+                .companyName("Old")
+                .title("Old title")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .endDate(JobPostProjectionService.OPEN_ENDED_DATE)
+                .originalUrl("https://old.example/jobs/100")
+                .build();
+        ReflectionTestUtils.setField(existing, "id", 7L);
+        when(repository.findBySourcePlatformAndOriginalSnIn(eq(SourcePlatform.GREENHOUSE), anyCollection()))
+                .thenReturn(List.of(existing));
+        when(repository.findKeysBySourcePlatformAndOriginalSnIn(SourcePlatform.GREENHOUSE, List.of("gitlab:200")))
+                .thenReturn(List.of(new JobPostKey(8L, "gitlab:200")));
+
+        Map<String, Long> result = service.upsertAll(target, List.of(
+                rawJob(SourceType.GREENHOUSE, "100", "Backend Engineer"),
+                rawJob(SourceType.GREENHOUSE, "200", "Frontend Engineer")));
+
+        assertThat(result).containsExactly(Map.entry("100", 7L), Map.entry("200", 8L));
+        assertThat(existing.getTitle()).isEqualTo("Backend Engineer");
+        ArgumentCaptor<List<JobPost>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(JobPost::getOriginalSn).containsExactly("gitlab:200");
+        verify(repository, never()).save(any(JobPost.class));
+        ArgumentCaptor<Collection<JobPostDetail>> details = ArgumentCaptor.forClass(Collection.class);
+        verify(detailRepository).upsertAll(details.capture());
+        assertThat(details.getValue()).extracting(JobPostDetail::getJobPostId, JobPostDetail::getApplyQual)
+                .containsExactly(tuple(7L, "Build reliable products"), tuple(8L, "Build reliable products"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tagsTechStacksFoundInTitleTeamAndDescription() {
+        CompanySourceTarget target = target("GitLab", SourceType.GREENHOUSE, "gitlab");
+        JobRawDto rawJob = new JobRawDto(
+                SourceType.GREENHOUSE, "300", "Backend Engineer (Kotlin)", "Seoul", "Full Time", "Platform",
+                "https://example.com/jobs/300", "https://example.com/jobs/300/apply",
+                "코틀린과 Spring Boot 경험, JavaScript는 우대합니다.",
+                Instant.parse("2026-07-31T15:00:00Z"), Instant.parse("2026-08-02T00:00:00Z"),
+                "a".repeat(64), "{}");
+        when(repository.findBySourcePlatformAndOriginalSnIn(eq(SourcePlatform.GREENHOUSE), anyCollection()))
+                .thenReturn(List.of());
+        when(repository.findKeysBySourcePlatformAndOriginalSnIn(SourcePlatform.GREENHOUSE, List.of("gitlab:300")))
+                .thenReturn(List.of(new JobPostKey(9L, "gitlab:300")));
+        when(techStackDictionary.resolveAll(Set.of("Kotlin", "Spring Boot"))).thenReturn(Map.of(
+                "Kotlin", new TechStackDictionary.Entry(3, "Kotlin"),
+                "Spring Boot", new TechStackDictionary.Entry(5, "Spring Boot")));
+
+        service.upsertAll(target, List.of(rawJob));
+
+        ArgumentCaptor<List<JobPost>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(JobPost::getTechStackNames).containsExactly("Kotlin Spring Boot");
+        verify(repository).replacePostTags(Map.of(9L, Set.of(3, 5)));
+    }
+
+    @Test
+    void resolvesTechStackNamesOncePerBatch() {
+        CompanySourceTarget target = target("GitLab", SourceType.GREENHOUSE, "gitlab");
+        when(repository.findBySourcePlatformAndOriginalSnIn(eq(SourcePlatform.GREENHOUSE), anyCollection()))
+                .thenReturn(List.of());
+        when(repository.findKeysBySourcePlatformAndOriginalSnIn(
+                SourcePlatform.GREENHOUSE, List.of("gitlab:400", "gitlab:500")))
+                .thenReturn(List.of(new JobPostKey(10L, "gitlab:400"), new JobPostKey(11L, "gitlab:500")));
+        when(techStackDictionary.resolveAll(Set.of("Java", "Kotlin"))).thenReturn(Map.of(
+                "Java", new TechStackDictionary.Entry(2, "Java"),
+                "Kotlin", new TechStackDictionary.Entry(3, "Kotlin")));
+
+        service.upsertAll(target, List.of(
+                rawJob(SourceType.GREENHOUSE, "400", "Java Engineer"),
+                rawJob(SourceType.GREENHOUSE, "500", "Kotlin Engineer")));
+
+        verify(techStackDictionary, times(1)).resolveAll(anyCollection());
+        verify(repository).replacePostTags(Map.of(10L, Set.of(2), 11L, Set.of(3)));
+    }
+
     private static CompanySourceTarget target(String companyName, SourceType provider, String identifier) {
         return new CompanySourceTarget(
                 null, companyName, provider, identifier,
@@ -0,0 +1,48 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentHashTest {
+
+    @Test
+    void matchesDigestOfWholeUtf8BytesAcrossChunkBoundaries() throws Exception {
+        // 청크 경계(8KB)에 3바이트 한글과 4바이트 서로게이트 쌍이 걸치도록 만든다.
+        String value = "a".repeat(8 * 1024 - 1) + "백엔드🚀" + "b".repeat(20_000) + "\uD800";
+
+        assertThat(ContentHash.sha256(value)).isEqualTo(reference(value));
+        assertThat(ContentHash.sha256(null)).isEqualTo(reference(""));
+    }
+
+    @Test
+    void recordsPageFingerprintsWhileHashingConcatenatedPages() throws IOException {
+        String firstPage = "{\"jobs\":{\"job\":[\"백엔드\"]}}";
+        String secondPage = "{\"jobs\":{\"job\":[]}}";
+        RunningContentHash hash = new RunningContentHash();
+
+        try (InputStream body = hash.wrap(new ByteArrayInputStream(firstPage.getBytes(StandardCharsets.UTF_8)))) {
+            body.transferTo(OutputStream.nullOutputStream());
+            body.close();
+        }
+        hash.addPage(secondPage);
+
+        assertThat(hash.pageFingerprints())
+                .containsExactly(ContentHash.sha256(firstPage), ContentHash.sha256(secondPage));
+        assertThat(hash.lastPageFingerprint()).isEqualTo(ContentHash.sha256(secondPage));
+        assertThat(hash.finish()).isEqualTo(ContentHash.sha256(firstPage + secondPage));
+    }
+
+    private static String reference(String value) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+}
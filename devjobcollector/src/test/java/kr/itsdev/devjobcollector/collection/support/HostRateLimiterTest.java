@@ -0,0 +1,35 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostRateLimiterTest {
+
+    @Test
+    void throttlesRequestsBeyondBurstForSameHost() throws InterruptedException {
+        HostRateLimiter limiter = new HostRateLimiter(10);
+        URI detail = URI.create("https://recruit.navercorp.com/rcrt/view.do?annoId=1");
+
+        long startNano = System.nanoTime();
+        for (int i = 0; i < 12; i++) {
+            limiter.acquire(detail);
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startNano)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void keepsSeparateBucketsPerHost() throws InterruptedException {
+        HostRateLimiter limiter = new HostRateLimiter(1);
+
+        long startNano = System.nanoTime();
+        limiter.acquire(URI.create("https://recruit.navercorp.com/a"));
+        limiter.acquire(URI.create("https://toss.im/career"));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startNano)).isLessThan(Duration.ofMillis(500));
+    }
+}
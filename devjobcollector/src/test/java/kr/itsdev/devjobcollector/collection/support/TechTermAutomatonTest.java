@@ -0,0 +1,62 @@
+package kr.itsdev.devjobcollector.collection.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TechTermAutomatonTest {
+
+    private final TechTermAutomaton automaton = TechTermAutomaton.build(terms());
+
+    @Test
+    void matchesLatinTermsOnlyOnWordBoundariesIgnoringCase() {
+        assertThat(automaton.match("JAVA, spring boot 기반 서비스")).containsExactly("Java", "Spring Boot");
+        assertThat(automaton.match("JavaScript와 Javadoc, myjava")).containsExactly("JavaScript");
+        assertThat(automaton.match("C++/C# 경험")).containsExactly("C++", "C#");
+    }
+
+    @Test
+    void allowsHangulParticlesButNotHangulPrefix() {
+        assertThat(automaton.match("자바를 사용합니다")).containsExactly("Java");
+        assertThat(automaton.match("인도자바 섬")).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyLeftmostLongestOfOverlappingTerms() {
+        assertThat(automaton.match("자바스크립트 개발자")).containsExactly("JavaScript");
+        assertThat(automaton.match("Spring Boot")).containsExactly("Spring Boot");
+        assertThat(automaton.match("Spring, Spring Boot")).containsExactly("Spring", "Spring Boot");
+    }
+
+    @Test
+    void requiresExactCaseForShortLatinTerms() {
+        assertThat(automaton.match("Go 언어와 JS")).containsExactly("Go", "JavaScript");
+        assertThat(automaton.match("we go to js conf")).isEmpty();
+    }
+
+    @Test
+    void scansEveryFieldAndSkipsNulls() {
+        assertThat(automaton.match("Backend (Kotlin)", null, "코틀린, Java")).containsExactly("Kotlin", "Java");
+        assertThat(TechTermAutomaton.build(Map.of()).match("Java")).isEmpty();
+    }
+
+    private static Map<String, String> terms() {
+        Map<String, String> terms = new LinkedHashMap<>();
+        terms.put("Java", "Java");
+        terms.put("자바", "Java");
+        terms.put("JavaScript", "JavaScript");
+        terms.put("자바스크립트", "JavaScript");
+        terms.put("JS", "JavaScript");
+        terms.put("Spring", "Spring");
+        terms.put("Spring Boot", "Spring Boot");
+        terms.put("Kotlin", "Kotlin");
+        terms.put("코틀린", "Kotlin");
+        terms.put("Go", "Go");
+        terms.put("C++", "C++");
+        terms.put("C#", "C#");
+        return terms;
+    }
+}
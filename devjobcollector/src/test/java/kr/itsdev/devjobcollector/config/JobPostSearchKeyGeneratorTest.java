@@ -0,0 +1,47 @@
+package kr.itsdev.devjobcollector.config;
+
+import kr.itsdev.devjobcollector.service.JobPostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobPostSearchKeyGeneratorTest {
+
+    private final JobPostSearchKeyGenerator keyGenerator = new JobPostSearchKeyGenerator();
+
+    @Test
+    void normalizesFilterCaseWhitespaceAndBlankValues() throws NoSuchMethodException {
+        Method method = searchMethod();
+
+        Object first = keyGenerator.generate(null, method,
+                " Java ", "서울", "", null, "Spring", PageRequest.of(0, 20));
+        Object second = keyGenerator.generate(null, method,
+                "java", "서울 ", null, "  ", "spring", PageRequest.of(0, 20));
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    }
+
+    @Test
+    void separatesPagesAndSorts() throws NoSuchMethodException {
+        Method method = searchMethod();
+
+        Object firstPage = keyGenerator.generate(null, method,
+                "java", null, null, null, null, PageRequest.of(0, 20));
+        Object secondPage = keyGenerator.generate(null, method,
+                "java", null, null, null, null, PageRequest.of(1, 20));
+        Object deadlineSort = keyGenerator.generate(null, method,
+                "java", null, null, null, null, PageRequest.of(0, 20, Sort.by("endDate")));
+
+        assertThat(firstPage).isNotEqualTo(secondPage).isNotEqualTo(deadlineSort);
+    }
+
+    private static Method searchMethod() throws NoSuchMethodException {
+        return JobPostService.class.getMethod("searchJobPosts",
+                String.class, String.class, String.class, String.class, String.class, Pageable.class);
+    }
+}
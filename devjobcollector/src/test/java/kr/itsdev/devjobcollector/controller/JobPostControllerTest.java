@@ -1,5 +1,6 @@
 package kr.itsdev.devjobcollector.controller;
 
+import kr.itsdev.devjobcollector.dto.JobPostCursorPage;
 import kr.itsdev.devjobcollector.monitoring.RequestTimingInterceptor;
 import kr.itsdev.devjobcollector.security.JwtTokenVerifier;
 import kr.itsdev.devjobcollector.service.JobPostService;
@@ -10,15 +11,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(JobPostController.class)
@@ -71,4 +76,29 @@ class JobPostControllerTest {
         assertThat(pageable.getSort().getOrderFor("endDate")).isNotNull();
         assertThat(pageable.getSort().getOrderFor("endDate").isAscending()).isTrue();
     }
+
+    @Test
+    void routesCursorRequestsToKeysetSearch() throws Exception {
+        when(jobPostService.scrollSearchJobPosts(
+                any(), any(), any(), any(), any(), any(Sort.class), any(), anyInt()))
+                .thenReturn(JobPostCursorPage.builder()
+                        .content(java.util.List.of())
+                        .nextCursor("next")
+                        .hasNext(true)
+                        .build());
+
+        mockMvc.perform(get("/api/v1/jobs/search")
+                        .param("cursor", "")
+                        .param("keyword", "플랫폼")
+                        .param("sortBy", "endDate")
+                        .param("direction", "ASC")
+                        .param("size", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(jobPostService).scrollSearchJobPosts(
+                eq("플랫폼"), isNull(), isNull(), isNull(), isNull(),
+                eq(Sort.by(Sort.Order.asc("endDate"))), eq(""), eq(30));
+    }
 }
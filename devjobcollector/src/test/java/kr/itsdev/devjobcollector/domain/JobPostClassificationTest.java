@@ -0,0 +1,82 @@
+package kr.itsdev.devjobcollector.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobPostClassificationTest {
+
+    @Test
+    void classifiesRolesFromTitleAndCategoryWithLikeFilterKeywords() {
+        JobPostClassification classification = JobPostClassification.classify(
+                "Backend Engineer (Server)", "모바일 앱 개발", null, null);
+
+        assertThat(classification.roleMask()).isEqualTo(JobRole.BACKEND.getBit() | JobRole.MOBILE.getBit());
+        assertThat(JobRole.maskOf("디자이너", null)).isZero();
+        assertThat(JobRole.fromParam(" Data-AI ")).contains(JobRole.DATA_AI);
+        assertThat(JobRole.fromParam("designer")).isEmpty();
+    }
+
+    @Test
+    void normalizesExperienceAndMapsFilters() {
+        assertThat(ExperienceLevel.classify("신입")).isEqualTo(ExperienceLevel.ENTRY);
+        assertThat(ExperienceLevel.classify("경력 3년 이상")).isEqualTo(ExperienceLevel.EXPERIENCED);
+        assertThat(ExperienceLevel.classify("신입·경력")).isEqualTo(ExperienceLevel.ENTRY_OR_EXPERIENCED);
+        assertThat(ExperienceLevel.classify("경력무관")).isEqualTo(ExperienceLevel.ANY);
+        assertThat(ExperienceLevel.classify("신입/경력 무관")).isEqualTo(ExperienceLevel.ENTRY_OR_ANY);
+        assertThat(ExperienceLevel.classify("외국인 전형")).isEqualTo(ExperienceLevel.UNKNOWN);
+
+        assertThat(ExperienceLevel.forFilter("신입")).hasValueSatisfying(levels -> assertThat(levels)
+                .containsExactlyInAnyOrder(
+                        ExperienceLevel.ENTRY, ExperienceLevel.ENTRY_OR_EXPERIENCED, ExperienceLevel.ENTRY_OR_ANY));
+        assertThat(ExperienceLevel.forFilter("경력")).hasValueSatisfying(levels -> assertThat(levels)
+                .containsExactly(ExperienceLevel.EXPERIENCED));
+        assertThat(ExperienceLevel.forFilter("경력무관")).hasValueSatisfying(levels -> assertThat(levels)
+                .containsExactlyInAnyOrder(ExperienceLevel.ANY, ExperienceLevel.ENTRY_OR_ANY));
+        assertThat(ExperienceLevel.forFilter("3년")).isEmpty();
+    }
+
+    @Test
+    void collectsEveryRegionNamedInLocation() {
+        assertThat(Region.maskOf("서울특별시, 경기도 성남시 (판교)"))
+                .isEqualTo(Region.SEOUL.getBit() | Region.GYEONGGI.getBit());
+        assertThat(Region.maskOf("Seoul, South Korea / Remote"))
+                .isEqualTo(Region.SEOUL.getBit() | Region.REMOTE.getBit());
+        assertThat(Region.maskOf("서울 중구 세종대로 110")).isEqualTo(Region.SEOUL.getBit());
+        assertThat(Region.fromParam("부산")).contains(Region.BUSAN);
+        assertThat(Region.fromParam("강남")).isEmpty();
+        assertThat(Region.fromParam("판교")).isEmpty();
+        // 시 이름만 있으면 경기로 보지 않는다 (location=경기는 원문에 "경기"가 있는 공고만 찾던 필터와 같게 유지)
+        assertThat(Region.maskOf("성남시 분당구 판교역로")).isZero();
+        assertThat(Region.fromParam("Gyeonggi")).contains(Region.GYEONGGI);
+        assertThat(Region.maskOf("경기도 광주시")).isEqualTo(Region.GYEONGGI.getBit());
+        assertThat(Region.maskOf("경기 성남, 광주광역시")).isEqualTo(Region.GYEONGGI.getBit() | Region.GWANGJU.getBit());
+    }
+
+    @Test
+    void reclassifiesWhenSourceFieldsChange() {
+        JobPost jobPost = JobPost.builder()
+                .sourcePlatform(SourcePlatform.GREENHOUSE)
+                .originalSn("gh-1")
+                .companyName("ACME")
+                .title("Frontend Engineer")
+                .experience("신입")
+                .location("서울")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .endDate(LocalDate.of(2026, 2, 1))
+                .originalUrl("https://example.com/1")
+                .build();
+
+        assertThat(jobPost.getRoleMask()).isEqualTo(JobRole.FRONTEND.getBit());
+        assertThat(jobPost.getClassificationVersion()).isEqualTo(JobPostClassification.VERSION);
+
+        jobPost.refreshFromSource("ACME", "DevOps Engineer", null, "경력", "부산", null,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1), "https://example.com/1");
+
+        assertThat(jobPost.getRoleMask()).isEqualTo(JobRole.DEVOPS_SECURITY.getBit());
+        assertThat(jobPost.getExperienceLevel()).isEqualTo(ExperienceLevel.EXPERIENCED);
+        assertThat(jobPost.getRegionMask()).isEqualTo(Region.BUSAN.getBit());
+    }
+}
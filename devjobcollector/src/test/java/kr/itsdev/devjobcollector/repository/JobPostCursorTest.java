@@ -0,0 +1,45 @@
+package kr.itsdev.devjobcollector.repository;
+
+import kr.itsdev.devjobcollector.domain.SourcePlatform;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobPostCursorTest {
+
+    @Test
+    void roundTripsThroughOpaqueUrlSafeString() {
+        JobPostCursor cursor = new JobPostCursor(
+                LocalDate.of(2026, 9, 30), LocalDateTime.of(2026, 8, 1, 9, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("|", "+", "/", "=");
+        assertThat(JobPostCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> JobPostCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobPostCursor.decode(new JobPostCursor(
+                LocalDate.of(2026, 9, 30), LocalDateTime.of(2026, 8, 1, 9, 0), 1L).encode().substring(3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pointsAtSortKeysOfLastSummaryRow() {
+        JobPostSummary last = new JobPostSummary(
+                7L, SourcePlatform.SARAMIN, "테스트회사", "백엔드 개발자", null, "경력", "서울", null,
+                LocalDate.of(2026, 8, 1), LocalDate.of(2026, 9, 30), "https://example.com/jobs/7", true,
+                LocalDateTime.of(2026, 8, 1, 9, 0));
+
+        assertThat(JobPostCursor.after(last)).isEqualTo(new JobPostCursor(
+                LocalDate.of(2026, 9, 30), LocalDateTime.of(2026, 8, 1, 9, 0), 7L));
+        assertThat(last.techStacks()).isEmpty();
+    }
+}
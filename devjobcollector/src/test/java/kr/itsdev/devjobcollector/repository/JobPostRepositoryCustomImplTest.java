@@ -0,0 +1,23 @@
+package kr.itsdev.devjobcollector.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobPostRepositoryCustomImplTest {
+
+    @Test
+    void wrapsKeywordAsPhraseWithoutBooleanOperators() {
+        assertThat(JobPostRepositoryCustomImpl.fullTextPhrase(" 백엔드  개발자 ")).isEqualTo("\"백엔드 개발자\"");
+        assertThat(JobPostRepositoryCustomImpl.fullTextPhrase("+spring -boot*")).isEqualTo("\"spring boot\"");
+        assertThat(JobPostRepositoryCustomImpl.fullTextPhrase("\"react\" @3")).isEqualTo("\"react 3\"");
+    }
+
+    @Test
+    void fallsBackWhenKeywordIsShorterThanNgramToken() {
+        assertThat(JobPostRepositoryCustomImpl.fullTextPhrase("C++")).isNull();
+        assertThat(JobPostRepositoryCustomImpl.fullTextPhrase("자")).isNull();
+        assertThat(JobPostRepositoryCustomImpl.fullTextPhrase("()")).isNull();
+        assertThat(JobPostRepositoryCustomImpl.fullTextPhrase(null)).isNull();
+    }
+}
@@ -0,0 +1,97 @@
+package kr.itsdev.devjobcollector.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClusterLockAspectTest {
+
+    private ScheduledJobLockRepository lockRepository;
+    private SampleJob job;
+
+    @BeforeEach
+    void setUp() {
+        lockRepository = mock(ScheduledJobLockRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleJob());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ClusterLockAspect(lockRepository));
+        job = factory.getProxy();
+    }
+
+    @Test
+    void skipsJobWhenAnotherInstanceHoldsTheLock() {
+        when(lockRepository.tryAcquire(eq("sample"), anyString(), any(), any())).thenReturn(false);
+
+        job.run();
+
+        assertThat(job.executionCount()).isZero();
+        verify(lockRepository, never()).release(anyString(), anyString(), any());
+        verify(lockRepository, never()).recordRun(anyString(), anyString(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void keepsLockForAtLeastMinimumDurationAndRecordsRun() {
+        when(lockRepository.tryAcquire(eq("sample"), anyString(), any(), any())).thenReturn(true);
+
+        job.run();
+
+        assertThat(job.executionCount()).isEqualTo(1);
+        ArgumentCaptor<Instant> acquiredAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> lockUntil = ArgumentCaptor.forClass(Instant.class);
+        verify(lockRepository).tryAcquire(eq("sample"), anyString(), acquiredAt.capture(), lockUntil.capture());
+        assertThat(Duration.between(acquiredAt.getValue(), lockUntil.getValue())).isEqualTo(Duration.ofMinutes(10));
+        ArgumentCaptor<Instant> releasedUntil = ArgumentCaptor.forClass(Instant.class);
+        verify(lockRepository).release(eq("sample"), anyString(), releasedUntil.capture());
+        assertThat(releasedUntil.getValue()).isEqualTo(acquiredAt.getValue().plus(Duration.ofMinutes(1)));
+        verify(lockRepository).recordRun(eq("sample"), anyString(), eq(acquiredAt.getValue()), any(),
+                eq(true), isNull());
+    }
+
+    @Test
+    void recordsFailedRunAndRethrows() {
+        when(lockRepository.tryAcquire(eq("failing"), anyString(), any(), any())).thenReturn(true);
+
+        assertThatThrownBy(job::fail).isInstanceOf(IllegalStateException.class);
+
+        verify(lockRepository).release(eq("failing"), anyString(), any());
+        verify(lockRepository).recordRun(eq("failing"), anyString(), any(), any(),
+                eq(false), eq("IllegalStateException: boom"));
+    }
+
+    static class SampleJob {
+
+        private final AtomicInteger executions = new AtomicInteger();
+
+        // 프록시 인스턴스의 필드가 아니라 대상 객체의 값을 읽도록 메서드로 노출한다.
+        public int executionCount() {
+            return executions.get();
+        }
+
+        @ClusterLocked(name = "sample", lockAtMostFor = "10m", lockAtLeastFor = "1m")
+        public void run() {
+            executions.incrementAndGet();
+        }
+
+        @ClusterLocked(name = "failing", lockAtMostFor = "PT5M")
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package kr.itsdev.devjobcollector.search;
+
+import kr.itsdev.devjobcollector.config.JobPostSearchProperties;
+import kr.itsdev.devjobcollector.domain.JobPostClassification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobPostSearchIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 8, 1);
+
+    @TempDir
+    Path indexPath;
+
+    private JobPostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = open();
+        index.upsert(List.of(
+                document(1L, "백엔드 개발자 (Java/Spring)", "서울 강남구", "경력 3년 이상", List.of("Java", "Spring"),
+                        TODAY.plusDays(10), 1),
+                document(2L, "프론트엔드 개발자", "서울 마포구", "신입", List.of("React"), TODAY.plusDays(5), 2),
+                document(3L, "데이터 엔지니어", "부산", "경력무관", List.of("Python"), TODAY.plusDays(20), 3),
+                document(4L, "백엔드 개발자 (마감)", "서울", "신입", List.of("Java"), TODAY.minusDays(1), 4)));
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void findsHangulSubstringsThroughBigramsAndSkipsExpiredPosts() {
+        JobPostSearchIndex.IdPage page = index.search(
+                criteria("백엔드", null, null, null), PageRequest.of(0, 10)).orElseThrow();
+
+        assertThat(page.jobPostIds()).containsExactly(1L);
+        assertThat(page.total()).isEqualTo(1);
+    }
+
+    @Test
+    void appliesFiltersAndSortWithPaging() {
+        PageRequest byDeadline = PageRequest.of(0, 1, Sort.by(Sort.Order.asc("endDate")));
+
+        JobPostSearchIndex.IdPage first = index.search(criteria(null, "서울", null, null), byDeadline).orElseThrow();
+        JobPostSearchIndex.IdPage second = index.search(criteria(null, "서울", null, null), byDeadline.next()).orElseThrow();
+
+        assertThat(first.jobPostIds()).containsExactly(2L);
+        assertThat(second.jobPostIds()).containsExactly(1L);
+        assertThat(first.total()).isEqualTo(2);
+        assertThat(index.search(criteria(null, null, "경력", null), PageRequest.of(0, 10)).orElseThrow().jobPostIds())
+                .containsExactly(1L);
+        assertThat(index.search(criteria(null, null, null, " java "), PageRequest.of(0, 10)).orElseThrow().jobPostIds())
+                .containsExactly(1L);
+    }
+
+    @Test
+    void filtersKnownRoleRegionAndExperienceByStoredClassification() {
+        index.upsert(List.of(
+                document(5L, "Server Engineer", "경기도 광주시", "신입/경력 무관", List.of("Go"), TODAY.plusDays(3), 5),
+                document(6L, "플랫폼 엔지니어", "광주광역시", "경력", List.of("Go"), TODAY.plusDays(3), 6)));
+        index.refresh();
+        PageRequest page = PageRequest.of(0, 10);
+
+        assertThat(index.search(roleCriteria("backend"), page).orElseThrow().jobPostIds())
+                .containsExactlyInAnyOrder(1L, 5L);
+        assertThat(index.search(criteria(null, "광주", null, null), page).orElseThrow().jobPostIds())
+                .containsExactly(6L);
+        assertThat(index.search(criteria(null, "경기", null, null), page).orElseThrow().jobPostIds())
+                .containsExactly(5L);
+        assertThat(index.search(criteria(null, null, "신입", null), page).orElseThrow().jobPostIds())
+                .containsExactlyInAnyOrder(2L, 5L);
+        assertThat(index.search(criteria(null, null, "경력무관", null), page).orElseThrow().jobPostIds())
+                .containsExactlyInAnyOrder(3L, 5L);
+    }
+
+    @Test
+    void deletesDocumentsAndRestoresCommittedChecksumOnReopen() throws IOException {
+        index.delete(Set.of(1L));
+        index.refresh();
+        assertThat(index.search(criteria("백엔드", null, null, null), PageRequest.of(0, 10)).orElseThrow().total())
+                .isZero();
+
+        index.commit("3:12345");
+        index.close();
+        index = open();
+
+        assertThat(index.committedChecksum()).isEqualTo("3:12345");
+        assertThat(index.search(criteria("엔지니어", null, null, null), PageRequest.of(0, 10)).orElseThrow().jobPostIds())
+                .containsExactly(3L);
+    }
+
+    private JobPostSearchIndex open() {
+        return new JobPostSearchIndex(new JobPostSearchProperties(
+                JobPostSearchProperties.Engine.LUCENE, new JobPostSearchProperties.Lucene(indexPath.toString())));
+    }
+
+    private static JobPostSearchCriteria criteria(String keyword, String location, String experience, String techStack) {
+        return new JobPostSearchCriteria(keyword, location, experience, null, techStack, TODAY);
+    }
+
+    private static JobPostSearchCriteria roleCriteria(String jobCategory) {
+        return new JobPostSearchCriteria(null, null, null, jobCategory, null, TODAY);
+    }
+
+    private static JobPostDocument document(long id, String title, String location, String experience,
+                                            List<String> techStacks, LocalDate endDate, int createdDay) {
+        JobPostClassification classification = JobPostClassification.classify(title, "개발", experience, location);
+        return new JobPostDocument(id, title, "회사" + id, location, experience, "개발", techStacks,
+                classification.roleMask(), classification.experienceLevel(), classification.regionMask(),
+                endDate, LocalDateTime.of(2026, 7, createdDay, 9, 0));
+    }
+}
@@ -0,0 +1,59 @@
+package kr.itsdev.devjobcollector.service;
+
+import kr.itsdev.devjobcollector.config.CacheConfig;
+import kr.itsdev.devjobcollector.config.ReplicaDataSourceProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class JobPostCacheInvalidatorTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.JOB_POST_SEARCH);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+    @Test
+    void evictsAgainAfterReplicaLagWhenReadsGoToReplica() {
+        JobPostCacheInvalidator invalidator = invalidator(true);
+        Cache cache = cacheManager.getCache(CacheConfig.JOB_POST_SEARCH);
+        cache.put("page-0", "fresh");
+        Instant before = Instant.now();
+
+        invalidator.onJobPostsChanged(new JobPostsChangedEvent("GREENHOUSE", Set.of(1L)));
+
+        assertThat(cache.get("page-0")).isNull();
+        ArgumentCaptor<Runnable> secondEviction = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(secondEviction.capture(), at.capture());
+        assertThat(at.getValue()).isAfterOrEqualTo(before.plus(Duration.ofSeconds(5)));
+
+        // 복제 지연 중 복제본에서 읽은 이전 결과가 다시 캐시된 상황
+        cache.put("page-0", "stale");
+        secondEviction.getValue().run();
+
+        assertThat(cache.get("page-0")).isNull();
+    }
+
+    @Test
+    void evictsOnceWithoutReplica() {
+        invalidator(false).onJobPostsChanged(new JobPostsChangedEvent("GREENHOUSE", Set.of(1L)));
+
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private JobPostCacheInvalidator invalidator(boolean replicaEnabled) {
+        return new JobPostCacheInvalidator(cacheManager, taskScheduler,
+                new ReplicaDataSourceProperties(replicaEnabled, null, null, null, 0, null));
+    }
+}
@@ -1,16 +1,40 @@
 package kr.itsdev.devjobcollector.service;
 
+import kr.itsdev.devjobcollector.config.PublicDataCollectionProperties;
+import kr.itsdev.devjobcollector.domain.JobPost;
+import kr.itsdev.devjobcollector.domain.SourcePlatform;
+import kr.itsdev.devjobcollector.dto.PublicDataDetailResponse;
+import kr.itsdev.devjobcollector.dto.PublicDataListResponse;
+import kr.itsdev.devjobcollector.dto.PublicJobDto;
+import kr.itsdev.devjobcollector.repository.JobPostDetailRepository;
 import kr.itsdev.devjobcollector.repository.JobPostRepository;
-import kr.itsdev.devjobcollector.repository.TechStackRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PublicDataCollectorServiceTest {
@@ -19,11 +43,17 @@ class PublicDataCollectorServiceTest {
     private JobPostRepository jobPostRepository;
 
     @Mock
-    private TechStackRepository techStackRepository;
+    private JobPostDetailRepository jobPostDetailRepository;
+
+    @Mock
+    private TechStackDictionary techStackDictionary;
 
     @Mock
     private PublicDataApiClient apiClient;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PublicDataCollectorService service;
 
@@ -36,13 +66,74 @@ class PublicDataCollectorServiceTest {
     void skipsStartupCollectionWhenDisabled() {
         service.initCollect();
 
-        verifyNoInteractions(apiClient, jobPostRepository, techStackRepository);
+        verifyNoInteractions(apiClient, jobPostRepository, techStackDictionary);
     }
 
     @Test
     void skipsScheduledCollectionWhenDisabled() {
         service.scheduleCollect();
 
-        verifyNoInteractions(apiClient, jobPostRepository, techStackRepository);
+        verifyNoInteractions(apiClient, jobPostRepository, techStackDictionary);
+    }
+
+    @Test
+    void pagesThroughTotalCountAndPersistsNewDetailsInBatches() {
+        PublicDataCollectorService pipeline = new PublicDataCollectorService(
+                jobPostRepository, jobPostDetailRepository, techStackDictionary, apiClient, eventPublisher,
+                new PublicDataCollectionProperties(10, 1_000, 4, 2, 2), mock(PlatformTransactionManager.class));
+        when(apiClient.fetchJobList(0, 2)).thenReturn(new PublicDataListResponse(
+                200, "성공", 3, List.of(listItem("1"), listItem("2"))));
+        when(apiClient.fetchJobList(1, 2)).thenReturn(new PublicDataListResponse(
+                200, "성공", 3, List.of(listItem("3"))));
+        when(apiClient.detailUri(anyString()))
+                .thenAnswer(invocation -> URI.create("https://apis.data.go.kr/detail?sn=" + invocation.getArgument(0)));
+        when(apiClient.fetchJobDetail(anyString())).thenAnswer(invocation -> new PublicDataDetailResponse(
+                200, "성공", 1, detail(invocation.getArgument(0))));
+        when(techStackDictionary.resolveAll(anyCollection())).thenReturn(Map.of(
+                "Java", new TechStackDictionary.Entry(1, "Java"),
+                "JAVA", new TechStackDictionary.Entry(1, "Java"),
+                "Spring", new TechStackDictionary.Entry(2, "Spring")));
+        when(jobPostRepository.findExistingOriginalSns(eq(SourcePlatform.PUBLIC_ALIO), anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(1).contains("2")
+                        ? List.of("2") : List.of());
+        ConcurrentLinkedQueue<String> saved = new ConcurrentLinkedQueue<>();
+        when(jobPostRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<JobPost> posts = invocation.getArgument(0);
+            posts.forEach(post -> {
+                saved.add(post.getOriginalSn());
+                ReflectionTestUtils.setField(post, "id", Long.valueOf(post.getOriginalSn()) * 10);
+            });
+            return posts;
+        });
+
+        pipeline.collectAll(2);
+
+        verify(apiClient, never()).fetchJobDetail("2");
+        verify(apiClient, never()).fetchJobList(eq(2), anyInt());
+        assertThat(saved).containsExactlyInAnyOrder("1", "3");
+        verify(jobPostRepository).insertPostTags(Map.of(10L, Set.of(1, 2)));
+        verify(eventPublisher).publishEvent(new JobPostsChangedEvent("PUBLIC_ALIO", Set.of(10L, 30L)));
+    }
+
+    private static PublicJobDto listItem(String sn) {
+        return PublicJobDto.builder()
+                .recrutPblntSn(sn)
+                .instNm("한국테스트공사")
+                .recrutPbancTtl("전산직 채용 " + sn)
+                .srcUrl("https://job.alio.go.kr/recruitview.do?idx=" + sn)
+                .build();
+    }
+
+    private static PublicJobDto detail(String sn) {
+        return PublicJobDto.builder()
+                .recrutPblntSn(sn)
+                .instNm("한국테스트공사")
+                .recrutPbancTtl("전산직 채용 " + sn)
+                .srcUrl("https://job.alio.go.kr/recruitview.do?idx=" + sn)
+                .pbancBgngYmd("20260801")
+                .pbancEndYmd("20260831")
+                .aplyQlfcCn("학력 무관")
+                .ncsCdNmLst("1".equals(sn) ? "Java, JAVA/Spring" : null)
+                .build();
     }
 }
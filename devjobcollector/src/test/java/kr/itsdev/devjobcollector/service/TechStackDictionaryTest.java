@@ -0,0 +1,72 @@
+package kr.itsdev.devjobcollector.service;
+
+import kr.itsdev.devjobcollector.dto.TechStackDto;
+import kr.itsdev.devjobcollector.repository.TechStackRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TechStackDictionaryTest {
+
+    private final TechStackRepository techStackRepository = mock(TechStackRepository.class);
+    private final TechStackDictionary dictionary =
+            new TechStackDictionary(techStackRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    void resolvesWarmedNamesAndAliasesByNormalizedKey() {
+        when(techStackRepository.findAllByNormalizedKey()).thenReturn(Map.of(
+                "java", new TechStackDto(1, "Java"),
+                "자바", new TechStackDto(1, "Java"),
+                "springboot", new TechStackDto(2, "Spring Boot")));
+        dictionary.warmUp();
+
+        assertThat(dictionary.resolveAll(List.of("JAVA", "자바", "spring boot", "SpringBoot")))
+                .containsEntry("JAVA", new TechStackDictionary.Entry(1, "Java"))
+                .containsEntry("자바", new TechStackDictionary.Entry(1, "Java"))
+                .containsEntry("spring boot", new TechStackDictionary.Entry(2, "Spring Boot"))
+                .containsEntry("SpringBoot", new TechStackDictionary.Entry(2, "Spring Boot"));
+        assertThat(dictionary.stackNames()).containsExactlyInAnyOrder("Java", "Spring Boot");
+        verify(techStackRepository, never()).insertIgnoreAndFind(any());
+    }
+
+    @Test
+    void resolvesUnknownNamesWithOneInsertAndCachesThem() {
+        when(techStackRepository.findAllByNormalizedKey()).thenReturn(Map.of("java", new TechStackDto(1, "Java")));
+        when(techStackRepository.insertIgnoreAndFind(Set.of("Spring", "Kotlin"))).thenReturn(Map.of(
+                "spring", new TechStackDto(2, "Spring"),
+                "kotlin", new TechStackDto(3, "Kotlin")));
+        dictionary.warmUp();
+
+        assertThat(dictionary.resolveAll(List.of("Java", "Spring", "Kotlin", "Spring")))
+                .containsOnlyKeys("Java", "Spring", "Kotlin")
+                .containsEntry("Kotlin", new TechStackDictionary.Entry(3, "Kotlin"));
+        assertThat(dictionary.resolveAll(List.of("spring")))
+                .containsEntry("spring", new TechStackDictionary.Entry(2, "Spring"));
+        verify(techStackRepository).insertIgnoreAndFind(Set.of("Spring", "Kotlin"));
+    }
+
+    @Test
+    void findsFilterStacksWithoutCreatingThem() {
+        when(techStackRepository.findByNormalizedKey("react")).thenReturn(Optional.of(new TechStackDto(4, "React")));
+        when(techStackRepository.findByNormalizedKey("없는스택")).thenReturn(Optional.empty());
+
+        assertThat(dictionary.find(" React ")).contains(new TechStackDictionary.Entry(4, "React"));
+        assertThat(dictionary.find("react")).contains(new TechStackDictionary.Entry(4, "React"));
+        assertThat(dictionary.find("없는 스택")).isEmpty();
+        assertThat(dictionary.find(" ")).isEmpty();
+        verify(techStackRepository, times(1)).findByNormalizedKey("react");
+        verify(techStackRepository, never()).insertIgnoreAndFind(any());
+    }
+}